@@ -0,0 +1,85 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.devonfw.tools.solicitor.SolicitorApplication;
+import com.devonfw.tools.solicitor.config.ConfigFactory;
+import com.devonfw.tools.solicitor.model.ModelFactory;
+
+/**
+ * Bootstraps the Spring application context of Solicitor for benchmarks which need fully wired components. The
+ * context is created with the same configuration as in the main application; logging is reduced and the download of
+ * web content is disabled to keep the measurements free of network effects.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+  /**
+   * URL of the project configuration used for setting up rules and writers.
+   */
+  public static final String BENCHMARK_CONFIG_URL = "classpath:com/devonfw/tools/solicitor/benchmarks/benchmark.cfg";
+
+  private static final String[] DEFAULT_ARGS = { "--logging.level.com.devonfw.tools.solicitor=WARN",
+  "--logging.file.name=", "--webcontent.skipdownload=true" };
+
+  private final ConfigurableApplicationContext context;
+
+  /**
+   * Starts the application context.
+   *
+   * @param additionalProperties additional properties (in command line syntax <code>--name=value</code>) which take
+   *        precedence over the default configuration
+   */
+  public BenchmarkContext(String... additionalProperties) {
+
+    List<String> args = new ArrayList<>(Arrays.asList(DEFAULT_ARGS));
+    args.addAll(Arrays.asList(additionalProperties));
+    this.context = new SpringApplicationBuilder(SolicitorApplication.class).logStartupInfo(false)
+        .run(args.toArray(new String[0]));
+  }
+
+  /**
+   * Gets a bean from the application context.
+   *
+   * @param <T> the type of the bean
+   * @param type the type of the bean
+   * @return the bean
+   */
+  public <T> T getBean(Class<T> type) {
+
+    return this.context.getBean(type);
+  }
+
+  /**
+   * Reads the benchmark project configuration (merged with the base configuration). This sets up the rules and writers
+   * as in a standard Solicitor project.
+   */
+  public void readConfig() {
+
+    getBean(ConfigFactory.class).createConfig(BENCHMARK_CONFIG_URL);
+  }
+
+  /**
+   * Creates a generator for synthetic models which uses the {@link ModelFactory} of the context.
+   *
+   * @return the generator
+   */
+  public SyntheticModelGenerator modelGenerator() {
+
+    return new SyntheticModelGenerator(getBean(ModelFactory.class));
+  }
+
+  @Override
+  public void close() {
+
+    this.context.close();
+  }
+
+}
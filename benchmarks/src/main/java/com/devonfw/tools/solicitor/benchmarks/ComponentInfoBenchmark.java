@@ -0,0 +1,111 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.devonfw.tools.solicitor.common.packageurl.AllKindsPackageURLHandler;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoInventoryProcessor;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+
+/**
+ * Benchmarks {@link ComponentInfoInventoryProcessor#processInventory(ModelRoot)} reading the scancode results from a
+ * synthetic file repository. The model references each package 10 times (e.g. from different applications).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ComponentInfoBenchmark {
+
+  private static final int USAGES_PER_PACKAGE = 10;
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  @Param({ "1", "8" })
+  private int parallelism;
+
+  private Path repoBasePath;
+
+  private BenchmarkContext context;
+
+  private ComponentInfoInventoryProcessor processor;
+
+  private ModelRoot modelRoot;
+
+  /**
+   * Creates the scancode file repository and starts the application context with scancode processing activated.
+   *
+   * @throws IOException if the repository could not be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+
+    this.repoBasePath = Files.createTempDirectory("solicitor-benchmark-repo");
+    this.context = new BenchmarkContext("--solicitor.feature-flag.scancode=true",
+        "--solicitor.scancode.repo-base-path=" + this.repoBasePath,
+        "--solicitor.scancode.curations-filename=" + this.repoBasePath.resolve("curations.yaml"),
+        "--solicitor.componentinfo.parallelism=" + this.parallelism);
+    SyntheticModelGenerator.createScancodeRepo(this.repoBasePath, distinctPackages(), 0,
+        this.context.getBean(AllKindsPackageURLHandler.class));
+    this.processor = this.context.getBean(ComponentInfoInventoryProcessor.class);
+  }
+
+  /**
+   * Creates a fresh model as the processor modifies the model.
+   */
+  @Setup(Level.Invocation)
+  public void createModel() {
+
+    this.modelRoot = this.context.modelGenerator().generate(this.components, distinctPackages(), 0, false);
+  }
+
+  /**
+   * Closes the application context and deletes the repository.
+   *
+   * @throws IOException if the repository could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+
+    this.context.close();
+    FileSystemUtils.deleteRecursively(this.repoBasePath);
+  }
+
+  /**
+   * Looks up the component info for all components and merges it into the model.
+   */
+  @Benchmark
+  public void processInventory() {
+
+    this.processor.processInventory(this.modelRoot);
+  }
+
+  private int distinctPackages() {
+
+    return Math.max(1, this.components / USAGES_PER_PACKAGE);
+  }
+
+}
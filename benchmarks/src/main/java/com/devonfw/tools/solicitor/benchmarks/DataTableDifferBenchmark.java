@@ -0,0 +1,78 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.writer.ResultDatabaseFactory;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+import com.devonfw.tools.solicitor.writer.data.DataTableDiffer;
+import com.devonfw.tools.solicitor.writer.data.DataTableDifferImpl;
+
+/**
+ * Benchmarks {@link DataTableDifferImpl#diff(DataTable, DataTable, boolean)} on the license tables of a current and an
+ * old model. The models differ in the version of every 10th and the license of every 50th package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DataTableDifferBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  private DataTableDiffer differ;
+
+  private DataTable newTable;
+
+  private DataTable oldTable;
+
+  /**
+   * Creates both models and queries the tables to compare from the reporting database.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+
+    try (BenchmarkContext context = new BenchmarkContext()) {
+      SyntheticModelGenerator generator = context.modelGenerator();
+      ResultDatabaseFactory resultDatabaseFactory = context.getBean(ResultDatabaseFactory.class);
+      resultDatabaseFactory.initDataModel(generator.generate(this.components, this.components, 1, true));
+      resultDatabaseFactory.initOldDataModel(generator.generate(this.components, this.components, 0, true));
+      this.newTable = resultDatabaseFactory.getDataTable(ResultDatabaseBenchmark.LICENSES_SQL,
+          ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+      this.oldTable = resultDatabaseFactory.getOldDataTable(ResultDatabaseBenchmark.LICENSES_SQL,
+          ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+      this.differ = context.getBean(DataTableDiffer.class);
+    }
+  }
+
+  /**
+   * Calculates the diff including deleted rows (as done for the XLS report).
+   *
+   * @return the diff
+   */
+  @Benchmark
+  public DataTable diff() {
+
+    return this.differ.diff(this.newTable, this.oldTable, true);
+  }
+
+}
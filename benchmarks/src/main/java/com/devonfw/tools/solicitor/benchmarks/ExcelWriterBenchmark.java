@@ -0,0 +1,105 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.solicitor.SolicitorSetup;
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.config.WriterConfig;
+import com.devonfw.tools.solicitor.writer.ResultDatabaseFactory;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+import com.devonfw.tools.solicitor.writer.xls.ExcelWriter;
+
+/**
+ * Benchmarks {@link ExcelWriter#writeReport(WriterConfig, String, Map)} with the XLS writer configuration and the
+ * sample template of the base configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExcelWriterBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  private BenchmarkContext context;
+
+  private ExcelWriter excelWriter;
+
+  private WriterConfig writerConfig;
+
+  private Map<String, DataTable> dataTables;
+
+  private File target;
+
+  /**
+   * Starts the application context, creates the model and queries all data tables of the first XLS writer.
+   *
+   * @throws IOException if the temporary target file could not be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+
+    this.context = new BenchmarkContext();
+    this.context.readConfig();
+    this.excelWriter = this.context.getBean(ExcelWriter.class);
+    this.writerConfig = this.context.getBean(SolicitorSetup.class).getWriterSetups().stream()
+        .filter(wc -> this.excelWriter.accept(wc.getType())).findFirst()
+        .orElseThrow(() -> new IllegalStateException("No XLS writer configured"));
+
+    ResultDatabaseFactory resultDatabaseFactory = this.context.getBean(ResultDatabaseFactory.class);
+    resultDatabaseFactory.initDataModel(this.context.modelGenerator().generate(this.components, this.components, 0, true));
+    this.dataTables = new HashMap<>();
+    for (Map.Entry<String, String> table : this.writerConfig.getDataTables().entrySet()) {
+      this.dataTables.put(table.getKey(),
+          resultDatabaseFactory.getDataTable(table.getValue(), ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME));
+    }
+    this.target = File.createTempFile("solicitor-benchmark", ".xlsx");
+  }
+
+  /**
+   * Deletes the report and closes the application context.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    if (!this.target.delete()) {
+      throw new UncheckedIOException(new IOException("Could not delete " + this.target));
+    }
+    this.context.close();
+  }
+
+  /**
+   * Writes the XLS report.
+   */
+  @Benchmark
+  public void writeReport() {
+
+    this.excelWriter.writeReport(this.writerConfig, this.target.getPath(), this.dataTables);
+  }
+
+}
@@ -0,0 +1,109 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.devonfw.tools.solicitor.model.ModelImporterExporter;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+
+/**
+ * Benchmarks {@link ModelImporterExporter#saveModel(ModelRoot, String)} and
+ * {@link ModelImporterExporter#loadModel(String)} for the different snapshot formats. The format is given by the
+ * filename extension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ModelSnapshotBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  @Param({ "json", "json.gz", "smile", "smile.gz" })
+  private String format;
+
+  private Path directory;
+
+  private BenchmarkContext context;
+
+  private ModelImporterExporter modelImporterExporter;
+
+  private ModelRoot modelRoot;
+
+  private String loadFilename;
+
+  private String saveFilename;
+
+  /**
+   * Creates the model and saves it to the file to be loaded.
+   *
+   * @throws IOException if the temporary directory could not be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+
+    this.directory = Files.createTempDirectory("solicitor-benchmark-snapshot");
+    this.context = new BenchmarkContext();
+    this.modelImporterExporter = this.context.getBean(ModelImporterExporter.class);
+    this.modelRoot = this.context.modelGenerator().generate(this.components, this.components, 0, true);
+    this.loadFilename = this.directory.resolve("load." + this.format).toString();
+    this.saveFilename = this.directory.resolve("save." + this.format).toString();
+    this.modelImporterExporter.saveModel(this.modelRoot, this.loadFilename);
+  }
+
+  /**
+   * Closes the application context and deletes the snapshot files.
+   *
+   * @throws IOException if the files could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+
+    this.context.close();
+    FileSystemUtils.deleteRecursively(this.directory);
+  }
+
+  /**
+   * Saves the model.
+   */
+  @Benchmark
+  public void saveModel() {
+
+    this.modelImporterExporter.saveModel(this.modelRoot, this.saveFilename);
+  }
+
+  /**
+   * Loads the model.
+   *
+   * @return the loaded model
+   */
+  @Benchmark
+  public ModelRoot loadModel() {
+
+    return this.modelImporterExporter.loadModel(this.loadFilename);
+  }
+
+}
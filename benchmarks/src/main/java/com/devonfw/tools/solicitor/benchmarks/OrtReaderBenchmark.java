@@ -0,0 +1,103 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.devonfw.tools.solicitor.model.ModelFactory;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.devonfw.tools.solicitor.reader.ort.OrtReader;
+
+/**
+ * Benchmarks {@link OrtReader#readInventory(String, String, Application, UsagePattern, boolean, String, java.util.Map)}
+ * on large synthetic ORT analyzer results in JSON and YAML format (see
+ * {@link SyntheticModelGenerator#createOrtAnalyzerResult(Path, int)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OrtReaderBenchmark {
+
+  @Param({ "10000", "100000", "500000" })
+  private int packages;
+
+  @Param({ "json", "yml" })
+  private String format;
+
+  private Path directory;
+
+  private BenchmarkContext context;
+
+  private OrtReader reader;
+
+  private ModelFactory modelFactory;
+
+  private String sourceUrl;
+
+  /**
+   * Creates the analyzer result file.
+   *
+   * @throws IOException if the temporary directory could not be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+
+    this.directory = Files.createTempDirectory("solicitor-benchmark-ort");
+    Path file = this.directory.resolve("analyzer-result." + this.format);
+    SyntheticModelGenerator.createOrtAnalyzerResult(file, this.packages);
+    this.sourceUrl = "file:" + file;
+    this.context = new BenchmarkContext();
+    this.reader = this.context.getBean(OrtReader.class);
+    this.modelFactory = this.context.getBean(ModelFactory.class);
+  }
+
+  /**
+   * Closes the application context and deletes the analyzer result.
+   *
+   * @throws IOException if the file could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+
+    this.context.close();
+    FileSystemUtils.deleteRecursively(this.directory);
+  }
+
+  /**
+   * Reads the analyzer result into a new application.
+   *
+   * @return the application
+   */
+  @Benchmark
+  public Application readInventory() {
+
+    Application application = this.modelFactory.newApplication();
+    this.reader.readInventory(OrtReader.SUPPORTED_TYPE, this.sourceUrl, application, UsagePattern.DYNAMIC_LINKING,
+        false, null, null);
+    return application;
+  }
+
+}
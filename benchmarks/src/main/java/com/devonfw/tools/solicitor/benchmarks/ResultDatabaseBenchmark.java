@@ -0,0 +1,125 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.writer.ResultDatabaseFactory;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+
+/**
+ * Benchmarks loading the model into the reporting database ({@link ResultDatabaseFactory#initDataModel(ModelRoot)})
+ * and executing each of the bundled reporting SQL statements
+ * ({@link ResultDatabaseFactory#getDataTable(String, String)}), with and without the indexes on the fields declared via
+ * {@link com.devonfw.tools.solicitor.model.impl.AbstractModelObject#getIndexedHeadElements()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultDatabaseBenchmark {
+
+  /**
+   * Location of the bundled SQL statements.
+   */
+  static final String SQL_BASE = "classpath:com/devonfw/tools/solicitor/sql/";
+
+  /**
+   * The SQL statement of the main sheet of the XLS report (one row per license of each application component).
+   */
+  static final String LICENSES_SQL = SQL_BASE + "allden_normalizedlicenses.sql";
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  @Param({ "true", "false" })
+  private boolean indexes;
+
+  private BenchmarkContext context;
+
+  private ResultDatabaseFactory resultDatabaseFactory;
+
+  private ModelRoot modelRoot;
+
+  /**
+   * The SQL statement to execute. Kept in a separate state so that the load benchmark is not repeated for each
+   * statement.
+   */
+  @State(Scope.Benchmark)
+  public static class SqlStatement {
+
+    @Param({ "allden_applicationcomponents.sql", "allden_applications.sql", "allden_engagements.sql",
+    "allden_normalizedlicenses.sql", "applicationcomponents_with_noncommerciallicenses.sql",
+    "applicationcomponents_with_noncommerciallicenses_with_licenses.sql", "modelroot.sql",
+    "multiple_effective_licenses.sql", "normalizedlicenses_aggregated_applications.sql", "noticefiles.sql",
+    "ossapplicationcomponents.sql", "ossden_normalizedlicenses.sql", "scancode_sources.sql",
+    "sources_tobeincluded.sql", "statistics.sql", "uniquelicenses.sql",
+    "uniquelicenses_with_application_components.sql" })
+    private String sql;
+  }
+
+  /**
+   * Starts the application context, creates the model and loads it into the database (needed for the query
+   * benchmarks).
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+
+    this.context = new BenchmarkContext();
+    this.resultDatabaseFactory = this.context.getBean(ResultDatabaseFactory.class);
+    this.resultDatabaseFactory.setCreateIndexes(this.indexes);
+    this.modelRoot = this.context.modelGenerator().generate(this.components, this.components, 0, true);
+    this.resultDatabaseFactory.initDataModel(this.modelRoot);
+  }
+
+  /**
+   * Closes the application context.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    this.context.close();
+  }
+
+  /**
+   * Loads the complete model into the reporting database.
+   */
+  @Benchmark
+  public void initDataModel() {
+
+    this.resultDatabaseFactory.initDataModel(this.modelRoot);
+  }
+
+  /**
+   * Executes the given bundled SQL statement.
+   *
+   * @param statement the statement to execute
+   * @return the result
+   */
+  @Benchmark
+  public DataTable getDataTable(SqlStatement statement) {
+
+    return this.resultDatabaseFactory.getDataTable(SQL_BASE + statement.sql,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+  }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.ruleengine.drools.DroolsRuleEngine;
+
+/**
+ * Benchmarks {@link DroolsRuleEngine#processInventory(ModelRoot)} with the sample decision tables of the base
+ * configuration. Each invocation works on a fresh model which only contains the raw licenses (as created by the
+ * readers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RuleEngineBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  private int components;
+
+  private BenchmarkContext context;
+
+  private DroolsRuleEngine ruleEngine;
+
+  private ModelRoot modelRoot;
+
+  /**
+   * Starts the application context and reads the configuration which defines the rules.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+
+    this.context = new BenchmarkContext();
+    this.context.readConfig();
+    this.ruleEngine = this.context.getBean(DroolsRuleEngine.class);
+  }
+
+  /**
+   * Creates a fresh model as the rule engine modifies the model.
+   */
+  @Setup(Level.Invocation)
+  public void createModel() {
+
+    this.modelRoot = this.context.modelGenerator().generate(this.components, this.components, 0, false);
+  }
+
+  /**
+   * Closes the application context.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    this.context.close();
+  }
+
+  /**
+   * Executes all rules on the model.
+   */
+  @Benchmark
+  public void processInventory() {
+
+    this.ruleEngine.processInventory(this.modelRoot);
+  }
+
+}
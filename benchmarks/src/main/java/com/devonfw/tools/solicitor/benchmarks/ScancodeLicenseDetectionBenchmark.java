@@ -0,0 +1,100 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.devonfw.tools.solicitor.common.packageurl.AllKindsPackageURLHandler;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.SelectorCurationDataHandle;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.devonfw.tools.solicitor.componentinfo.scancode.FilteredScancodeV32ComponentInfoProvider;
+import com.devonfw.tools.solicitor.componentinfo.scancode.MultiversionFilteredScancodeComponentInfoProvider;
+import com.github.packageurl.PackageURL;
+
+/**
+ * Benchmarks the processing of the license detections in {@link FilteredScancodeV32ComponentInfoProvider} for a single
+ * package whose scancode result contains a very large number of license matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScancodeLicenseDetectionBenchmark {
+
+  @Param({ "100000", "250000" })
+  private int matches;
+
+  private Path repoBasePath;
+
+  private BenchmarkContext context;
+
+  private MultiversionFilteredScancodeComponentInfoProvider provider;
+
+  private PackageURL packageUrl;
+
+  /**
+   * Creates the scancode result and starts the application context with scancode processing activated.
+   *
+   * @throws IOException if the repository could not be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+
+    this.repoBasePath = Files.createTempDirectory("solicitor-benchmark-repo");
+    this.context = new BenchmarkContext("--solicitor.feature-flag.scancode=true",
+        "--solicitor.scancode.repo-base-path=" + this.repoBasePath,
+        "--solicitor.scancode.curations-filename=" + this.repoBasePath.resolve("curations.yaml"));
+    this.packageUrl = SyntheticModelGenerator.createScancodePackageWithManyMatches(this.repoBasePath, this.matches,
+        this.context.getBean(AllKindsPackageURLHandler.class));
+    this.provider = this.context.getBean(MultiversionFilteredScancodeComponentInfoProvider.class);
+  }
+
+  /**
+   * Closes the application context and deletes the repository.
+   *
+   * @throws IOException if the repository could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+
+    this.context.close();
+    FileSystemUtils.deleteRecursively(this.repoBasePath);
+  }
+
+  /**
+   * Reads and filters the scancode result of the package.
+   *
+   * @return the component info (returned to avoid dead code elimination)
+   * @throws ComponentInfoAdapterException if the scancode result could not be processed
+   * @throws CurationInvalidException if the curations are invalid
+   */
+  @Benchmark
+  public ComponentInfo getComponentInfo() throws ComponentInfoAdapterException, CurationInvalidException {
+
+    return this.provider.getComponentInfo(this.packageUrl, new SelectorCurationDataHandle(null));
+  }
+
+}
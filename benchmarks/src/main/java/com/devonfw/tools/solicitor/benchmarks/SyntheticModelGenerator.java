@@ -0,0 +1,458 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.common.packageurl.PackageURLHandler;
+import com.devonfw.tools.solicitor.model.ModelFactory;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.inventory.RawLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+
+/**
+ * Creates synthetic but realistically shaped models for the benchmarks. The models are fully determined by the given
+ * parameters, so that different runs (and different benchmarks) work on identical data.
+ * <p>
+ * Components are distributed over applications with {@value #COMPONENTS_PER_APPLICATION} components each. The
+ * component at position <code>i</code> refers to package number <code>i % distinctPackages</code>; choosing less
+ * distinct packages than components gives models where the same package is used multiple times (as it is typical for
+ * engagements with many similar applications).
+ */
+public class SyntheticModelGenerator {
+
+  /**
+   * The number of components per application.
+   */
+  public static final int COMPONENTS_PER_APPLICATION = 1000;
+
+  /**
+   * Declared licenses (name and URL) as typically found in maven / npm metadata. These are (mostly) handled by the
+   * sample decision tables.
+   */
+  private static final String[][] DECLARED_LICENSES = {
+  { "Apache License, Version 2.0", "https://www.apache.org/licenses/LICENSE-2.0.txt" },
+  { "MIT License", "https://opensource.org/licenses/MIT" },
+  { "The Apache Software License, Version 2.0", "http://www.apache.org/licenses/LICENSE-2.0.txt" },
+  { "BSD-3-Clause", "https://opensource.org/licenses/BSD-3-Clause" },
+  { "Eclipse Public License - v 2.0", "https://www.eclipse.org/legal/epl-2.0/" },
+  { "GNU Lesser General Public License", "http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html" },
+  { "CDDL + GPLv2 with classpath exception", "https://github.com/javaee/javax.annotation/blob/master/LICENSE" },
+  { "Some unknown License", null } };
+
+  /**
+   * The normalized licenses (SPDX id) corresponding to {@link #DECLARED_LICENSES}.
+   */
+  private static final String[] NORMALIZED_LICENSES = { "Apache-2.0", "MIT", "Apache-2.0", "BSD-3-Clause", "EPL-2.0",
+  "LGPL-2.1-only", "CDDL-1.1", "Unknown" };
+
+  private static final String SCANCODE_TEMPLATE = "scancode_template.json";
+
+  /**
+   * The source files referenced in the scancode result template (relative to the package directory).
+   */
+  private static final String[] SOURCE_FILES = { "sources/NOTICE.txt",
+  "sources/src/main/java/com/devonfw/tools/test/SampleClass1.java",
+  "sources/src/main/java/com/devonfw/tools/test/SampleClass2.java" };
+
+  /**
+   * The number of license matches per file in {@link #createScancodePackageWithManyMatches(Path, int, PackageURLHandler)}.
+   */
+  private static final int MATCHES_PER_FILE = 20;
+
+  /**
+   * The number of lines of each source file in {@link #createScancodePackageWithManyMatches(Path, int, PackageURLHandler)}.
+   */
+  private static final int LINES_PER_SOURCE_FILE = 2 * MATCHES_PER_FILE + 10;
+
+  private final ModelFactory modelFactory;
+
+  /**
+   * The constructor.
+   *
+   * @param modelFactory the factory to create the model objects
+   */
+  public SyntheticModelGenerator(ModelFactory modelFactory) {
+
+    this.modelFactory = modelFactory;
+  }
+
+  /**
+   * Creates a model with the given number of components.
+   *
+   * @param components the total number of {@link ApplicationComponent}s
+   * @param distinctPackages the number of distinct packages (PackageURLs) used by the components
+   * @param generation the generation of the model; models of different generations differ in the version of every
+   *        10th package and in the license of every 50th package which allows creating realistic "old" models for
+   *        calculating diffs
+   * @param withNormalizedLicenses if <code>true</code> then {@link NormalizedLicense}s are created as they would have
+   *        been created by the rule engine; if <code>false</code> only the {@link RawLicense}s (as created by the
+   *        readers) will be contained in the model
+   * @return the root of the created model
+   */
+  public ModelRoot generate(int components, int distinctPackages, int generation, boolean withNormalizedLicenses) {
+
+    ModelRoot modelRoot = this.modelFactory.newModelRoot();
+    Engagement engagement = this.modelFactory.newEngagement();
+    engagement.setModelRoot(modelRoot);
+    engagement.setEngagementName("Benchmark");
+    engagement.setEngagementType(EngagementType.INTERN);
+    engagement.setClientName("none");
+    engagement.setGoToMarketModel(GoToMarketModel.LICENSE);
+    engagement.setContractAllowsOss(true);
+    engagement.setOssPolicyFollowed(true);
+
+    Application application = null;
+    for (int i = 0; i < components; i++) {
+      if (i % COMPONENTS_PER_APPLICATION == 0) {
+        application = newApplication(engagement, i / COMPONENTS_PER_APPLICATION);
+      }
+      int pkg = i % distinctPackages;
+      ApplicationComponent ac = this.modelFactory.newApplicationComponent();
+      ac.setApplication(application);
+      ac.setGroupId(groupIdFor(pkg));
+      ac.setArtifactId(artifactIdFor(pkg));
+      ac.setVersion(versionFor(pkg, generation));
+      ac.setUsagePattern(pkg % 20 == 0 ? UsagePattern.STATIC_LINKING : UsagePattern.DYNAMIC_LINKING);
+      ac.setRepoType("maven");
+      ac.setOssHomepage("https://example.org/" + artifactIdFor(pkg));
+      ac.setPackageUrl(packageUrlFor(pkg, generation));
+
+      int licenseCount = pkg % 7 == 0 ? 2 : 1;
+      for (int l = 0; l < licenseCount; l++) {
+        int license = (pkg + l + (pkg % 50 == 0 ? generation : 0)) % DECLARED_LICENSES.length;
+        RawLicense rawLicense = this.modelFactory.newRawLicense();
+        rawLicense.setApplicationComponent(ac);
+        rawLicense.setDeclaredLicense(DECLARED_LICENSES[license][0]);
+        rawLicense.setLicenseUrl(DECLARED_LICENSES[license][1]);
+        rawLicense.setTrace("+ Component/License info read in 'maven' format from 'synthetic'");
+        rawLicense.setOrigin("maven");
+        if (withNormalizedLicenses) {
+          addNormalizedLicense(rawLicense, license);
+        }
+      }
+    }
+    return modelRoot;
+  }
+
+  /**
+   * Creates a synthetic scancode file repository for the packages which are referenced by models created with
+   * {@link #generate(int, int, int, boolean)}. For each package a (copy of a real) scancode result and the source
+   * files referenced in this result are stored.
+   *
+   * @param repoBasePath the base path of the repository
+   * @param distinctPackages the number of distinct packages
+   * @param generation the generation of the model (see {@link #generate(int, int, int, boolean)})
+   * @param packageURLHandler the handler which determines the path of the package data within the repository
+   */
+  public static void createScancodeRepo(Path repoBasePath, int distinctPackages, int generation,
+      PackageURLHandler packageURLHandler) {
+
+    byte[] scancodeJson = readResource(SCANCODE_TEMPLATE);
+    byte[][] sourceFiles = new byte[SOURCE_FILES.length][];
+    for (int i = 0; i < SOURCE_FILES.length; i++) {
+      sourceFiles[i] = readResource(SOURCE_FILES[i]);
+    }
+    try {
+      for (int pkg = 0; pkg < distinctPackages; pkg++) {
+        Path packageDir = repoBasePath.resolve(packageURLHandler.pathFor(packageUrlFor(pkg, generation)));
+        Files.createDirectories(packageDir);
+        Files.write(packageDir.resolve("scancode.json"), scancodeJson);
+        for (int i = 0; i < SOURCE_FILES.length; i++) {
+          Path sourceFile = packageDir.resolve(SOURCE_FILES[i]);
+          Files.createDirectories(sourceFile.getParent());
+          Files.write(sourceFile, sourceFiles[i]);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates a single package within a synthetic scancode file repository whose scancode result contains the given
+   * number of license matches. The matches are distributed over source files with {@value #MATCHES_PER_FILE} matches
+   * each. Some of the matches are reported as coming from another file and every tenth file contains a GPL license with
+   * Classpath-exception-2.0, so that all branches of the license detection processing are covered.
+   *
+   * @param repoBasePath the base path of the repository
+   * @param numberOfMatches the total number of license matches
+   * @param packageURLHandler the handler which determines the path of the package data within the repository
+   * @return the package URL of the created package
+   */
+  public static PackageURL createScancodePackageWithManyMatches(Path repoBasePath, int numberOfMatches,
+      PackageURLHandler packageURLHandler) {
+
+    PackageURL packageUrl = packageUrlFor(0, 0);
+    ObjectMapper mapper = new ObjectMapper();
+    try {
+      Path packageDir = repoBasePath.resolve(packageURLHandler.pathFor(packageUrl));
+      Files.createDirectories(packageDir);
+      ObjectNode scancodeJson = (ObjectNode) mapper.readTree(readResource(SCANCODE_TEMPLATE));
+      ArrayNode files = scancodeJson.putArray("files");
+      StringBuilder content = new StringBuilder();
+      for (int line = 1; line <= LINES_PER_SOURCE_FILE; line++) {
+        content.append("// line ").append(line).append(" of some synthetic source file\n");
+      }
+      byte[] sourceFile = content.toString().getBytes(StandardCharsets.UTF_8);
+      int numberOfFiles = (numberOfMatches + MATCHES_PER_FILE - 1) / MATCHES_PER_FILE;
+      for (int i = 0; i < numberOfFiles; i++) {
+        String path = "sources/src/main/java/org/synthetic/Class" + i + ".java";
+        Path file = packageDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, sourceFile);
+        files.add(scancodeFileEntry(mapper, path, i));
+      }
+      mapper.writeValue(packageDir.resolve("scancode.json").toFile(), scancodeJson);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return packageUrl;
+  }
+
+  /**
+   * Creates a synthetic ORT analyzer result containing the given number of packages. Besides the packages the result
+   * contains a dependency graph referencing all packages as well as the typical metadata of each package (artifacts
+   * with hashes, processed licenses, descriptions), which make up a large part of real analyzer results. The file is
+   * written in a streaming way so that huge results can be created.
+   *
+   * @param file the file to create; the file is written in YAML format if its name ends with <code>.yml</code>,
+   *        otherwise in JSON format
+   * @param packages the number of packages
+   */
+  public static void createOrtAnalyzerResult(Path file, int packages) {
+
+    JsonFactory factory = file.toString().endsWith(".yml") ? new YAMLFactory() : new JsonFactory();
+    try (JsonGenerator gen = factory.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+      gen.writeStartObject();
+      gen.writeObjectFieldStart("repository");
+      gen.writeObjectFieldStart("vcs_processed");
+      gen.writeStringField("type", "Git");
+      gen.writeStringField("url", "https://example.org/monorepo.git");
+      gen.writeEndObject();
+      gen.writeObjectFieldStart("config");
+      gen.writeEndObject();
+      gen.writeEndObject();
+      gen.writeObjectFieldStart("analyzer");
+      gen.writeStringField("start_time", "2024-01-01T00:00:00Z");
+      gen.writeObjectFieldStart("result");
+      gen.writeArrayFieldStart("projects");
+      gen.writeStartObject();
+      gen.writeStringField("id", "Maven:org.synthetic:monorepo:1.0.0");
+      gen.writeArrayFieldStart("scope_names");
+      gen.writeString("compile");
+      gen.writeEndArray();
+      gen.writeEndObject();
+      gen.writeEndArray();
+      gen.writeArrayFieldStart("packages");
+      for (int pkg = 0; pkg < packages; pkg++) {
+        String id = "Maven:" + groupIdFor(pkg) + ":" + artifactIdFor(pkg) + ":" + versionFor(pkg, 0);
+        String artifactUrl = "https://repo.maven.apache.org/maven2/" + groupIdFor(pkg).replace('.', '/') + "/"
+            + artifactIdFor(pkg) + "/" + versionFor(pkg, 0) + "/" + artifactIdFor(pkg) + "-" + versionFor(pkg, 0);
+        gen.writeStartObject();
+        gen.writeObjectFieldStart("package");
+        gen.writeStringField("id", id);
+        gen.writeStringField("purl", packageUrlFor(pkg, 0).toString());
+        gen.writeArrayFieldStart("authors");
+        gen.writeString("Synthetic Author " + (pkg % 50));
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("declared_licenses");
+        gen.writeString(DECLARED_LICENSES[pkg % DECLARED_LICENSES.length][0]);
+        gen.writeEndArray();
+        gen.writeObjectFieldStart("declared_licenses_processed");
+        gen.writeStringField("spdx_expression", NORMALIZED_LICENSES[pkg % NORMALIZED_LICENSES.length]);
+        gen.writeEndObject();
+        gen.writeStringField("description", "Synthetic package number " + pkg
+            + " which is used for benchmarking the reading of ORT analyzer results.");
+        gen.writeStringField("homepage_url", "https://example.org/" + artifactIdFor(pkg));
+        writeOrtArtifact(gen, "binary_artifact", artifactUrl + ".jar", pkg);
+        writeOrtArtifact(gen, "source_artifact", artifactUrl + "-sources.jar", pkg);
+        gen.writeObjectFieldStart("vcs_processed");
+        gen.writeStringField("type", "Git");
+        gen.writeStringField("url", "https://github.com/synthetic/" + artifactIdFor(pkg) + ".git");
+        gen.writeStringField("revision", "v" + versionFor(pkg, 0));
+        gen.writeStringField("path", "");
+        gen.writeEndObject();
+        gen.writeEndObject();
+        gen.writeArrayFieldStart("curations");
+        gen.writeEndArray();
+        gen.writeEndObject();
+      }
+      gen.writeEndArray();
+      gen.writeObjectFieldStart("dependency_graphs");
+      gen.writeObjectFieldStart("Maven");
+      gen.writeArrayFieldStart("packages");
+      for (int pkg = 0; pkg < packages; pkg++) {
+        gen.writeString("Maven:" + groupIdFor(pkg) + ":" + artifactIdFor(pkg) + ":" + versionFor(pkg, 0));
+      }
+      gen.writeEndArray();
+      gen.writeArrayFieldStart("nodes");
+      for (int pkg = 0; pkg < packages; pkg++) {
+        gen.writeStartObject();
+        gen.writeNumberField("pkg", pkg);
+        gen.writeEndObject();
+      }
+      gen.writeEndArray();
+      gen.writeArrayFieldStart("edges");
+      for (int pkg = 1; pkg < packages; pkg++) {
+        gen.writeStartObject();
+        gen.writeNumberField("from", pkg / 2);
+        gen.writeNumberField("to", pkg);
+        gen.writeEndObject();
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+      gen.writeEndObject();
+      gen.writeBooleanField("has_issues", false);
+      gen.writeEndObject();
+      gen.writeEndObject();
+      gen.writeNullField("scanner");
+      gen.writeNullField("advisor");
+      gen.writeNullField("evaluator");
+      gen.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeOrtArtifact(JsonGenerator gen, String fieldName, String url, int pkg) throws IOException {
+
+    gen.writeObjectFieldStart(fieldName);
+    gen.writeStringField("url", url);
+    gen.writeObjectFieldStart("hash");
+    gen.writeStringField("value", String.format("%040x", (long) url.hashCode() * 31 + pkg));
+    gen.writeStringField("algorithm", "SHA-1");
+    gen.writeEndObject();
+    gen.writeEndObject();
+  }
+
+  private static ObjectNode scancodeFileEntry(ObjectMapper mapper, String path, int fileNumber) {
+
+    ObjectNode file = mapper.createObjectNode();
+    file.put("path", path);
+    file.put("type", "file");
+    file.put("percentage_of_license_text", 5.0);
+    file.putArray("copyrights").addObject().put("copyright", "Copyright (c) " + (2000 + fileNumber % 25) + " Synthetic")
+        .put("start_line", 1).put("end_line", 1);
+    ArrayNode licenseDetections = file.putArray("license_detections");
+    ArrayNode matches = null;
+    for (int j = 0; j < MATCHES_PER_FILE; j++) {
+      if (j % 10 == 0) {
+        matches = licenseDetections.addObject().putArray("matches");
+      }
+      String expression;
+      if (fileNumber % 10 == 0 && j < 2) {
+        expression = j == 0 ? "GPL-2.0-only" : "Classpath-exception-2.0";
+      } else {
+        expression = switch (j % 4) {
+          case 0 -> "Apache-2.0";
+          case 1 -> "MIT";
+          case 2 -> "Apache-2.0 OR MIT";
+          default -> "BSD-3-Clause";
+        };
+      }
+      // every fifth match is reported for another (referenced) file
+      String fromFile = j % 5 == 4 ? "sources/NOTICE.txt" : path;
+      ObjectNode match = matches.addObject();
+      match.put("spdx_license_expression", expression);
+      match.put("from_file", fromFile);
+      match.put("start_line", 2 * j + 1);
+      match.put("end_line", 2 * j + 2);
+      match.put("score", 100.0);
+      match.put("matched_text", "Licensed under " + expression);
+    }
+    return file;
+  }
+
+  private Application newApplication(Engagement engagement, int number) {
+
+    Application application = this.modelFactory.newApplication();
+    application.setName("Application " + number);
+    application.setReleaseId("1.0." + number);
+    application.setReleaseDate("-UNDEFINED-");
+    application.setSourceRepo("https://example.org/application" + number + ".git");
+    application.setProgrammingEcosystem("Java8");
+    application.setReportingGroups(ReportingGroupHandler.DEFAULT_REPORTING_GROUP_LIST);
+    application.setEngagement(engagement);
+    return application;
+  }
+
+  private void addNormalizedLicense(RawLicense rawLicense, int license) {
+
+    NormalizedLicense normalizedLicense = this.modelFactory.newNormalizedLicense(rawLicense);
+    String spdxId = NORMALIZED_LICENSES[license];
+    String type = "Unknown".equals(spdxId) ? "UNKNOWN" : "OSS-SPDX";
+    normalizedLicense.setNormalizedLicenseType(type);
+    normalizedLicense.setNormalizedLicense(spdxId);
+    normalizedLicense.setNormalizedLicenseUrl("https://spdx.org/licenses/" + spdxId + ".html");
+    normalizedLicense.setEffectiveNormalizedLicenseType(type);
+    normalizedLicense.setEffectiveNormalizedLicense(spdxId);
+    normalizedLicense.setEffectiveNormalizedLicenseUrl("https://spdx.org/licenses/" + spdxId + ".html");
+    normalizedLicense.setLegalPreApproved("Yes");
+    normalizedLicense.setCopyLeft("none");
+    normalizedLicense.setLicenseCompliance("OK");
+    normalizedLicense.setLegalApproved("Yes");
+    normalizedLicense.setIncludeLicense("yes");
+    normalizedLicense.setIncludeSource("no");
+    normalizedLicense.setReviewedForRelease("no");
+  }
+
+  private static String groupIdFor(int pkg) {
+
+    return "org.synthetic.group" + (pkg % 100);
+  }
+
+  private static String artifactIdFor(int pkg) {
+
+    return "artifact" + pkg;
+  }
+
+  private static String versionFor(int pkg, int generation) {
+
+    return "1." + (pkg % 10 == 0 ? generation : 0) + "." + (pkg % 13);
+  }
+
+  private static PackageURL packageUrlFor(int pkg, int generation) {
+
+    try {
+      return new PackageURL("maven", groupIdFor(pkg), artifactIdFor(pkg), versionFor(pkg, generation), null, null);
+    } catch (MalformedPackageURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] readResource(String name) {
+
+    try (InputStream is = SyntheticModelGenerator.class.getResourceAsStream(name)) {
+      if (is == null) {
+        throw new IllegalStateException("Resource '" + name + "' not found");
+      }
+      return is.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
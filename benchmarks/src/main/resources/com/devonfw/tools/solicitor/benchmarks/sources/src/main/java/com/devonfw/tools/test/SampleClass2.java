@@ -0,0 +1,9 @@
+package com.devonfw.tools.test;
+/*
+ * This file is part of the test data for deep license scan support in Solicitor..
+ * It is licensed under the same license as the rest of Solicitor.
+ */
+
+public class SampleClass2 {
+
+}
@@ -5,6 +5,16 @@
 package com.devonfw.tools.solicitor;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +31,8 @@ import com.devonfw.tools.solicitor.common.ResourceToFileCopier.ResourceGroup;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.config.ConfigFactory;
 import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.lifecycle.PhaseMeasurement;
+import com.devonfw.tools.solicitor.lifecycle.PhaseType;
 import com.devonfw.tools.solicitor.model.ModelImporterExporter;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
@@ -68,12 +80,27 @@ public class Solicitor {
 
   private boolean tolerateMissingInput = false;
 
+  private int readerParallelism = 1;
+
   @Value("${solicitor.tolerate-missing-input}")
   public void setTolerateMissingInput(boolean tolerateMissingInput) {
 
     this.tolerateMissingInput = tolerateMissingInput;
   }
 
+  /**
+   * Sets the number of threads used for reading the inventories. A value of 1 (default) results in sequential
+   * processing. {@link ReaderSetup}s of the same {@link Application} are always processed sequentially in the
+   * configured order so that the order of the {@link ApplicationComponent}s does not depend on the parallelism.
+   *
+   * @param readerParallelism the number of threads to use
+   */
+  @Value("${solicitor.reader.parallelism:1}")
+  public void setReaderParallelism(int readerParallelism) {
+
+    this.readerParallelism = readerParallelism;
+  }
+
   /**
    * Copy the user guide to the current working directory.
    */
@@ -146,26 +173,111 @@ public class Solicitor {
 
   /**
    * Read the inventory of {@link ApplicationComponent}s and their declared licenses.
+   *
+   * If configured (see {@link #setReaderParallelism(int)}) the inventories of different {@link Application}s are read
+   * concurrently.
    */
   private void readInventory() {
 
-    for (ReaderSetup readerSetup : this.solicitorSetup.getReaderSetups()) {
+    List<List<ReaderSetup>> readerSetupsPerApplication = groupByApplication(this.solicitorSetup.getReaderSetups());
+    if (this.readerParallelism > 1 && readerSetupsPerApplication.size() > 1) {
+      readInventoryInParallel(readerSetupsPerApplication);
+    } else {
+      for (List<ReaderSetup> readerSetups : readerSetupsPerApplication) {
+        readInventory(readerSetups);
+      }
+    }
+  }
+
+  /**
+   * Groups the {@link ReaderSetup}s by their {@link Application}. The order of the groups is given by the first
+   * occurrence of the application; within each group the configured order is retained.
+   *
+   * @param readerSetups the {@link ReaderSetup}s as configured
+   * @return the list of groups
+   */
+  private List<List<ReaderSetup>> groupByApplication(List<ReaderSetup> readerSetups) {
+
+    Map<Application, List<ReaderSetup>> groupMap = new IdentityHashMap<>();
+    List<List<ReaderSetup>> result = new ArrayList<>();
+    for (ReaderSetup readerSetup : readerSetups) {
+      List<ReaderSetup> group = groupMap.get(readerSetup.getApplication());
+      if (group == null) {
+        group = new ArrayList<>();
+        groupMap.put(readerSetup.getApplication(), group);
+        result.add(group);
+      }
+      group.add(readerSetup);
+    }
+    return result;
+  }
+
+  /**
+   * Reads the inventories of the given groups of {@link ReaderSetup}s concurrently using a bounded thread pool. Each
+   * group is processed sequentially by a single thread.
+   *
+   * @param readerSetupsPerApplication the {@link ReaderSetup}s grouped by {@link Application}
+   */
+  private void readInventoryInParallel(List<List<ReaderSetup>> readerSetupsPerApplication) {
+
+    AtomicInteger threadCounter = new AtomicInteger();
+    ThreadFactory threadFactory = r -> {
+      Thread thread = new Thread(r, "reader-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(this.readerParallelism, readerSetupsPerApplication.size()), threadFactory);
+    try {
+      List<Future<?>> futures = new ArrayList<>(readerSetupsPerApplication.size());
+      for (List<ReaderSetup> readerSetups : readerSetupsPerApplication) {
+        futures.add(executor.submit(() -> readInventory(readerSetups)));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw new SolicitorRuntimeException("Exception when reading inventory", e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new SolicitorRuntimeException("Interrupted when reading inventory", e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Read the inventory for the given {@link ReaderSetup}s sequentially.
+   *
+   * @param readerSetups the {@link ReaderSetup}s to process
+   */
+  private void readInventory(List<ReaderSetup> readerSetups) {
+
+    for (ReaderSetup readerSetup : readerSetups) {
       Reader reader = this.readerFactory.readerFor(readerSetup.getType());
+      Application application = readerSetup.getApplication();
+      int componentsBefore = application.getApplicationComponents().size();
+      PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.READER,
+          readerSetup.getType() + " " + readerSetup.getSource());
       try {
-        reader.readInventory(readerSetup.getType(), readerSetup.getSource(), readerSetup.getApplication(),
+        reader.readInventory(readerSetup.getType(), readerSetup.getSource(), application,
             readerSetup.getUsagePattern(), readerSetup.isModified(), readerSetup.getPackageType(),
             readerSetup.getConfiguration());
+        measurement.finish(application.getApplicationComponents().size() - componentsBefore);
       } catch (SolicitorRuntimeException sre) {
         if (this.tolerateMissingInput && sre.getCause() instanceof FileNotFoundException) {
-          Application app = readerSetup.getApplication();
-          LOG.warn(LogMessages.MISSING_INVENTORY_INPUT_FILE.msg(), readerSetup.getSource(), app.getName());
-          markApplicationMissingData(app);
+          LOG.warn(LogMessages.MISSING_INVENTORY_INPUT_FILE.msg(), readerSetup.getSource(), application.getName());
+          markApplicationMissingData(application);
         } else {
           throw sre;
         }
       }
     }
-
   }
 
   /**
@@ -176,8 +288,20 @@ public class Solicitor {
   private void runInventoryProcessors(ModelRoot modelRoot) {
 
     for (InventoryProcessor inventoryProcessor : this.inventoryProcessors) {
+      PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.INVENTORY_PROCESSOR,
+          inventoryProcessor.getClass().getSimpleName());
       inventoryProcessor.processInventory(modelRoot);
+      measurement.finish(countApplicationComponents(modelRoot));
+    }
+  }
+
+  private long countApplicationComponents(ModelRoot modelRoot) {
+
+    long count = 0;
+    for (Application application : modelRoot.getEngagement().getApplications()) {
+      count += application.getApplicationComponents().size();
     }
+    return count;
   }
 
   private void markApplicationMissingData(Application app) {
@@ -126,7 +126,8 @@ public class SolicitorCliProcessor {
     builder.optionalArg(true);
     builder.argName("filename");
     description = "after rule evaluation save the internal data model to a file; "
-        + "if no filename is given a filename will be automatically created";
+        + "if no filename is given a filename will be automatically created; "
+        + "use extension '.smile' for a compact binary format and append '.gz' for gzip compression";
     builder.desc(description);
     Option save = builder.get();
     options.addOption(save);
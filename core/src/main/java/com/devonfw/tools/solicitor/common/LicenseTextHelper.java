@@ -13,6 +13,8 @@ public final class LicenseTextHelper {
 
   private static final int LARGE_HTML_CONTENT_SIZE_LIMIT = 20000;
 
+  private static final String HTML_END_TAG = "</html>";
+
   private static final Logger LOG = LoggerFactory.getLogger(LicenseTextHelper.class);
 
   private static boolean replacingHtmlWarningLogged = false;
@@ -35,7 +37,7 @@ public final class LicenseTextHelper {
     if (rawContent == null || rawContent.isEmpty()) {
       return rawContent;
     }
-    if (rawContent.length() > LARGE_HTML_CONTENT_SIZE_LIMIT && rawContent.toLowerCase().contains("</html>")) {
+    if (rawContent.length() > LARGE_HTML_CONTENT_SIZE_LIMIT && containsHtmlEndTag(rawContent)) {
       if (!replacingHtmlWarningLogged) {
         replacingHtmlWarningLogged = true;
         LOG.warn(LogMessages.REPLACING_EXCESSIVE_HTML_CONTENT.msg(), LARGE_HTML_CONTENT_PLACEHOLDER);
@@ -47,6 +49,24 @@ public final class LicenseTextHelper {
 
   }
 
+  /**
+   * Checks (case insensitive) if the content contains a closing html tag. The search starts from the end of the content
+   * as this is where the tag is typically located and does not create a lower case copy of the (possibly large)
+   * content.
+   *
+   * @param content the content to check
+   * @return <code>true</code> if the content contains the closing html tag, <code>false</code> otherwise
+   */
+  private static boolean containsHtmlEndTag(String content) {
+
+    for (int i = content.length() - HTML_END_TAG.length(); i >= 0; i--) {
+      if (content.charAt(i) == '<' && content.regionMatches(true, i, HTML_END_TAG, 0, HTML_END_TAG.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Checks if the lines of the given text exceed the max allowed width. If yes the wrap the text to the given width. If
    * not then return the original text.
@@ -39,7 +39,8 @@ public enum LogMessages {
   FULL_CONFIG_EXTRACTED(23,
       "Complete base configuration saved to filesystem. File '{}' is the base configuration file."), //
   CLI_EXCEPTION(24, "Exception when processing command line arguments: {}"), //
-  RULE_GROUP_FINISHED(25, "Processing of rule group '{}' finished. {} rules fired in {} ms"), //
+  RULE_GROUP_FINISHED(25,
+      "Processing of rule group '{}' finished. {} rules fired in {} ms (condition cache hits: {}, misses: {})"), //
   TAKING_RULE_CONFIG(26, "Merging config: Taking rule config from {}"), //
   TAKING_WRITER_CONFIG(27, "Merging config: Taking writer config from {}"), //
   EXTENSION_PRESENT(28, "Solicitor extension present. Artifact:{}, Version:{}, Buildnumber:{}, Builddate:{}"), //
@@ -82,7 +83,8 @@ public enum LogMessages {
       "Experimental feature ACTIVE: Start enriching the inventory data with Scancode data (as far as available)"), //
   SCANCODE_FEATURE_DEACTIVATED(55,
       "The experimental feature for enriching the inventory with scancode data is DEACTIVATED"), //
-  COMPONENT_INFO_READ(56, "External component information was read for {} out of {} ApplicationComponents"), //
+  COMPONENT_INFO_READ(56,
+      "External component information was read for {} out of {} ApplicationComponents (lookup cache hits: {}, misses: {})"), //
   CURATIONS_NOT_EXISTING(57, "Curations file '{}' not found. No curations will be applied."), //
   CURATIONS_PROCESSING(58, "Curations file '{}' exists. Applying curations."), //
   COMPONENTINFO_NO_LICENSES(59, "ComponentInfo for '{}' does not contain any license. Keeping licenses from Reader."), //
@@ -135,7 +137,25 @@ public enum LogMessages {
   XLS_PROTECTION_ACTIVE_PASSWORD(88,
       "XLS sheet protection is active for this report. The password provided in configuration will be used to protect all sheets in XLS report '{}'"), //
   XLS_PROTECTION_ACTIVE_NO_PASSWORD(89,
-      "XLS sheet protection without password is active for this report. All sheets in XLS report '{}' will be protected without password");
+      "XLS sheet protection without password is active for this report. All sheets in XLS report '{}' will be protected without password"), //
+  LOAD_RULES_FROM_CACHE(90, "Loading precompiled Rules for Rule Group '{}' from KieModule cache file '{}'"), //
+  KIEMODULE_CACHE_WRITE_FAILED(91,
+      "Could not write compiled Rules for Rule Group '{}' to KieModule cache file '{}'. Rules will be compiled again on next run."), //
+  REPORTING_TABLE_LOADED(92, "Loaded {} rows into reporting table '{}' in {} ms ({} rows/sec)"), //
+  RUN_PROFILE_WRITTEN(93, "Run profile with {} phase measurements written to '{}'"), //
+  RUN_PROFILE_WRITE_FAILED(94, "Could not write run profile to '{}'"), //
+  TEXT_POOL_MAPPED_FILES(95,
+      "License and notice texts will be stored outside of the heap in memory mapped files in directory '{}'"), //
+  WEB_CONTENT_PREFETCHED(96,
+      "Prefetched {} of {} not yet cached web contents (license texts, notice files) from {} hosts in {} ms"), //
+  CONTENT_MEMORY_CACHE_STATISTICS(97,
+      "In memory cache of {}: {} hits, {} misses, {} evictions, {} entries with {} bytes"), //
+  COMPONENT_INFO_CACHE_STATISTICS(98,
+      "Component info result cache: {} packages taken from cache, {} packages (re)processed"), //
+  COMPONENT_INFO_CACHE_WRITE_FAILED(99,
+      "Could not write component info cache file '{}' ({}); result will be determined again on next run"), //
+  KIEMODULE_CACHE_READ_FAILED(100,
+      "Could not use precompiled Rules for Rule Group '{}' from KieModule cache file '{}'. Cache entry is deleted and rules will be compiled.");
 
   private final String message;
 
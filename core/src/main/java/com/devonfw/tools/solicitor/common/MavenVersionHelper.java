@@ -29,14 +29,36 @@ public class MavenVersionHelper {
    */
   public static boolean checkVersionRange(final String version, final String expectedVersionRange) {
 
-    DefaultArtifactVersion solicitorVersion = new DefaultArtifactVersion(version);
-    VersionRange allowedRange;
+    return checkVersionRange(version, parseVersionRange(expectedVersionRange));
+  }
+
+  /**
+   * Check if the given maven version string matches the expected (already parsed) range.
+   *
+   * @param version a version string in maven format
+   * @param expectedVersionRange the version range as parsed by {@link #parseVersionRange(String)}
+   * @return <code>true</code> if the version is in the range, <code>false</code> otherwise
+   * @see VersionRange#containsVersion(org.apache.maven.artifact.versioning.ArtifactVersion)
+   */
+  public static boolean checkVersionRange(final String version, final VersionRange expectedVersionRange) {
+
+    return expectedVersionRange.containsVersion(new DefaultArtifactVersion(version));
+  }
+
+  /**
+   * Parses the given maven version range spec.
+   *
+   * @param versionRange a version range spec in maven format
+   * @return the parsed version range
+   * @throws SolicitorRuntimeException if the version range spec is invalid
+   */
+  public static VersionRange parseVersionRange(final String versionRange) {
+
     try {
-      allowedRange = VersionRange.createFromVersionSpec(expectedVersionRange);
+      return VersionRange.createFromVersionSpec(versionRange);
     } catch (InvalidVersionSpecificationException e) {
       throw new SolicitorRuntimeException(e);
     }
-    return allowedRange.containsVersion(solicitorVersion);
   }
 
 }
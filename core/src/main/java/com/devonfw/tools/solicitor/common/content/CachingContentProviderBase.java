@@ -10,6 +10,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.Scanner;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,8 @@ public abstract class CachingContentProviderBase<C extends Content> extends Abst
 
   static final int MAX_KEY_LENGTH = 250;
 
+  private static final Pattern NON_WORD_CHARACTER = Pattern.compile("\\W");
+
   /**
    * The Constructor.
    *
@@ -68,7 +71,7 @@ public abstract class CachingContentProviderBase<C extends Content> extends Abst
     if (url.startsWith("https")) {
       url = url.replace("https", "http");
     }
-    String result = url.replaceAll("\\W", "_");
+    String result = NON_WORD_CHARACTER.matcher(url).replaceAll("_");
     // Check if the filename length exceeds the maximum length
     if (result.length() <= MAX_KEY_LENGTH) {
       return result; // If it's within the limit, use it as is.
@@ -136,6 +139,23 @@ public abstract class CachingContentProviderBase<C extends Content> extends Abst
     return loadFromNext(url);
   }
 
+  /**
+   * Checks if the content for the given URL is available in the cache of this {@link ContentProvider}. Does not
+   * delegate to the next {@link ContentProvider}.
+   *
+   * @param url the URL of the content
+   * @return <code>true</code> if the content is available in this cache, <code>false</code> otherwise
+   */
+  public boolean isCached(String url) {
+
+    for (String cacheUrl : getCacheUrls(getKey(url))) {
+      if (this.urlInputStreamFactory.isExisting(cacheUrl)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Method for loading the requested web content from the next new {@link ContentProvider} defined in the chain.
    *
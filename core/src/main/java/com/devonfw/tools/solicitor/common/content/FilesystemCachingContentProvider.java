@@ -69,23 +69,35 @@ public class FilesystemCachingContentProvider<C extends Content> extends Caching
 
     if (!url.startsWith("file:")) {
       // data of URLs which resolve to local file will not be cached
-      File file = new File(IOHelper.secureFilePath(this.resourceDirectory, getKey(url)));
-      File targetDir = file.getParentFile();
-      try {
-        IOHelper.checkAndCreateLocation(file);
-      } catch (SolicitorRuntimeException e) {
-        LOG.error(LogMessages.COULD_NOT_CREATE_CACHE.msg(), targetDir.getAbsolutePath());
-        return result;
-      }
-      try (FileWriter fw = new FileWriter(file)) {
-        if (result != null && result.asString() != null) {
-          fw.append(result.asString());
-        }
-      } catch (IOException e) {
-        LOG.error("Could not write data to file cache.");
-      }
+      storeInCache(url, result);
     }
     return result;
   }
 
+  /**
+   * Stores the given content in the file system cache so that it will be taken from there in subsequent attempts to
+   * load the same web content. This might be called concurrently for different URLs.
+   *
+   * @param url the URL of the content
+   * @param content the content to store; if <code>null</code> or without data an empty file will be stored
+   */
+  public void storeInCache(String url, C content) {
+
+    File file = new File(IOHelper.secureFilePath(this.resourceDirectory, getKey(url)));
+    File targetDir = file.getParentFile();
+    try {
+      IOHelper.checkAndCreateLocation(file);
+    } catch (SolicitorRuntimeException e) {
+      LOG.error(LogMessages.COULD_NOT_CREATE_CACHE.msg(), targetDir.getAbsolutePath());
+      return;
+    }
+    try (FileWriter fw = new FileWriter(file)) {
+      if (content != null && content.asString() != null) {
+        fw.append(content.asString());
+      }
+    } catch (IOException e) {
+      LOG.error("Could not write data to file cache.");
+    }
+  }
+
 }
@@ -3,19 +3,28 @@
  */
 package com.devonfw.tools.solicitor.common.content;
 
-import java.util.Map;
-import java.util.TreeMap;
-
 /**
- * A {@link ContentProvider} which tries to lookup {@link Content} in a local in memory cache. +
+ * A {@link ContentProvider} which tries to lookup {@link Content} in a local in memory cache. The cache is size bounded
+ * and evicts the least recently used entries if its maximum size is exceeded. Negative results (content which could
+ * not be found by the next {@link ContentProvider}) are cached as well.
  *
  * @param <C> type of {@link Content} handled by this provider
  */
 public class InMemoryMapContentProvider<C extends Content> extends AbstractContentProvider<C> {
 
-  private ContentProvider<C> nextContentProvider;;
+  /**
+   * Default maximum size (in bytes) of the in memory cache.
+   */
+  public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
 
-  Map<String, C> contentMap = new TreeMap<>();
+  /**
+   * Approximate memory overhead of a single cache entry (key, entry object, content object) in bytes.
+   */
+  private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+  private ContentProvider<C> nextContentProvider;
+
+  private WeightedLruCache<String, C> contentCache = createCache(DEFAULT_MAX_BYTES);
 
   /**
    * Constructor.
@@ -30,11 +39,31 @@ public class InMemoryMapContentProvider<C extends Content> extends AbstractConte
     this.nextContentProvider = nextContentProvider;
   }
 
+  /**
+   * Sets the maximum size of the in memory cache. Any cached content is discarded.
+   *
+   * @param maxBytes the maximum size in bytes; 0 deactivates the in memory cache
+   */
+  public void setMaxBytes(long maxBytes) {
+
+    this.contentCache = createCache(maxBytes);
+  }
+
+  /**
+   * Gets the in memory cache, e.g. for accessing its statistics.
+   *
+   * @return the in memory cache
+   */
+  public WeightedLruCache<String, C> getMemoryCache() {
+
+    return this.contentCache;
+  }
+
   /**
    * {@inheritDoc}
    *
-   * Tries to find the web content in an in memory map. If not found then it delegates to
-   * {@link ClasspathContentProvider}. The result will be stored in the in Memory map for further calls to the same URL.
+   * Tries to find the web content in the in memory cache. If not found then it delegates to the next
+   * {@link ContentProvider}. The result will be stored in the in memory cache for further calls to the same URL.
    */
   @Override
   public C getContentForUri(String url) {
@@ -43,14 +72,41 @@ public class InMemoryMapContentProvider<C extends Content> extends AbstractConte
       return createEmptyContent();
     }
 
-    C result;
-    if (this.contentMap.containsKey(url)) {
-      result = this.contentMap.get(url);
-    } else {
+    C result = this.contentCache.get(url);
+    if (result == null) {
       result = this.nextContentProvider.getContentForUri(url);
-      this.contentMap.put(url, result);
+      if (result != null) {
+        this.contentCache.put(url, result);
+      }
     }
     return result;
   }
 
+  /**
+   * Puts the given content into the in memory cache so that it is returned by subsequent calls to
+   * {@link #getContentForUri(String)} for the same URL (unless it has been evicted in between).
+   *
+   * @param url the URL of the content
+   * @param content the content
+   */
+  public void putContent(String url, C content) {
+
+    this.contentCache.put(url, content);
+  }
+
+  private static <C extends Content> WeightedLruCache<String, C> createCache(long maxBytes) {
+
+    return new WeightedLruCache<>(maxBytes, InMemoryMapContentProvider::weigh);
+  }
+
+  /**
+   * Approximates the memory consumption of the given content. Negative entries (without any content) are weighted by
+   * the entry overhead only.
+   */
+  private static long weigh(Content content) {
+
+    String string = content.asString();
+    return ENTRY_OVERHEAD_BYTES + (string != null ? 2L * string.length() : 0);
+  }
+
 }
@@ -0,0 +1,154 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Simple in memory cache which evicts the least recently used entries if the total weight of all entries exceeds a
+ * given limit. The weight of each entry is determined by a weigher function (e.g. the approximate size in bytes).
+ * Statistics about hits, misses and evictions are collected.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class WeightedLruCache<K, V> {
+
+  private final Map<K, V> map = new LinkedHashMap<>(64, 0.75f, true);
+
+  private final Map<K, Long> weights = new LinkedHashMap<>();
+
+  private final ToLongFunction<V> weigher;
+
+  private final long maxWeight;
+
+  private long currentWeight;
+
+  private long hitCount;
+
+  private long missCount;
+
+  private long evictionCount;
+
+  /**
+   * The constructor.
+   *
+   * @param maxWeight the maximum total weight of all entries; if 0 or less nothing will be cached
+   * @param weigher function which determines the weight of a value
+   */
+  public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  /**
+   * Gets the value for the given key and marks it as most recently used.
+   *
+   * @param key the key
+   * @return the value or <code>null</code> if there is no entry for the key
+   */
+  public synchronized V get(K key) {
+
+    V value = this.map.get(key);
+    if (value != null) {
+      this.hitCount++;
+    } else {
+      this.missCount++;
+    }
+    return value;
+  }
+
+  /**
+   * Puts a value into the cache, replacing any existing entry for the same key. Least recently used entries are
+   * evicted if the maximum weight is exceeded. Values which are heavier than the maximum weight will not be cached.
+   *
+   * @param key the key
+   * @param value the value; must not be <code>null</code>
+   */
+  public synchronized void put(K key, V value) {
+
+    remove(key);
+    long weight = this.weigher.applyAsLong(value);
+    if (weight > this.maxWeight) {
+      return;
+    }
+    this.map.put(key, value);
+    this.weights.put(key, weight);
+    this.currentWeight += weight;
+    Iterator<Map.Entry<K, V>> it = this.map.entrySet().iterator();
+    while (this.currentWeight > this.maxWeight && it.hasNext()) {
+      K eldest = it.next().getKey();
+      it.remove();
+      this.currentWeight -= this.weights.remove(eldest);
+      this.evictionCount++;
+    }
+  }
+
+  /**
+   * Removes the entry for the given key if existing.
+   *
+   * @param key the key
+   */
+  public synchronized void remove(K key) {
+
+    if (this.map.remove(key) != null) {
+      this.currentWeight -= this.weights.remove(key);
+    }
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public synchronized int size() {
+
+    return this.map.size();
+  }
+
+  /**
+   * @return the maximum total weight of all entries
+   */
+  public long getMaxWeight() {
+
+    return this.maxWeight;
+  }
+
+  /**
+   * @return the total weight of all entries
+   */
+  public synchronized long getCurrentWeight() {
+
+    return this.currentWeight;
+  }
+
+  /**
+   * @return the number of calls to {@link #get(Object)} which found an entry
+   */
+  public synchronized long getHitCount() {
+
+    return this.hitCount;
+  }
+
+  /**
+   * @return the number of calls to {@link #get(Object)} which did not find an entry
+   */
+  public synchronized long getMissCount() {
+
+    return this.missCount;
+  }
+
+  /**
+   * @return the number of entries which were evicted due to exceeding the maximum weight
+   */
+  public synchronized long getEvictionCount() {
+
+    return this.evictionCount;
+  }
+
+}
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,6 +27,10 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
 
   private boolean skipdownload;
 
+  private int connectTimeout;
+
+  private int readTimeout;
+
   private static final Pattern SUPPORTED_URL_PATTERNS = Pattern.compile("^http:.*|^https:.*|^jar:http:.*|^jar:https:.*",
       Pattern.CASE_INSENSITIVE);
 
@@ -40,6 +45,26 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
 
   }
 
+  /**
+   * Sets the timeout for establishing the connection.
+   *
+   * @param connectTimeout the timeout in milliseconds; <code>0</code> means no timeout
+   */
+  public void setConnectTimeout(int connectTimeout) {
+
+    this.connectTimeout = connectTimeout;
+  }
+
+  /**
+   * Sets the timeout for reading the content.
+   *
+   * @param readTimeout the timeout in milliseconds; <code>0</code> means no timeout
+   */
+  public void setReadTimeout(int readTimeout) {
+
+    this.readTimeout = readTimeout;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -78,11 +103,16 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
       return new WebContent(null);
     }
 
-    try (InputStream is = webContentUrl.openConnection().getInputStream(); Scanner s = new Scanner(is)) {
-      s.useDelimiter("\\A");
-      String result = s.hasNext() ? s.next() : "";
-
-      return new WebContent(possiblyExtractLines(result, lineInfo));
+    try {
+      URLConnection connection = webContentUrl.openConnection();
+      connection.setConnectTimeout(this.connectTimeout);
+      connection.setReadTimeout(this.readTimeout);
+      try (InputStream is = connection.getInputStream(); Scanner s = new Scanner(is)) {
+        s.useDelimiter("\\A");
+        String result = s.hasNext() ? s.next() : "";
+
+        return new WebContent(possiblyExtractLines(result, lineInfo));
+      }
     } catch (IOException e) {
       if (LOG.isDebugEnabled()) {
         LOG.debug("Could not retieve content for url '" + url + "'", e);
@@ -104,11 +134,13 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
   }
 
   /**
-   * @param input
-   * @param lineInfo
-   * @return
+   * Extracts the lines given by the line info (e.g. <code>#L5-L10</code>) from the input.
+   *
+   * @param input the complete content
+   * @param lineInfo the line info; if <code>null</code> the input will be returned unchanged
+   * @return the extracted lines
    */
-  private String possiblyExtractLines(String input, String lineInfo) {
+  static String possiblyExtractLines(String input, String lineInfo) {
 
     if (lineInfo == null) {
       return input;
@@ -0,0 +1,286 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content.web;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.content.CachingContentProviderBase;
+import com.devonfw.tools.solicitor.common.content.FilesystemCachingContentProvider;
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+
+/**
+ * Downloads {@link WebContent} for a set of URLs concurrently and stores it in the {@link FilesystemCachingContentProvider}
+ * so that later lookups via the {@link com.devonfw.tools.solicitor.common.content.ContentProvider} chain are cache hits.
+ * This avoids the serial download of each single web content when the content is requested lazily.
+ * <p>
+ * Only <code>http</code> and <code>https</code> URLs which are not yet contained in any of the given caches are
+ * downloaded. Requests are done asynchronously with a limited number of concurrent requests per host, connect and
+ * request timeouts and retries with exponential backoff for failed requests and status codes 429 and 5xx. If a download
+ * finally fails, an empty content is cached, which is the same result as when trying to download it via the
+ * {@link DirectUrlWebContentProvider} .
+ */
+public class WebContentPrefetcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebContentPrefetcher.class);
+
+  private final List<CachingContentProviderBase<WebContent>> caches;
+
+  private final FilesystemCachingContentProvider<WebContent> filesystemCache;
+
+  private final InMemoryMapContentProvider<WebContent> inMemoryCache;
+
+  private boolean skipdownload;
+
+  private int maxConcurrencyPerHost = 4;
+
+  private int connectTimeout = 10000;
+
+  private int readTimeout = 30000;
+
+  private int maxRetries = 2;
+
+  private int retryBackoff = 500;
+
+  /**
+   * The constructor.
+   *
+   * @param caches the caching providers which are checked if the content is already available; the content is only
+   *        downloaded if none of them contains it
+   * @param filesystemCache the cache to which the downloaded content is written
+   * @param inMemoryCache the in memory cache which gets informed about failed downloads so that they are not attempted
+   *        again in the current run
+   */
+  public WebContentPrefetcher(List<CachingContentProviderBase<WebContent>> caches,
+      FilesystemCachingContentProvider<WebContent> filesystemCache, InMemoryMapContentProvider<WebContent> inMemoryCache) {
+
+    this.caches = caches;
+    this.filesystemCache = filesystemCache;
+    this.inMemoryCache = inMemoryCache;
+  }
+
+  /**
+   * @param skipdownload if set to <code>true</code> no download will be performed
+   */
+  public void setSkipdownload(boolean skipdownload) {
+
+    this.skipdownload = skipdownload;
+  }
+
+  /**
+   * @param maxConcurrencyPerHost the maximum number of concurrent requests to the same host
+   */
+  public void setMaxConcurrencyPerHost(int maxConcurrencyPerHost) {
+
+    this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+  }
+
+  /**
+   * @param connectTimeout the timeout for establishing a connection in milliseconds
+   */
+  public void setConnectTimeout(int connectTimeout) {
+
+    this.connectTimeout = connectTimeout;
+  }
+
+  /**
+   * @param readTimeout the timeout for receiving the response of a single request in milliseconds
+   */
+  public void setReadTimeout(int readTimeout) {
+
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * @param maxRetries the maximum number of retries of a failed request
+   */
+  public void setMaxRetries(int maxRetries) {
+
+    this.maxRetries = maxRetries;
+  }
+
+  /**
+   * @param retryBackoff the delay before the first retry in milliseconds; doubled for each further retry
+   */
+  public void setRetryBackoff(int retryBackoff) {
+
+    this.retryBackoff = retryBackoff;
+  }
+
+  /**
+   * Downloads the content of all given URLs which are not yet cached and stores it in the file system cache. Returns
+   * after all downloads are finished.
+   *
+   * @param urls the URLs; <code>null</code> values and duplicates are ignored
+   * @return the number of successfully downloaded contents
+   */
+  public int prefetch(Collection<String> urls) {
+
+    if (this.skipdownload) {
+      return 0;
+    }
+    long startTime = System.currentTimeMillis();
+    Map<String, Queue<String>> urlsPerHost = new TreeMap<>();
+    int total = 0;
+    Set<String> distinctUrls = new TreeSet<>();
+    for (String url : urls) {
+      if (url != null) {
+        distinctUrls.add(url);
+      }
+    }
+    for (String url : distinctUrls) {
+      String host = hostToPrefetch(url);
+      if (host != null) {
+        urlsPerHost.computeIfAbsent(host, h -> new ConcurrentLinkedQueue<>()).add(url);
+        total++;
+      }
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(this.connectTimeout)).followRedirects(HttpClient.Redirect.NORMAL).build();
+    AtomicInteger downloaded = new AtomicInteger();
+    Queue<String> failedUrls = new ConcurrentLinkedQueue<>();
+    List<CompletableFuture<Void>> workers = new ArrayList<>();
+    for (Queue<String> queue : urlsPerHost.values()) {
+      int workerCount = Math.min(Math.max(1, this.maxConcurrencyPerHost), queue.size());
+      for (int i = 0; i < workerCount; i++) {
+        workers.add(processQueue(client, queue, downloaded, failedUrls));
+      }
+    }
+    CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+
+    for (String url : failedUrls) {
+      // same result as a failed download via DirectUrlWebContentProvider
+      WebContent emptyContent = new WebContent(null);
+      this.filesystemCache.storeInCache(url, emptyContent);
+      this.inMemoryCache.putContent(url, emptyContent);
+    }
+    LOG.info(LogMessages.WEB_CONTENT_PREFETCHED.msg(), downloaded.get(), total, urlsPerHost.size(),
+        System.currentTimeMillis() - startTime);
+    return downloaded.get();
+  }
+
+  /**
+   * Determines the host of the URL if its content needs to be downloaded.
+   *
+   * @param url the URL
+   * @return the host or <code>null</code> if the URL should not be downloaded
+   */
+  private String hostToPrefetch(String url) {
+
+    if (!(url.regionMatches(true, 0, "http:", 0, 5) || url.regionMatches(true, 0, "https:", 0, 6))) {
+      return null;
+    }
+    for (CachingContentProviderBase<WebContent> cache : this.caches) {
+      if (cache.isCached(url)) {
+        return null;
+      }
+    }
+    try {
+      return new URI(stripLineInfo(url)).getHost();
+    } catch (URISyntaxException e) {
+      // will be handled (and logged) when the content is requested via the provider chain
+      return null;
+    }
+  }
+
+  /**
+   * Processes the URLs of the queue one after the other.
+   *
+   * @param client the client
+   * @param queue the queue of URLs
+   * @param downloaded counter of successful downloads
+   * @param failedUrls collects the URLs which could not be downloaded
+   * @return the future which completes when the queue is empty
+   */
+  private CompletableFuture<Void> processQueue(HttpClient client, Queue<String> queue, AtomicInteger downloaded,
+      Queue<String> failedUrls) {
+
+    String url = queue.poll();
+    if (url == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return download(client, url, 0).thenComposeAsync(content -> {
+      if (content != null) {
+        this.filesystemCache.storeInCache(url, content);
+        downloaded.incrementAndGet();
+      } else {
+        failedUrls.add(url);
+      }
+      return processQueue(client, queue, downloaded, failedUrls);
+    });
+  }
+
+  /**
+   * Downloads the content of a single URL, retrying if appropriate.
+   *
+   * @param client the client
+   * @param url the URL, possibly including line info
+   * @param attempt the number of the attempt, starting with 0
+   * @return the future for the content; completes with <code>null</code> if the download failed
+   */
+  private CompletableFuture<WebContent> download(HttpClient client, String url, int attempt) {
+
+    String requestUrl = stripLineInfo(url);
+    String lineInfo = requestUrl.length() < url.length() ? url.substring(requestUrl.length()) : null;
+    HttpRequest request = HttpRequest.newBuilder(URI.create(requestUrl)).timeout(Duration.ofMillis(this.readTimeout))
+        .GET().build();
+    return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).handle((response, throwable) -> {
+      if (throwable == null && response.statusCode() >= 200 && response.statusCode() < 300) {
+        // decoded like in DirectUrlWebContentProvider
+        String content = new String(response.body(), Charset.defaultCharset());
+        return CompletableFuture
+            .completedFuture(new WebContent(DirectUrlWebContentProvider.possiblyExtractLines(content, lineInfo)));
+      }
+      boolean retryable = throwable != null || response.statusCode() == 429 || response.statusCode() >= 500;
+      if (retryable && attempt < this.maxRetries) {
+        long delay = (long) this.retryBackoff << attempt;
+        return CompletableFuture.supplyAsync(() -> url, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+            .thenCompose(u -> download(client, u, attempt + 1));
+      }
+      String reason = throwable != null ? unwrap(throwable).getClass().getSimpleName()
+          : "HTTP status " + response.statusCode();
+      LOG.info(LogMessages.COULD_NOT_DOWNLOAD_CONTENT.msg(), url, reason);
+      return CompletableFuture.<WebContent> completedFuture(null);
+    }).thenCompose(future -> future);
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+
+    return (throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause()
+        : throwable;
+  }
+
+  private static String stripLineInfo(String url) {
+
+    int startOfLineInfo = url.indexOf("#L");
+    return startOfLineInfo >= 0 ? url.substring(0, startOfLineInfo) : url;
+  }
+
+}
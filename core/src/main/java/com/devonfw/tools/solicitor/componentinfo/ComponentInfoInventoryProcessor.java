@@ -1,6 +1,17 @@
 package com.devonfw.tools.solicitor.componentinfo;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +83,8 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
 
   private String curationDataSelector;
 
+  private int parallelism = 1;
+
   /**
    * Set the curationDataSelector.
    *
@@ -90,6 +103,18 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
     }
   }
 
+  /**
+   * Sets the number of threads used for looking up the component information. A value of 1 (default) results in
+   * sequential processing. Higher values only make sense if all {@link ComponentInfoAdapter}s are thread safe.
+   *
+   * @param parallelism the number of threads to use
+   */
+  @Value("${solicitor.componentinfo.parallelism:1}")
+  public void setParallelism(int parallelism) {
+
+    this.parallelism = parallelism;
+  }
+
   /**
    * The constructor.
    */
@@ -97,58 +122,162 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
 
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The component information is looked up only once for each distinct PackageURL (and curation data selector); the
+   * result is shared by all {@link ApplicationComponent}s referencing the same package. If configured (see
+   * {@link #setParallelism(int)}) the lookup of the component information is done concurrently. Updating the model
+   * with the found data is always done sequentially in the order of the {@link ApplicationComponent}s so that the
+   * resulting model and the statistics do not depend on the parallelism.
+   */
   @Override
   public void processInventory(ModelRoot modelRoot) {
 
-    Statistics overall = new Statistics();
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
     for (Application application : modelRoot.getEngagement().getApplications()) {
-      for (ApplicationComponent ac : application.getApplicationComponents()) {
-        Statistics single = processApplicationComponent(ac);
-        overall.add(single);
+      applicationComponents.addAll(application.getApplicationComponents());
+    }
+    // determine the distinct packages to look up; keep the first ApplicationComponent of each as representative
+    Map<String, ApplicationComponent> distinctComponents = new LinkedHashMap<>();
+    int componentsWithPackageUrl = 0;
+    for (ApplicationComponent ac : applicationComponents) {
+      if (ac.getPackageUrl() != null) {
+        componentsWithPackageUrl++;
+        distinctComponents.putIfAbsent(lookupKey(ac), ac);
       }
     }
-    LOG.info(LogMessages.COMPONENT_INFO_READ.msg(), overall.componentsWithComponentInfo, overall.componentsTotal);
+    Map<String, ComponentInfo> componentInfos;
+    if (this.parallelism > 1) {
+      componentInfos = lookupComponentInfosInParallel(distinctComponents);
+    } else {
+      componentInfos = new HashMap<>();
+      for (Map.Entry<String, ApplicationComponent> entry : distinctComponents.entrySet()) {
+        componentInfos.put(entry.getKey(), lookupComponentInfo(entry.getValue()));
+      }
+    }
+    Statistics overall = new Statistics();
+    for (ApplicationComponent ac : applicationComponents) {
+      ComponentInfo componentInfo = ac.getPackageUrl() != null ? componentInfos.get(lookupKey(ac)) : null;
+      Statistics single = processApplicationComponent(ac, componentInfo);
+      overall.add(single);
+    }
+    int lookupMisses = distinctComponents.size();
+    int lookupHits = componentsWithPackageUrl - lookupMisses;
+    LOG.info(LogMessages.COMPONENT_INFO_READ.msg(), overall.componentsWithComponentInfo, overall.componentsTotal,
+        lookupHits, lookupMisses);
+  }
+
+  /**
+   * Determines the key for memoizing the component information lookup of the given {@link ApplicationComponent}.
+   *
+   * @param ac the {@link ApplicationComponent}; its PackageURL must not be <code>null</code>
+   * @return the key, consisting of the curation data selector and the canonical PackageURL
+   */
+  private String lookupKey(ApplicationComponent ac) {
+
+    return this.curationDataSelector + "|" + ac.getPackageUrl().canonicalize();
   }
 
   /**
-   * Processes a single {@link ApplicationComponent} by looking up license information from an external data source,
-   * such as a scancode file store. If license information is found, it updates the relevant properties of the
-   * {@link ApplicationComponent} with the data obtained from this source. The method also handles cases when no license
-   * information is found or when there is an error reading the component info data source.
+   * Looks up the component information for the given {@link ApplicationComponent}s concurrently using a bounded thread
+   * pool.
+   *
+   * @param distinctComponents the {@link ApplicationComponent}s to look up, indexed by their lookup key
+   * @return the looked up component information indexed by the lookup key
+   */
+  private Map<String, ComponentInfo> lookupComponentInfosInParallel(
+      Map<String, ApplicationComponent> distinctComponents) {
+
+    AtomicInteger threadCounter = new AtomicInteger();
+    ThreadFactory threadFactory = r -> {
+      Thread thread = new Thread(r, "componentinfo-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, threadFactory);
+    try {
+      Map<String, Future<ComponentInfo>> lookups = new LinkedHashMap<>();
+      for (Map.Entry<String, ApplicationComponent> entry : distinctComponents.entrySet()) {
+        ApplicationComponent ac = entry.getValue();
+        lookups.put(entry.getKey(), executor.submit(() -> lookupComponentInfo(ac)));
+      }
+      Map<String, ComponentInfo> componentInfos = new HashMap<>();
+      for (Map.Entry<String, Future<ComponentInfo>> entry : lookups.entrySet()) {
+        try {
+          componentInfos.put(entry.getKey(), entry.getValue().get());
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw new SolicitorRuntimeException("Exception when reading component info data source", e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new SolicitorRuntimeException("Interrupted when reading component info data source", e);
+        }
+      }
+      return componentInfos;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Looks up the component information for the given {@link ApplicationComponent} by querying the available
+   * {@link ComponentInfoAdapter}s. This method does not change the model and might be called concurrently.
+   *
+   * @param ac The {@link ApplicationComponent} to look up the information for.
+   * @return the {@link ComponentInfo} of the last adapter which returned any data (the first one containing
+   *         {@link ComponentInfoData} takes precedence); <code>null</code> if there is no PackageURL or all adapters
+   *         are disabled
+   * @throws SolicitorRuntimeException If there is an exception when reading the component info data source.
+   */
+  private ComponentInfo lookupComponentInfo(ApplicationComponent ac) {
+
+    if (ac.getPackageUrl() == null) {
+      return null;
+    }
+    // Try to get component information from the available ComponentInfoAdapters
+    ComponentInfo componentInfoCandidate = null;
+    ComponentInfo componentInfo = null;
+    try {
+      for (ComponentInfoProvider cia : this.componentInfoAdapters) {
+        componentInfoCandidate = cia.getComponentInfo(ac.getPackageUrl(),
+            new SelectorCurationDataHandle(this.curationDataSelector));
+        if (componentInfoCandidate != null) {
+          componentInfo = componentInfoCandidate;
+          // stop querying further adapters if some info was returned
+          if (componentInfo.getComponentInfoData() != null) {
+            break;
+          }
+        }
+      }
+    } catch (ComponentInfoAdapterException e) {
+      throw new SolicitorRuntimeException("Exception when reading component info data source", e);
+    } catch (CurationInvalidException e) {
+      throw new SolicitorRuntimeException("Curation data invalid when reading component info data source", e);
+    }
+    return componentInfo;
+  }
+
+  /**
+   * Processes a single {@link ApplicationComponent} by applying the license information looked up from an external
+   * data source, such as a scancode file store. If license information is found, it updates the relevant properties of
+   * the {@link ApplicationComponent} with the data obtained from this source. The method also handles cases when no
+   * license information is found.
    *
    * @param ac The {@link ApplicationComponent} to be processed.
+   * @param componentInfo The component information as determined by {@link #lookupComponentInfo(ApplicationComponent)}
    * @return A {@link Statistics} object representing the processing statistics.
-   * @throws SolicitorRuntimeException If there is an exception when reading the component info data source.
    */
   // TODO: ohecker: refactor this method
-  private Statistics processApplicationComponent(ApplicationComponent ac) {
+  private Statistics processApplicationComponent(ApplicationComponent ac, ComponentInfo componentInfo) {
 
     Statistics statistics = new Statistics();
     statistics.componentsTotal = 1;
 
     if (ac.getPackageUrl() != null) {
-      // Try to get component information from the available ComponentInfoAdapters
-      ComponentInfo componentInfoCandidate = null;
-      ComponentInfo componentInfo = null;
-      ComponentInfoData componentInfoData = null;
-      try {
-        for (ComponentInfoProvider cia : this.componentInfoAdapters) {
-          componentInfoCandidate = cia.getComponentInfo(ac.getPackageUrl(),
-              new SelectorCurationDataHandle(this.curationDataSelector));
-          if (componentInfoCandidate != null) {
-            componentInfo = componentInfoCandidate;
-            // stop querying further adapters if some info was returned
-            componentInfoData = componentInfo.getComponentInfoData();
-            if (componentInfoData != null) {
-              break;
-            }
-          }
-        }
-      } catch (ComponentInfoAdapterException e) {
-        throw new SolicitorRuntimeException("Exception when reading component info data source", e);
-      } catch (CurationInvalidException e) {
-        throw new SolicitorRuntimeException("Curation data invalid when reading component info data source", e);
-      }
+      ComponentInfoData componentInfoData = componentInfo != null ? componentInfo.getComponentInfoData() : null;
       if (componentInfo == null) {
         // all adapters disabled
         ac.setDataStatus(ND_STATUS_PREFIX + DataStatusValue.DISABLED);
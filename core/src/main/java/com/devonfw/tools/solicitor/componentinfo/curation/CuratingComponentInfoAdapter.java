@@ -64,11 +64,10 @@ public class CuratingComponentInfoAdapter implements ComponentInfoAdapter {
 
     if (isFeatureActive()) {
 
-      ComponentInfo componentInfo = this.filteredComponentInfoProvider.getComponentInfo(packageUrl, curationDataHandle);
+      ComponentInfo componentInfo = getCuratedComponentInfo(packageUrl, curationDataHandle);
       if (componentInfo == null || componentInfo.getComponentInfoData() == null) {
         return componentInfo;
       }
-      componentInfo = this.componentInfoCurator.curate(componentInfo, curationDataHandle);
 
       componentInfo = checkForIssues(componentInfo);
 
@@ -80,6 +79,27 @@ public class CuratingComponentInfoAdapter implements ComponentInfoAdapter {
 
   }
 
+  /**
+   * Retrieves the filtered component information from the {@link FilteredComponentInfoProvider} and curates it via the
+   * {@link ComponentInfoCurator}. Subclasses might override this e.g. to cache the result.
+   *
+   * @param packageUrl The identifier of the package for which information is requested
+   * @param curationDataHandle Identifies which source should be used for the curation data.
+   * @return the curated data; <code>null</code> or without {@link ComponentInfo#getComponentInfoData()} if no data is
+   *         available
+   * @throws ComponentInfoAdapterException if there was an exception when reading the data
+   * @throws CurationInvalidException if the curation data is not valid
+   */
+  protected ComponentInfo getCuratedComponentInfo(PackageURL packageUrl, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
+
+    ComponentInfo componentInfo = this.filteredComponentInfoProvider.getComponentInfo(packageUrl, curationDataHandle);
+    if (componentInfo == null || componentInfo.getComponentInfoData() == null) {
+      return componentInfo;
+    }
+    return this.componentInfoCurator.curate(componentInfo, curationDataHandle);
+  }
+
   /**
    * Checks for issues in the given {@link ComponentInfo}. Issues include licenses falling into a defined set of keys.
    *
@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +24,9 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 /**
  * Implementation of the {@link CurationProvider} interface which reads curation data for all packages from a single
  * file.
+ * <p>
+ * The curations file is parsed only once and held as an index (keyed by the curation path) in memory. The index will
+ * be rebuilt if the last modification time of the file changes.
  *
  */
 @Component
@@ -39,6 +44,10 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
 
   private boolean curationsExistenceLogged;
 
+  private Map<String, ComponentInfoCuration> curationIndex;
+
+  private long curationIndexLastModified;
+
   /**
    * The constructor.
    *
@@ -56,9 +65,10 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
    * @param curationsFileName new value of curationsFileName.
    */
   @Value("${solicitor.scancode.curations-filename}")
-  public void setCurationsFileName(String curationsFileName) {
+  public synchronized void setCurationsFileName(String curationsFileName) {
 
     this.curationsFileName = curationsFileName;
+    this.curationIndex = null;
   }
 
   @Override
@@ -80,23 +90,42 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
         this.curationsExistenceLogged = true;
         LOG.info(LogMessages.CURATIONS_PROCESSING.msg(), this.curationsFileName);
       }
-      try (InputStream isc = new FileInputStream(this.curationsFileName)) {
+      foundCuration = getCurationIndex(curationsFile).get(pathFragmentWithinRepo);
+    }
+    return foundCuration;
+  }
 
-        CurationList curationList = yamlMapper.readValue(isc, CurationList.class);
+  /**
+   * Gets the index of all curations contained in the curations file. The index is built on first access and rebuilt
+   * whenever the last modification time of the file has changed.
+   *
+   * @param curationsFile the curations file
+   * @return the map of curations; key is the name (path) of the curation
+   * @throws ComponentInfoAdapterException if the curations file could not be read
+   */
+  private synchronized Map<String, ComponentInfoCuration> getCurationIndex(File curationsFile)
+      throws ComponentInfoAdapterException {
 
-        for (ComponentInfoCuration curation : curationList.getArtifacts()) {
-          String component = curation.getName();
-          if (component.equals(pathFragmentWithinRepo)) {
-            foundCuration = curation;
-            break;
-          }
-        }
+    long lastModified = curationsFile.lastModified();
+    if (this.curationIndex != null && this.curationIndexLastModified == lastModified) {
+      return this.curationIndex;
+    }
+    try (InputStream isc = new FileInputStream(curationsFile)) {
 
-      } catch (IOException e) {
-        throw new ComponentInfoAdapterException("Could not read Curations YAML", e);
+      CurationList curationList = yamlMapper.readValue(isc, CurationList.class);
+
+      Map<String, ComponentInfoCuration> index = new HashMap<>();
+      for (ComponentInfoCuration curation : curationList.getArtifacts()) {
+        // in case of duplicates the first definition wins
+        index.putIfAbsent(curation.getName(), curation);
       }
+      LOG.debug("Indexed {} curations from curations file '{}'", index.size(), this.curationsFileName);
+      this.curationIndex = index;
+      this.curationIndexLastModified = lastModified;
+      return index;
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not read Curations YAML", e);
     }
-    return foundCuration;
   }
 
   @Override
@@ -0,0 +1,146 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Index of the start offsets of all lines of a text file. Allows reading a range of lines from the file without
+ * reading (and decoding) the whole file. The index is built by a single streaming pass over the file.
+ * <p>
+ * The lines returned by {@link #readLines(int, int)} are the same as returned by
+ * {@link MultilineHelper#possiblyExtractLines(String, String)} when applied to the complete content of the file; this
+ * includes ignoring trailing empty lines. Lines are separated by <code>\n</code>; the file is decoded using the
+ * default charset.
+ * <p>
+ * Instances are immutable and thus thread safe.
+ */
+public class FileLineIndex {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final File file;
+
+  private final long length;
+
+  private final long lastModified;
+
+  private final int[] lineStarts;
+
+  private final int lineCount;
+
+  /**
+   * Private constructor. Use {@link #build(File)}.
+   */
+  private FileLineIndex(File file, long length, long lastModified, int[] lineStarts, int lineCount) {
+
+    this.file = file;
+    this.length = length;
+    this.lastModified = lastModified;
+    this.lineStarts = lineStarts;
+    this.lineCount = lineCount;
+  }
+
+  /**
+   * Builds the index for the given file.
+   *
+   * @param file the file; its size must not exceed {@link Integer#MAX_VALUE}
+   * @return the index
+   * @throws IOException if the file could not be read
+   */
+  public static FileLineIndex build(File file) throws IOException {
+
+    long lastModified = file.lastModified();
+    int[] lineStarts = new int[64];
+    int numberOfLines = 1;
+    // number of lines when ignoring trailing empty lines
+    int lineCount = 0;
+    boolean currentLineEmpty = true;
+    int offset = 0;
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+      int read;
+      while ((read = is.read(buffer)) > 0) {
+        for (int i = 0; i < read; i++) {
+          offset++;
+          if (buffer[i] == '\n') {
+            if (numberOfLines == lineStarts.length) {
+              lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+            }
+            lineStarts[numberOfLines++] = offset;
+            currentLineEmpty = true;
+          } else if (currentLineEmpty) {
+            currentLineEmpty = false;
+            lineCount = numberOfLines;
+          }
+        }
+      }
+    }
+    if (offset == 0) {
+      // an empty input consists of a single empty line
+      lineCount = 1;
+    }
+    return new FileLineIndex(file, offset, lastModified, Arrays.copyOf(lineStarts, numberOfLines), lineCount);
+  }
+
+  /**
+   * Checks if the index still reflects the current state of the file.
+   *
+   * @return <code>true</code> if the file was not changed since building the index
+   */
+  public boolean isUpToDate() {
+
+    return this.file.length() == this.length && this.file.lastModified() == this.lastModified;
+  }
+
+  /**
+   * @return the number of lines (excluding trailing empty lines)
+   */
+  public int getLineCount() {
+
+    return this.lineCount;
+  }
+
+  /**
+   * @return the approximate size of this index in bytes
+   */
+  public long getMemorySize() {
+
+    return 64L + 4L * this.lineStarts.length;
+  }
+
+  /**
+   * Reads a range of lines from the file. Each returned line is terminated by <code>\n</code>.
+   *
+   * @param startLine the first line to read (starting with 1)
+   * @param endLine the last line to read (inclusive)
+   * @return the lines; an empty string if the range does not contain any line
+   * @throws IOException if the file could not be read
+   */
+  public String readLines(int startLine, int endLine) throws IOException {
+
+    int first = Math.max(startLine, 1);
+    int last = Math.min(endLine, this.lineCount);
+    if (first > last) {
+      return "";
+    }
+    int from = this.lineStarts[first - 1];
+    // the range ends before the line feed terminating the last line (or at the end of the file)
+    int to = last < this.lineStarts.length ? this.lineStarts[last] - 1 : (int) this.length;
+    byte[] bytes = new byte[to - from];
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "r")) {
+      raf.seek(from);
+      raf.readFully(bytes);
+    }
+    return new String(bytes, Charset.defaultCharset()) + "\n";
+  }
+
+}
@@ -4,8 +4,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Scanner;
 
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +18,7 @@ import org.springframework.stereotype.Component;
 
 import com.devonfw.tools.solicitor.common.IOHelper;
 import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.content.WeightedLruCache;
 import com.devonfw.tools.solicitor.common.packageurl.AllKindsPackageURLHandler;
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -37,6 +42,14 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
 
   private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
 
+  /**
+   * Maximum size of the cache of {@link FileLineIndex}es in bytes.
+   */
+  private static final long LINE_INDEX_CACHE_MAX_BYTES = 4L * 1024 * 1024;
+
+  private final WeightedLruCache<String, FileLineIndex> lineIndexCache = new WeightedLruCache<>(
+      LINE_INDEX_CACHE_MAX_BYTES, FileLineIndex::getMemorySize);
+
   private String repoBasePath;
 
   private String scancodeFileName = "scancode.json";
@@ -112,20 +125,61 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
       throwExceptionForDownloadOrScanningFailures(packagePathPart);
       return null;
     }
-    String scancodeString;
     LOG.debug("Found Scancode info for PackageURL '{}'", packageUrl);
-    try (InputStream is = new FileInputStream(scanCodeFile)) {
-      scancodeString = IOHelper.readStringFromInputStream(is);
-    } catch (IOException e) {
-      throw new ComponentInfoAdapterException("Could not read Scancode JSON", e);
-    }
 
+    // the scancode JSON is not read here but will be parsed in a streaming way from the file
     ScancodeRawComponentInfo result = new ScancodeRawComponentInfo();
-    result.rawScancodeResult = scancodeString;
+    result.rawScancodeResultFile = scanCodeFile;
     addOriginData(packageUrl, result);
     return result;
   }
 
+  /**
+   * Determines the directory within the file repo which contains the data of the given package.
+   *
+   * @param packageUrl the identifier of the package
+   * @return the directory (which might not exist)
+   */
+  public File packageDirectory(PackageURL packageUrl) {
+
+    return new File(IOHelper.secureFilePath(this.repoBasePath, this.packageURLHandler.pathFor(packageUrl)));
+  }
+
+  /**
+   * Calculates a digest (SHA-256) over the raw data of the package as read by {@link #readScancodeData(PackageURL)}
+   * (the scancode file and the optional "package.yaml") and the settings of this provider which influence the
+   * returned data.
+   *
+   * @param packageUrl the identifier of the package
+   * @return the digest as hex string; <code>null</code> if there is no scancode data for the package
+   * @throws ComponentInfoAdapterException if the files could not be read
+   */
+  public String rawDataDigest(PackageURL packageUrl) throws ComponentInfoAdapterException {
+
+    File packageDirectory = packageDirectory(packageUrl);
+    File scanCodeFile = new File(packageDirectory, this.scancodeFileName);
+    if (!scanCodeFile.exists()) {
+      return null;
+    }
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    digest.update((this.scancodeFileName + "|" + this.maxContentFileSize + "|").getBytes(StandardCharsets.UTF_8));
+    try {
+      try (InputStream is = new FileInputStream(scanCodeFile)) {
+        DigestUtils.updateDigest(digest, is);
+      }
+      File originFile = new File(packageDirectory, "package.yaml");
+      if (originFile.exists()) {
+        digest.update("|package.yaml|".getBytes(StandardCharsets.UTF_8));
+        try (InputStream is = new FileInputStream(originFile)) {
+          DigestUtils.updateDigest(digest, is);
+        }
+      }
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not read scancode data for calculating digest", e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
   /**
    * Check if the unavailability of data is caused by previous failures when downloading of scanning the package
    * sources. This is done by testing if the marker files which indicate such failures exist.
@@ -223,11 +277,23 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
       LOG.info(LogMessages.CONTENT_FILE_TOO_LARGE.msg(), fullFilePathAndName, fileSize, this.maxContentFileSize);
       return null;
     }
+    if (lineInfo != null) {
+      try {
+        int[] lineRange = MultilineHelper.parseLineInfo(lineInfo);
+        return lineIndexFor(file).readLines(lineRange[0], lineRange[1]);
+      } catch (IOException e) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Could not retrieve content from file '" + fullFilePathAndName + "'", e);
+        }
+        LOG.info(LogMessages.FAILED_READING_FILE.msg(), fullFilePathAndName, e.getClass().getSimpleName());
+        return null;
+      }
+    }
     try (InputStream is = new FileInputStream(file); Scanner s = new Scanner(is)) {
       s.useDelimiter("\\A");
       String result = s.hasNext() ? s.next() : "";
 
-      return MultilineHelper.possiblyExtractLines(result, lineInfo);
+      return result;
     } catch (IOException e) {
       if (LOG.isDebugEnabled()) {
         LOG.debug("Could not retrieve content from file '" + fullFilePathAndName + "'", e);
@@ -237,6 +303,26 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
     return null;
   }
 
+  /**
+   * Gets the {@link FileLineIndex} of the given file. Indexes are cached so that repeatedly reading ranges of lines
+   * from the same file (e.g. a license file referenced by multiple license matches) only requires a single pass over
+   * the file for building the index.
+   *
+   * @param file the file
+   * @return the index
+   * @throws IOException if the file could not be read
+   */
+  private FileLineIndex lineIndexFor(File file) throws IOException {
+
+    String key = file.getPath();
+    FileLineIndex lineIndex = this.lineIndexCache.get(key);
+    if (lineIndex == null || !lineIndex.isUpToDate()) {
+      lineIndex = FileLineIndex.build(file);
+      this.lineIndexCache.put(key, lineIndex);
+    }
+    return lineIndex;
+  }
+
   @Override
   public boolean isLocalContentPath(PackageURL packageUrl, String path) {
 
@@ -1,8 +1,10 @@
 package com.devonfw.tools.solicitor.componentinfo.scancode;
 
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,7 +106,8 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
       ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson)
       throws ComponentInfoAdapterException, CurationInvalidException {
 
-    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, curationDataHandle);
+    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, rawScancodeData,
+        curationDataHandle);
     addSupplementedData(rawScancodeData, componentScancodeInfos);
     LOG.debug("Scancode info for package {}: {} license, {} copyrights, {} NOTICE files", packageUrl,
         componentScancodeInfos.getComponentInfoData().getLicenses().size(),
@@ -131,7 +134,9 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
    * Maps scancode JSON to create ScancodeComponentInfo.
    *
    * @param packageUrl the URL of the package for which Scancode data is being processed
-   * @param scancodeJson the parsed JSON data from Scancode results
+   * @param scancodeJson the parsed JSON data from Scancode results (possibly without the <code>files</code> array)
+   * @param rawScancodeData the raw Scancode data; used for streaming the <code>files</code> array if this is not
+   *        contained in <code>scancodeJson</code>
    * @param curationDataHandle identifies which source should be used for the curation data
    * @return the {@link ScancodeComponentInfo} containing the processed data
    * @throws ComponentInfoAdapterException if there is an issue with parsing the Scancode JSON or if a suitable provider
@@ -139,7 +144,8 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
    * @throws CurationInvalidException if the curation data is not valid or if there is an error applying curation data
    */
   private ScancodeComponentInfo mapScancodeJson(PackageURL packageUrl, JsonNode scancodeJson,
-      CurationDataHandle curationDataHandle) throws ComponentInfoAdapterException, CurationInvalidException {
+      ScancodeRawComponentInfo rawScancodeData, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
 
     String toolVersion = scancodeJson.get("headers").get(0).get("tool_version").asText();
     if (!accept(toolVersion)) {
@@ -170,143 +176,152 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
     }
 
     // Skip all files, whose path have a prefix which is in the excluded path list
-    for (JsonNode file : scancodeJson.get("files")) {
-      String path = file.get("path").asText();
-      if (isExcluded(path, excludedPaths)) {
-        // this is a curation operation, so set the status
-        componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-        continue;
-      }
-      if ("directory".equals(file.get("type").asText())) {
-        continue;
-      }
-      if (path.contains("/NOTICE")) {
-        scancodeComponentInfoData
-            .addNoticeFileUrl(this.fileScancodeRawComponentInfoProvider.pkgContentUriFromPath(packageUrl, path), 100.0);
-      }
-      double licenseTextRatio = file.get("percentage_of_license_text").asDouble();
-      boolean takeCompleteFile = licenseTextRatio >= this.licenseToTextRatioToTakeCompleteFile;
-      for (JsonNode cr : file.get("copyrights")) {
-        String copyright;
-        if (cr.has("copyright")) {
-          copyright = cr.get("copyright").asText();
-        } else {
-          copyright = cr.get("value").asText();
+    try (ScancodeJsonStreamParser.FileEntries files = ScancodeJsonStreamParser.fileEntries(scancodeJson,
+        rawScancodeData)) {
+      for (JsonNode file : files) {
+        String path = file.get("path").asText();
+        if (isExcluded(path, excludedPaths)) {
+          // this is a curation operation, so set the status
+          componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+          continue;
         }
-        String copyrightAfterCuration = getEffectiveCopyrightWithCuration(path, copyright, copyrightCurations);
-        if (copyrightAfterCuration != null) {
-          if (!copyrightAfterCuration.equals(copyright)) {
-            // the copyright info changed due to applying a curation, so set the status
-            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+        if ("directory".equals(file.get("type").asText())) {
+          continue;
+        }
+        if (path.contains("/NOTICE")) {
+          scancodeComponentInfoData.addNoticeFileUrl(
+              this.fileScancodeRawComponentInfoProvider.pkgContentUriFromPath(packageUrl, path), 100.0);
+        }
+        double licenseTextRatio = file.get("percentage_of_license_text").asDouble();
+        boolean takeCompleteFile = licenseTextRatio >= this.licenseToTextRatioToTakeCompleteFile;
+        for (JsonNode cr : file.get("copyrights")) {
+          String copyright;
+          if (cr.has("copyright")) {
+            copyright = cr.get("copyright").asText();
+          } else {
+            copyright = cr.get("value").asText();
           }
-          scancodeComponentInfoData.addCopyright(copyrightAfterCuration);
-        } else {
-          if (copyright != null) {
-            // the copyright info was removed due to applying a curation, so set the status
-            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+          String copyrightAfterCuration = getEffectiveCopyrightWithCuration(path, copyright, copyrightCurations);
+          if (copyrightAfterCuration != null) {
+            if (!copyrightAfterCuration.equals(copyright)) {
+              // the copyright info changed due to applying a curation, so set the status
+              componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+            }
+            scancodeComponentInfoData.addCopyright(copyrightAfterCuration);
+          } else {
+            if (copyright != null) {
+              // the copyright info was removed due to applying a curation, so set the status
+              componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
 
+            }
           }
         }
-      }
 
-      // special handling for Classpath-exception-2.0
-      Map<String, String> spdxIdMap = new HashMap<>();
-      boolean classPathExceptionExists = false;
-      int numberOfGplLicenses = 0;
-      for (JsonNode li : file.get("licenses")) {
-        LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, li, licenseCurations);
-        if (effective == null) {
-          // license finding to be REMOVED via finding
-          continue;
-        }
-        String licenseName = effective.license != null ? effective.license : li.get("spdx_license_key").asText();
+        // special handling for Classpath-exception-2.0
+        Map<String, String> spdxIdMap = new HashMap<>();
+        boolean classPathExceptionExists = false;
+        int numberOfGplLicenses = 0;
+        for (JsonNode li : file.get("licenses")) {
+          LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, li, licenseCurations);
+          if (effective == null) {
+            // license finding to be REMOVED via finding
+            continue;
+          }
+          String licenseName = effective.license != null ? effective.license : li.get("spdx_license_key").asText();
 
-        if ("Classpath-exception-2.0".equals(licenseName)) {
-          classPathExceptionExists = true;
-        }
-        if (!spdxIdMap.containsKey(licenseName)) {
-          spdxIdMap.put(licenseName, licenseName);
-          if (licenseName.startsWith("GPL")) {
-            numberOfGplLicenses++;
+          if ("Classpath-exception-2.0".equals(licenseName)) {
+            classPathExceptionExists = true;
           }
-        }
-      }
-      if (classPathExceptionExists) {
-        if (numberOfGplLicenses == 0) {
-          LOG.warn(LogMessages.CLASSPATHEXCEPTION_WITHOUT_GPL.msg(), packageUrl);
-        } else if (numberOfGplLicenses > 1) {
-          LOG.warn(LogMessages.CLASSPATHEXCEPTION_MULTIPLE_GPL.msg(), packageUrl);
-        } else {
-          LOG.debug("Adjusting GPL license to contain WITH Classpath-execption-2.0 for " + packageUrl);
-          for (String licenseName : spdxIdMap.keySet()) {
+          if (!spdxIdMap.containsKey(licenseName)) {
+            spdxIdMap.put(licenseName, licenseName);
             if (licenseName.startsWith("GPL")) {
-              spdxIdMap.put(licenseName, licenseName + " WITH Classpath-exception-2.0");
+              numberOfGplLicenses++;
             }
           }
-          // do not output the Classpath-exception-2.0 as separate License
-          spdxIdMap.remove("Classpath-exception-2.0");
         }
-      }
-      for (JsonNode li : file.get("licenses")) {
-        LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, li, licenseCurations);
-        if (effective == null) {
-          // license finding to be REMOVED via finding
-          // this is a curation operation, so set the status
-          componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-          continue;
-        }
-        if (effective.license != null || effective.url != null) {
-          // license or url are altered due to curation, so set the status
-          componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-        }
-        String licenseName = effective.license != null ? effective.license : li.get("spdx_license_key").asText();
-        String effectiveLicenseName = spdxIdMap.get(licenseName);
-        if (effectiveLicenseName == null) {
-          // not contained in map --> this must be the Classpath-exception-2.0
-          continue;
-        } else {
-          licenseName = effectiveLicenseName;
-        }
-        String licenseDefaultUrl = li.get("scancode_text_url").asText();
-        if (effective.url != null) {
-          licenseDefaultUrl = effective.url;
-        }
-        licenseDefaultUrl = normalizeLicenseUrl(packageUrl, licenseDefaultUrl);
-        double score = li.get("score").asDouble();
-        String licenseUrl = path;
-        int startLine = li.get("start_line").asInt();
-        int endLine = li.get("end_line").asInt();
-        if (!takeCompleteFile) {
-          licenseUrl += "#L" + startLine;
-          if (endLine != startLine) {
-            licenseUrl += "-L" + endLine;
+        if (classPathExceptionExists) {
+          if (numberOfGplLicenses == 0) {
+            LOG.warn(LogMessages.CLASSPATHEXCEPTION_WITHOUT_GPL.msg(), packageUrl);
+          } else if (numberOfGplLicenses > 1) {
+            LOG.warn(LogMessages.CLASSPATHEXCEPTION_MULTIPLE_GPL.msg(), packageUrl);
+          } else {
+            LOG.debug("Adjusting GPL license to contain WITH Classpath-execption-2.0 for " + packageUrl);
+            for (String licenseName : spdxIdMap.keySet()) {
+              if (licenseName.startsWith("GPL")) {
+                spdxIdMap.put(licenseName, licenseName + " WITH Classpath-exception-2.0");
+              }
+            }
+            // do not output the Classpath-exception-2.0 as separate License
+            spdxIdMap.remove("Classpath-exception-2.0");
           }
         }
-        if (effective.url != null) {
-          // curation redefined the license URL
-          licenseUrl = effective.url;
-          // enforce that the filescore always exceeds the threshold
-          startLine = 0;
-          endLine = Integer.MAX_VALUE;
-        }
+        for (JsonNode li : file.get("licenses")) {
+          LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, li, licenseCurations);
+          if (effective == null) {
+            // license finding to be REMOVED via finding
+            // this is a curation operation, so set the status
+            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+            continue;
+          }
+          if (effective.license != null || effective.url != null) {
+            // license or url are altered due to curation, so set the status
+            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+          }
+          String licenseName = effective.license != null ? effective.license : li.get("spdx_license_key").asText();
+          String effectiveLicenseName = spdxIdMap.get(licenseName);
+          if (effectiveLicenseName == null) {
+            // not contained in map --> this must be the Classpath-exception-2.0
+            continue;
+          } else {
+            licenseName = effectiveLicenseName;
+          }
+          String licenseDefaultUrl = li.get("scancode_text_url").asText();
+          if (effective.url != null) {
+            licenseDefaultUrl = effective.url;
+          }
+          licenseDefaultUrl = normalizeLicenseUrl(packageUrl, licenseDefaultUrl);
+          double score = li.get("score").asDouble();
+          String licenseUrl = path;
+          int startLine = li.get("start_line").asInt();
+          int endLine = li.get("end_line").asInt();
+          if (!takeCompleteFile) {
+            licenseUrl += "#L" + startLine;
+            if (endLine != startLine) {
+              licenseUrl += "-L" + endLine;
+            }
+          }
+          if (effective.url != null) {
+            // curation redefined the license URL
+            licenseUrl = effective.url;
+            // enforce that the filescore always exceeds the threshold
+            startLine = 0;
+            endLine = Integer.MAX_VALUE;
+          }
 
-        licenseUrl = normalizeLicenseUrl(packageUrl, licenseUrl);
-        String givenLicenseText = null;
-        if (licenseUrl != null) {
-          givenLicenseText = this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl, licenseUrl);
+          String normalizedLicenseUrl = normalizeLicenseUrl(packageUrl, licenseUrl);
+          // the license text is only read if it is needed
+          Supplier<String> givenLicenseText = null;
+          if (normalizedLicenseUrl != null) {
+            givenLicenseText = () -> this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl,
+                normalizedLicenseUrl);
+          }
+
+          scancodeComponentInfoData.addLicense(licenseName, licenseName, licenseDefaultUrl, score,
+              normalizedLicenseUrl, givenLicenseText, endLine - startLine);
         }
+        // do any per scanned file postprocessing
+        addCopyrightsByCuration(path, copyrightCurations, componentScancodeInfos);
+        addLicensesByCuration(packageUrl, path, licenseCurations, componentScancodeInfos);
 
-        scancodeComponentInfoData.addLicense(licenseName, licenseName, licenseDefaultUrl, score, licenseUrl,
-            givenLicenseText, endLine - startLine);
       }
-      // do any per scanned file postprocessing
-      addCopyrightsByCuration(path, copyrightCurations, componentScancodeInfos);
-      addLicensesByCuration(packageUrl, path, licenseCurations, componentScancodeInfos);
-
+    } catch (UncheckedIOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e.getCause());
     }
     // add copyrights / licenses due to curations on package level
     addCopyrightsByCuration(null, copyrightCurations, componentScancodeInfos);
     addLicensesByCuration(packageUrl, null, licenseCurations, componentScancodeInfos);
+    // now read the license texts of the findings which finally provide the license text
+    scancodeComponentInfoData.resolveLicenseTexts();
 
     if (scancodeComponentInfoData.getNoticeFileUrl() != null) {
       scancodeComponentInfoData.setNoticeFileContent(this.fileScancodeRawComponentInfoProvider
@@ -386,7 +401,8 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
                 license.license, license.url, path);
           }
           String licenseUrl = normalizeLicenseUrl(packageUrl, license.url);
-          String givenLicenseText = this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl, licenseUrl);
+          Supplier<String> givenLicenseText = () -> this.fileScancodeRawComponentInfoProvider
+              .retrieveContent(packageUrl, licenseUrl);
 
           componentScancodeInfos.getComponentInfoData().addLicense(license.license, license.license, license.url, 100,
               licenseUrl, givenLicenseText, Integer.MAX_VALUE);
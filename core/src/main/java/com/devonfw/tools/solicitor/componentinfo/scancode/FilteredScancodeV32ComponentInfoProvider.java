@@ -1,11 +1,14 @@
 package com.devonfw.tools.solicitor.componentinfo.scancode;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +40,35 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
 
   private static final Logger LOG = LoggerFactory.getLogger(FilteredScancodeV32ComponentInfoProvider.class);
 
+  /**
+   * The relevant data of a single license match (after applying license curations) of a scanned file.
+   */
+  private static final class LicenseMatch {
+
+    private final String spdxId;
+
+    private final String licenseName;
+
+    private final String curatedUrl;
+
+    private final double score;
+
+    private final int startLine;
+
+    private final int endLine;
+
+    private LicenseMatch(String spdxId, String licenseName, String curatedUrl, double score, int startLine,
+        int endLine) {
+
+      this.spdxId = spdxId;
+      this.licenseName = licenseName;
+      this.curatedUrl = curatedUrl;
+      this.score = score;
+      this.startLine = startLine;
+      this.endLine = endLine;
+    }
+  }
+
   private double minLicenseScore;
 
   private int minLicensefileNumberOfLines;
@@ -107,7 +139,8 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
       ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson)
       throws ComponentInfoAdapterException, CurationInvalidException {
 
-    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, curationDataHandle);
+    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, rawScancodeData,
+        curationDataHandle);
     addSupplementedData(rawScancodeData, componentScancodeInfos);
     LOG.debug("Scancode info for package {}: {} license, {} copyrights, {} NOTICE files", packageUrl,
         componentScancodeInfos.getComponentInfoData().getLicenses().size(),
@@ -134,7 +167,9 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
    * Maps scancode JSON to create ScancodeComponentInfo.
    *
    * @param packageUrl the URL of the package for which Scancode data is being processed
-   * @param scancodeJson the parsed JSON data from Scancode results
+   * @param scancodeJson the parsed JSON data from Scancode results (possibly without the <code>files</code> array)
+   * @param rawScancodeData the raw Scancode data; used for streaming the <code>files</code> array if this is not
+   *        contained in <code>scancodeJson</code>
    * @param curationDataHandle identifies which source should be used for the curation data
    * @return the {@link ScancodeComponentInfo} containing the processed data
    * @throws ComponentInfoAdapterException if there is an issue with parsing the Scancode JSON or if a suitable provider
@@ -142,7 +177,8 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
    * @throws CurationInvalidException if the curation data is not valid or if there is an error applying curation data
    */
   private ScancodeComponentInfo mapScancodeJson(PackageURL packageUrl, JsonNode scancodeJson,
-      CurationDataHandle curationDataHandle) throws ComponentInfoAdapterException, CurationInvalidException {
+      ScancodeRawComponentInfo rawScancodeData, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
 
     String toolVersion = scancodeJson.get("headers").get(0).get("tool_version").asText();
     if (!accept(toolVersion)) {
@@ -174,171 +210,170 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
     Map<String, JsonNode> licenseReferencesMap = createLicenseReferencesMap(scancodeJson);
 
     // Skip all files, whose path have a prefix which is in the excluded path list
-    for (JsonNode file : scancodeJson.get("files")) {
-      String path = file.get("path").asText();
-      if (isExcluded(path, excludedPaths)) {
-        // this is a curation operation, so set the status
-        componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-        continue;
-      }
-      if ("directory".equals(file.get("type").asText())) {
-        continue;
-      }
-      if (path.contains("/NOTICE")) {
-        scancodeComponentInfoData
-            .addNoticeFileUrl(this.fileScancodeRawComponentInfoProvider.pkgContentUriFromPath(packageUrl, path), 100.0);
-      }
-      double licenseTextRatio = file.get("percentage_of_license_text").asDouble();
-      boolean takeCompleteFile = licenseTextRatio >= this.licenseToTextRatioToTakeCompleteFile;
-      for (JsonNode cr : file.get("copyrights")) {
-        String copyright;
-        copyright = cr.get("copyright").asText();
-        String copyrightAfterCuration = getEffectiveCopyrightWithCuration(path, copyright, copyrightCurations);
-        if (copyrightAfterCuration != null) {
-          if (!copyrightAfterCuration.equals(copyright)) {
-            // the copyright info changed due to applying a curation, so set the status
-            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-          }
-          scancodeComponentInfoData.addCopyright(copyrightAfterCuration);
-        } else {
-          if (copyright != null) {
-            // the copyright info was removed due to applying a curation, so set the status
-            componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-
-          }
+    try (ScancodeJsonStreamParser.FileEntries files = ScancodeJsonStreamParser.fileEntries(scancodeJson,
+        rawScancodeData)) {
+      for (JsonNode file : files) {
+        String path = file.get("path").asText();
+        if (isExcluded(path, excludedPaths)) {
+          // this is a curation operation, so set the status
+          componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+          continue;
         }
-      }
-
-      // special handling for Classpath-exception-2.0
-      Map<String, String> spdxIdMap = new HashMap<>();
-      boolean classPathExceptionExists = false;
-      int numberOfGplLicenses = 0;
-      for (JsonNode ld : file.get("license_detections")) {
-        for (JsonNode ma : ld.get("matches")) {
-          String licenseExpression = ma.get("spdx_license_expression").asText();
-          String[] spdxIds = spdxIdsFromExpression(licenseExpression);
-          for (String spdxId : spdxIds) {
-            LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, ma, spdxId,
-                licenseCurations);
-            if (effective == null) {
-              // license finding to be REMOVED via finding
-              continue;
+        if ("directory".equals(file.get("type").asText())) {
+          continue;
+        }
+        if (path.contains("/NOTICE")) {
+          scancodeComponentInfoData.addNoticeFileUrl(
+              this.fileScancodeRawComponentInfoProvider.pkgContentUriFromPath(packageUrl, path), 100.0);
+        }
+        double licenseTextRatio = file.get("percentage_of_license_text").asDouble();
+        boolean takeCompleteFile = licenseTextRatio >= this.licenseToTextRatioToTakeCompleteFile;
+        for (JsonNode cr : file.get("copyrights")) {
+          String copyright;
+          copyright = cr.get("copyright").asText();
+          String copyrightAfterCuration = getEffectiveCopyrightWithCuration(path, copyright, copyrightCurations);
+          if (copyrightAfterCuration != null) {
+            if (!copyrightAfterCuration.equals(copyright)) {
+              // the copyright info changed due to applying a curation, so set the status
+              componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
             }
-            String licenseName = effective.license != null ? effective.license : spdxId;
+            scancodeComponentInfoData.addCopyright(copyrightAfterCuration);
+          } else {
+            if (copyright != null) {
+              // the copyright info was removed due to applying a curation, so set the status
+              componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
 
-            if ("Classpath-exception-2.0".equals(licenseName)) {
-              classPathExceptionExists = true;
-            }
-            if (!spdxIdMap.containsKey(licenseName)) {
-              spdxIdMap.put(licenseName, licenseName);
-              if (licenseName.startsWith("GPL")) {
-                numberOfGplLicenses++;
-              }
             }
           }
         }
-      }
-      if (classPathExceptionExists) {
-        if (numberOfGplLicenses == 0) {
-          LOG.warn(LogMessages.CLASSPATHEXCEPTION_WITHOUT_GPL.msg(), packageUrl);
-        } else if (numberOfGplLicenses > 1) {
-          LOG.warn(LogMessages.CLASSPATHEXCEPTION_MULTIPLE_GPL.msg(), packageUrl);
-        } else {
-          LOG.debug("Adjusting GPL license to contain WITH Classpath-execption-2.0 for " + packageUrl);
-          for (String licenseName : spdxIdMap.keySet()) {
-            if (licenseName.startsWith("GPL")) {
-              spdxIdMap.put(licenseName, licenseName + " WITH Classpath-exception-2.0");
+
+        // single pass over all matches: collect the license names for the special handling of
+        // Classpath-exception-2.0 and buffer the matches which belong to the current path
+        Map<String, String> spdxIdMap = new HashMap<>();
+        boolean classPathExceptionExists = false;
+        int numberOfGplLicenses = 0;
+        List<LicenseMatch> licenseMatches = new ArrayList<>();
+        for (JsonNode ld : file.get("license_detections")) {
+          for (JsonNode ma : ld.get("matches")) {
+            String licenseExpression = ma.get("spdx_license_expression").asText();
+            String currentMatchPath = ma.get("from_file").asText();
+            // the matches array might list matches which do not belong to the current path. Those are only
+            // considered for the Classpath-exception-2.0 handling. Probably those matches are referenced files.
+            boolean belongsToPath = path.equals(currentMatchPath);
+            if (!belongsToPath) {
+              LOG.debug(
+                  "The license expression match for '{}' in file '{}' "
+                      + "does not belong to the current path '{}' and will be ignored",
+                  licenseExpression, currentMatchPath, path);
             }
-          }
-          // do not output the Classpath-exception-2.0 as separate License
-          spdxIdMap.remove("Classpath-exception-2.0");
-        }
-      }
-      for (JsonNode ld : file.get("license_detections")) {
-        for (JsonNode ma : ld.get("matches")) {
-
-          String licenseExpression = ma.get("spdx_license_expression").asText();
-          String currentMatchPath = ma.get("from_file").asText();
-          if (!path.equals(currentMatchPath)) {
-            // the matches array might list matches which do not belong to the current path.
-            // We skip those items. Probably those matches are referenced files.
-            LOG.debug(
-                "The license expression match for '{}' in file '{}' "
-                    + "does not belong to the current path '{}' and will be ignored",
-                licenseExpression, currentMatchPath, path);
-          } else {
             String[] spdxIds = spdxIdsFromExpression(licenseExpression);
             for (String spdxId : spdxIds) {
               LicenseCuration.NewLicenseData effective = getEffectiveLicenseInfoWithCuration(path, ma, spdxId,
                   licenseCurations);
               if (effective == null) {
                 // license finding to be REMOVED via finding
-                // this is a curation operation, so set the status
-                componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+                if (belongsToPath) {
+                  // this is a curation operation, so set the status
+                  componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+                }
                 continue;
               }
-              if (effective.license != null || effective.url != null) {
-                // license or url are altered due to curation, so set the status
-                componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-              }
               String licenseName = effective.license != null ? effective.license : spdxId;
-              String effectiveLicenseName = spdxIdMap.get(licenseName);
-              if (effectiveLicenseName == null) {
-                // not contained in map --> this must be the Classpath-exception-2.0
-                continue;
-              } else {
-                licenseName = effectiveLicenseName;
-              }
-              // get the default license Url
-              String licenseDefaultUrl = null;
-              JsonNode licenseReference = licenseReferencesMap.get(spdxId);
-              if (licenseReference != null) {
-                licenseDefaultUrl = licenseReference.get("scancode_url").asText();
-              }
-              if (effective.url != null) {
-                licenseDefaultUrl = effective.url;
+
+              if ("Classpath-exception-2.0".equals(licenseName)) {
+                classPathExceptionExists = true;
               }
-              licenseDefaultUrl = normalizeLicenseUrl(packageUrl, licenseDefaultUrl);
-              double score = ma.get("score").asDouble();
-              String licenseUrl = path;
-              int startLine = ma.get("start_line").asInt();
-              int endLine = ma.get("end_line").asInt();
-              if (!takeCompleteFile) {
-                licenseUrl += "#L" + startLine;
-                if (endLine != startLine) {
-                  licenseUrl += "-L" + endLine;
+              if (!spdxIdMap.containsKey(licenseName)) {
+                spdxIdMap.put(licenseName, licenseName);
+                if (licenseName.startsWith("GPL")) {
+                  numberOfGplLicenses++;
                 }
               }
-              if (effective.url != null) {
-                // curation redefined the license URL
-                licenseUrl = effective.url;
-                // enforce that the filescore always exceeds the threshold
-                startLine = 0;
-                endLine = Integer.MAX_VALUE;
+              if (belongsToPath) {
+                if (effective.license != null || effective.url != null) {
+                  // license or url are altered due to curation, so set the status
+                  componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
+                }
+                licenseMatches.add(new LicenseMatch(spdxId, licenseName, effective.url, ma.get("score").asDouble(),
+                    ma.get("start_line").asInt(), ma.get("end_line").asInt()));
               }
-
-              licenseUrl = normalizeLicenseUrl(packageUrl, licenseUrl);
-              String givenLicenseText = null;
-              if (licenseUrl != null) {
-                givenLicenseText = this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl, licenseUrl);
+            }
+          }
+        }
+        if (classPathExceptionExists) {
+          if (numberOfGplLicenses == 0) {
+            LOG.warn(LogMessages.CLASSPATHEXCEPTION_WITHOUT_GPL.msg(), packageUrl);
+          } else if (numberOfGplLicenses > 1) {
+            LOG.warn(LogMessages.CLASSPATHEXCEPTION_MULTIPLE_GPL.msg(), packageUrl);
+          } else {
+            LOG.debug("Adjusting GPL license to contain WITH Classpath-execption-2.0 for " + packageUrl);
+            for (String licenseName : spdxIdMap.keySet()) {
+              if (licenseName.startsWith("GPL")) {
+                spdxIdMap.put(licenseName, licenseName + " WITH Classpath-exception-2.0");
               }
-
-              scancodeComponentInfoData.addLicense(licenseName, licenseName, licenseDefaultUrl, score, licenseUrl,
-                  givenLicenseText, endLine - startLine);
             }
+            // do not output the Classpath-exception-2.0 as separate License
+            spdxIdMap.remove("Classpath-exception-2.0");
           }
         }
+        for (LicenseMatch licenseMatch : licenseMatches) {
+          String licenseName = spdxIdMap.get(licenseMatch.licenseName);
+          if (licenseName == null) {
+            // not contained in map --> this must be the Classpath-exception-2.0
+            continue;
+          }
+          // get the default license Url
+          String licenseDefaultUrl = null;
+          JsonNode licenseReference = licenseReferencesMap.get(licenseMatch.spdxId);
+          if (licenseReference != null) {
+            licenseDefaultUrl = licenseReference.get("scancode_url").asText();
+          }
+          if (licenseMatch.curatedUrl != null) {
+            licenseDefaultUrl = licenseMatch.curatedUrl;
+          }
+          licenseDefaultUrl = normalizeLicenseUrl(packageUrl, licenseDefaultUrl);
+          String licenseUrl = path;
+          int startLine = licenseMatch.startLine;
+          int endLine = licenseMatch.endLine;
+          if (!takeCompleteFile) {
+            licenseUrl += "#L" + startLine;
+            if (endLine != startLine) {
+              licenseUrl += "-L" + endLine;
+            }
+          }
+          if (licenseMatch.curatedUrl != null) {
+            // curation redefined the license URL
+            licenseUrl = licenseMatch.curatedUrl;
+            // enforce that the filescore always exceeds the threshold
+            startLine = 0;
+            endLine = Integer.MAX_VALUE;
+          }
 
-      }
+          String normalizedLicenseUrl = normalizeLicenseUrl(packageUrl, licenseUrl);
+          // the license text is only read if it is needed
+          Supplier<String> givenLicenseText = null;
+          if (normalizedLicenseUrl != null) {
+            givenLicenseText = () -> this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl,
+                normalizedLicenseUrl);
+          }
 
-      // do any per scanned file postprocessing
-      addCopyrightsByCuration(path, copyrightCurations, componentScancodeInfos);
-      addLicensesByCuration(packageUrl, path, licenseCurations, componentScancodeInfos);
+          scancodeComponentInfoData.addLicense(licenseName, licenseName, licenseDefaultUrl, licenseMatch.score,
+              normalizedLicenseUrl, givenLicenseText, endLine - startLine);
+        }
+
+        // do any per scanned file postprocessing
+        addCopyrightsByCuration(path, copyrightCurations, componentScancodeInfos);
+        addLicensesByCuration(packageUrl, path, licenseCurations, componentScancodeInfos);
 
+      }
+    } catch (UncheckedIOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e.getCause());
     }
     // add copyrights / licenses due to curations on package level
     addCopyrightsByCuration(null, copyrightCurations, componentScancodeInfos);
     addLicensesByCuration(packageUrl, null, licenseCurations, componentScancodeInfos);
+    // now read the license texts of the findings which finally provide the license text
+    scancodeComponentInfoData.resolveLicenseTexts();
 
     if (scancodeComponentInfoData.getNoticeFileUrl() != null) {
       scancodeComponentInfoData.setNoticeFileContent(this.fileScancodeRawComponentInfoProvider
@@ -457,7 +492,8 @@ public class FilteredScancodeV32ComponentInfoProvider implements FilteredScancod
                 license.license, license.url, path);
           }
           String licenseUrl = normalizeLicenseUrl(packageUrl, license.url);
-          String givenLicenseText = this.fileScancodeRawComponentInfoProvider.retrieveContent(packageUrl, licenseUrl);
+          Supplier<String> givenLicenseText = () -> this.fileScancodeRawComponentInfoProvider
+              .retrieveContent(packageUrl, licenseUrl);
 
           componentScancodeInfos.getComponentInfoData().addLicense(license.license, license.license, license.url, 100,
               licenseUrl, givenLicenseText, Integer.MAX_VALUE);
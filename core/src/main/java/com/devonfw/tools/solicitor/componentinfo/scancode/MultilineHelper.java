@@ -11,6 +11,8 @@ import java.util.regex.Pattern;
  */
 public class MultilineHelper {
 
+  private static final Pattern LINE_INFO_PATTERN = Pattern.compile("#L(\\d+)(-L(\\d+))?");
+
   /**
    * Constructor. Prevents instantiation.
    *
@@ -32,19 +34,32 @@ public class MultilineHelper {
     if (lineInfo == null) {
       return input;
     }
-    Pattern pattern = Pattern.compile("#L(\\d+)(-L(\\d+))?");
-    Matcher matcher = pattern.matcher(lineInfo);
+    int[] lineRange = parseLineInfo(lineInfo);
+    int startLine = lineRange[0];
+    int endLine = lineRange[1];
+    String[] splitted = input.split("\\n");
+    StringBuffer result = new StringBuffer();
+    for (int i = 0; i < splitted.length; i++) {
+      if (i + 1 >= startLine && i + 1 <= endLine) {
+        result.append(splitted[i]).append("\n");
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Parses the given line info.
+   *
+   * @param lineInfo lines to extract, given as <code>#L17-L20</code> or <code>#L17</code>
+   * @return array containing the first and the last line (inclusive, starting with 1)
+   */
+  public static int[] parseLineInfo(String lineInfo) {
+
+    Matcher matcher = LINE_INFO_PATTERN.matcher(lineInfo);
     if (matcher.find()) {
       int startLine = Integer.parseInt(matcher.group(1));
       int endLine = Integer.parseInt(matcher.group(3) != null ? matcher.group(3) : matcher.group(1));
-      String[] splitted = input.split("\\n");
-      StringBuffer result = new StringBuffer();
-      for (int i = 0; i < splitted.length; i++) {
-        if (i + 1 >= startLine && i + 1 <= endLine) {
-          result.append(splitted[i]).append("\n");
-        }
-      }
-      return result.toString();
+      return new int[] { startLine, endLine };
     } else {
       throw new IllegalStateException("Regex did not find line info - this seems to be a bug.");
     }
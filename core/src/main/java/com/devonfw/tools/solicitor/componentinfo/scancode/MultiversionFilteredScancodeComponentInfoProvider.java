@@ -10,10 +10,7 @@ import com.devonfw.tools.solicitor.componentinfo.DataStatusValue;
 import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoImpl;
 import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
 import com.devonfw.tools.solicitor.componentinfo.curation.FilteredComponentInfoProvider;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.packageurl.PackageURL;
 
 /**
@@ -24,8 +21,6 @@ import com.github.packageurl.PackageURL;
 @Component
 public class MultiversionFilteredScancodeComponentInfoProvider implements FilteredComponentInfoProvider {
 
-  private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-
   private FilteredScancodeVersionComponentInfoProvider[] filteredScancodeVersionComponentInfoProviders;
 
   private ScancodeRawComponentInfoProvider rawComponentInfoProvider;
@@ -76,19 +71,16 @@ public class MultiversionFilteredScancodeComponentInfoProvider implements Filter
   }
 
   /**
-   * Parses the Scancode JSON data from the raw component information.
+   * Parses the Scancode JSON data from the raw component information. The <code>files</code> array is skipped; its
+   * entries will be parsed one at a time when processing them (see {@link ScancodeJsonStreamParser}).
    *
    * @param rawScancodeData the raw Scancode data containing JSON results.
-   * @return the parsed {@link JsonNode} from the Scancode JSON data.
+   * @return the parsed {@link JsonNode} from the Scancode JSON data (without the <code>files</code> array).
    * @throws ComponentInfoAdapterException if an error occurs while parsing the JSON data.
    */
   private JsonNode parseScancodeJson(ScancodeRawComponentInfo rawScancodeData) throws ComponentInfoAdapterException {
 
-    try {
-      return mapper.readTree(rawScancodeData.rawScancodeResult);
-    } catch (JsonProcessingException e) {
-      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e);
-    }
+    return ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
   }
 
   /**
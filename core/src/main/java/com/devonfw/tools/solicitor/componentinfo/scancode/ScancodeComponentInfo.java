@@ -8,6 +8,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfoData;
@@ -19,8 +20,33 @@ import com.github.packageurl.PackageURL;
  */
 public class ScancodeComponentInfo implements ComponentInfo {
 
+  /**
+   * A possible license text of a license together with the URL it is taken from. The text itself is only retrieved
+   * when required.
+   */
+  private static class LicenseTextCandidate {
+
+    private final String licenseUrl;
+
+    private final Supplier<String> licenseText;
+
+    private final int fileScore;
+
+    private LicenseTextCandidate(String licenseUrl, Supplier<String> licenseText, int fileScore) {
+
+      this.licenseUrl = licenseUrl;
+      this.licenseText = licenseText;
+      this.fileScore = fileScore;
+    }
+  }
+
   /**
    * Holds the info about a single found license.
+   * <p>
+   * The given license text is determined lazily: all findings which might provide the license text are kept as
+   * {@link LicenseTextCandidate}s and only when the license text (or license URL / file score) is requested the text of
+   * the best candidate is retrieved. Only if this text is empty the next best candidate is tried. The result is the
+   * same as if the texts of all findings had been retrieved upfront.
    */
   public class ScancodeLicenseInfo implements LicenseInfo {
 
@@ -54,6 +80,22 @@ public class ScancodeComponentInfo implements ComponentInfo {
      */
     private int licenseFileScore;
 
+    /**
+     * The URL of the generic license text; used if there is no suitable license file.
+     */
+    private String defaultUrl;
+
+    /**
+     * Candidates for the given license text in order of decreasing file score (first found wins if equal).
+     */
+    private List<LicenseTextCandidate> candidates = new ArrayList<>();
+
+    /**
+     * Indicates whether {@link #licenseUrl}, {@link #givenLicenseText} and {@link #licenseFileScore} reflect the
+     * current {@link #candidates}.
+     */
+    private boolean resolved;
+
     /**
      * The constructor.
      *
@@ -73,6 +115,7 @@ public class ScancodeComponentInfo implements ComponentInfo {
       this.id = id;
       this.spdxid = spdxid;
       this.licenseScore = licenseScore;
+      this.defaultUrl = defaultUrl;
       if (licenseFileScore >= minLicensefileNumberOfLines) {
         this.licenseUrl = licenseUrl;
         this.licenseFileScore = licenseFileScore;
@@ -81,6 +124,92 @@ public class ScancodeComponentInfo implements ComponentInfo {
         this.licenseUrl = defaultUrl;
         this.licenseFileScore = 0;
       }
+      resetCandidates();
+    }
+
+    /**
+     * Constructor for a license info whose license text will be determined from the candidates added via
+     * {@link #addFinding(String, String, String, double, String, Supplier, int, int)}.
+     *
+     * @param id the id
+     * @param spdxid the spdx id
+     * @param defaultUrl the default URL of the license text
+     * @param licenseScore the score for the license
+     */
+    private ScancodeLicenseInfo(String id, String spdxid, String defaultUrl, double licenseScore) {
+
+      this.id = id;
+      this.spdxid = spdxid;
+      this.defaultUrl = defaultUrl;
+      this.licenseScore = licenseScore;
+    }
+
+    /**
+     * Merges a further finding of this license. The license text of the finding is not retrieved here.
+     *
+     * @param newId the id
+     * @param newSpdxid the spdx id
+     * @param newDefaultUrl the default URL of the license text
+     * @param score the score of the license finding
+     * @param filePath path to the license file
+     * @param licenseText supplies the license text of the finding (might be <code>null</code>)
+     * @param fileScore the score of the license file - number of lines with license info
+     * @param minLicensefileNumberOfLines the minimum number of lines to accept the given text as license text
+     */
+    private void addFinding(String newId, String newSpdxid, String newDefaultUrl, double score, String filePath,
+        Supplier<String> licenseText, int fileScore, int minLicensefileNumberOfLines) {
+
+      this.id = newId;
+      this.spdxid = newSpdxid;
+      this.defaultUrl = newDefaultUrl;
+      this.licenseScore = Math.max(this.licenseScore, score);
+      this.resolved = false;
+      if (licenseText == null || fileScore < minLicensefileNumberOfLines) {
+        // the text would never be taken
+        return;
+      }
+      int index = this.candidates.size();
+      while (index > 0 && this.candidates.get(index - 1).fileScore < fileScore) {
+        index--;
+      }
+      this.candidates.add(index, new LicenseTextCandidate(filePath, licenseText, fileScore));
+    }
+
+    /**
+     * Determines license URL, text and file score from the best candidate with non empty license text. If no such
+     * candidate exists the default URL is taken.
+     */
+    private void resolve() {
+
+      if (this.resolved) {
+        return;
+      }
+      this.licenseUrl = this.defaultUrl;
+      this.givenLicenseText = null;
+      this.licenseFileScore = 0;
+      for (LicenseTextCandidate candidate : this.candidates) {
+        String text = candidate.licenseText.get();
+        if (text != null && !text.isEmpty()) {
+          this.licenseUrl = candidate.licenseUrl;
+          this.givenLicenseText = text;
+          this.licenseFileScore = candidate.fileScore;
+          break;
+        }
+      }
+      resetCandidates();
+    }
+
+    /**
+     * Replaces the candidates by the currently set license text (if any) and marks this object as resolved.
+     */
+    private void resetCandidates() {
+
+      this.candidates = new ArrayList<>();
+      if (this.licenseFileScore > 0) {
+        String text = this.givenLicenseText;
+        this.candidates.add(new LicenseTextCandidate(this.licenseUrl, () -> text, this.licenseFileScore));
+      }
+      this.resolved = true;
     }
 
     /**
@@ -114,6 +243,7 @@ public class ScancodeComponentInfo implements ComponentInfo {
     @Override
     public String getLicenseUrl() {
 
+      resolve();
       return this.licenseUrl;
     }
 
@@ -123,6 +253,7 @@ public class ScancodeComponentInfo implements ComponentInfo {
     @Override
     public String getGivenLicenseText() {
 
+      resolve();
       return this.givenLicenseText;
     }
 
@@ -131,6 +262,7 @@ public class ScancodeComponentInfo implements ComponentInfo {
      */
     public int getLicenseFileScore() {
 
+      resolve();
       return this.licenseFileScore;
     }
 
@@ -163,7 +295,9 @@ public class ScancodeComponentInfo implements ComponentInfo {
      */
     public void setLicenseUrl(String licenseUrl) {
 
+      resolve();
       this.licenseUrl = licenseUrl;
+      resetCandidates();
     }
 
     /**
@@ -171,7 +305,9 @@ public class ScancodeComponentInfo implements ComponentInfo {
      */
     public void setGivenLicenseText(String givenLicenseText) {
 
+      resolve();
       this.givenLicenseText = givenLicenseText;
+      resetCandidates();
     }
 
     /**
@@ -179,7 +315,9 @@ public class ScancodeComponentInfo implements ComponentInfo {
      */
     public void setLicenseFileScore(int licenseFileScore) {
 
+      resolve();
       this.licenseFileScore = licenseFileScore;
+      resetCandidates();
     }
 
   }
@@ -265,29 +403,49 @@ public class ScancodeComponentInfo implements ComponentInfo {
     public void addLicense(String licenseId, String licenseName, String licenseDefaultUrl, double score,
         String filePath, String givenLicenseText, int fileScore) {
 
-      if (this.licenses.containsKey(licenseId)) {
-        ScancodeLicenseInfo existingLicenseInfo = this.licenses.get(licenseId);
-
-        double resultingScore = Math.max(existingLicenseInfo.getLicenseScore(), score);
-        String resultingFilePath = existingLicenseInfo.getLicenseUrl();
-        String resultingGivenText = existingLicenseInfo.getGivenLicenseText();
-        int resultingFileScore = existingLicenseInfo.getLicenseFileScore();
-        if (fileScore > existingLicenseInfo.getLicenseFileScore() && givenLicenseText != null
-            && !givenLicenseText.isEmpty()) {
-          resultingFilePath = filePath;
-          resultingFileScore = fileScore;
-          resultingGivenText = givenLicenseText;
-        }
-        this.licenses.put(licenseId, new ScancodeLicenseInfo(licenseId, licenseName, licenseDefaultUrl, resultingScore,
-            resultingFilePath, resultingGivenText, resultingFileScore, this.minLicensefileNumberOfLines));
+      addLicense(licenseId, licenseName, licenseDefaultUrl, score, filePath, () -> givenLicenseText, fileScore);
+    }
 
-      } else {
-        if (score >= this.minLicenseScore) {
-          this.licenses.put(licenseId,
-              new ScancodeLicenseInfo(licenseId, licenseName, licenseDefaultUrl, score, filePath, givenLicenseText,
-                  (givenLicenseText != null && !givenLicenseText.isEmpty()) ? fileScore : 0,
-                  this.minLicensefileNumberOfLines));
+    /**
+     * Adds a license or updates the information if the relevant scores exceed the required thresholds and the score is
+     * better than the score of already existing information. In contrast to
+     * {@link #addLicense(String, String, String, double, String, String, int)} the license text is given as a
+     * {@link Supplier} which is only called if the text is really needed, which is at most once and typically only for
+     * the finding which finally provides the license text. This avoids reading license texts which are discarded
+     * anyway. The text is resolved at the latest when the license data is accessed or when
+     * {@link #resolveLicenseTexts()} is called.
+     *
+     * @param licenseId the license id
+     * @param licenseName the name of the license (SPDS-ID)
+     * @param licenseDefaultUrl the url of the generic license text
+     * @param score the score of the license finding
+     * @param filePath path to the license file
+     * @param givenLicenseText supplies the license text (might be <code>null</code> if there is no license text)
+     * @param fileScore score of the license file - measured as number of lines which were detected as license text
+     */
+    public void addLicense(String licenseId, String licenseName, String licenseDefaultUrl, double score,
+        String filePath, Supplier<String> givenLicenseText, int fileScore) {
+
+      ScancodeLicenseInfo licenseInfo = this.licenses.get(licenseId);
+      if (licenseInfo == null) {
+        if (score < this.minLicenseScore) {
+          return;
         }
+        licenseInfo = new ScancodeLicenseInfo(licenseId, licenseName, licenseDefaultUrl, score);
+        this.licenses.put(licenseId, licenseInfo);
+      }
+      licenseInfo.addFinding(licenseId, licenseName, licenseDefaultUrl, score, filePath, givenLicenseText, fileScore,
+          this.minLicensefileNumberOfLines);
+    }
+
+    /**
+     * Retrieves the license texts for all licenses which were added via
+     * {@link #addLicense(String, String, String, double, String, Supplier, int)} and not yet resolved.
+     */
+    public void resolveLicenseTexts() {
+
+      for (ScancodeLicenseInfo licenseInfo : this.licenses.values()) {
+        licenseInfo.resolve();
       }
     }
 
@@ -10,8 +10,12 @@ import org.springframework.stereotype.Component;
 import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapter;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.CurationDataHandle;
 import com.devonfw.tools.solicitor.componentinfo.curation.ComponentInfoCurator;
 import com.devonfw.tools.solicitor.componentinfo.curation.CuratingComponentInfoAdapter;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.github.packageurl.PackageURL;
 
 /**
  * Adapter for providing curated {@link ComponentInfo} based on Scancode data.
@@ -26,6 +30,8 @@ public class ScancodeComponentInfoAdapter extends CuratingComponentInfoAdapter {
 
   private boolean featureLogged = false;
 
+  private ScancodeComponentInfoResultCache resultCache;
+
   /**
    * The constructor.
    *
@@ -51,6 +57,42 @@ public class ScancodeComponentInfoAdapter extends CuratingComponentInfoAdapter {
     this.featureFlag = featureFlag;
   }
 
+  /**
+   * Sets the cache for the curated component information.
+   *
+   * @param resultCache the cache; if <code>null</code> or not enabled nothing will be cached
+   */
+  @Autowired(required = false)
+  public void setResultCache(ScancodeComponentInfoResultCache resultCache) {
+
+    this.resultCache = resultCache;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * If the {@link ScancodeComponentInfoResultCache} is enabled the result is taken from the cache if none of the
+   * inputs changed. Otherwise the result is determined and written to the cache.
+   */
+  @Override
+  protected ComponentInfo getCuratedComponentInfo(PackageURL packageUrl, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
+
+    if (this.resultCache == null || !this.resultCache.isEnabled()) {
+      return super.getCuratedComponentInfo(packageUrl, curationDataHandle);
+    }
+    String digest = this.resultCache.inputDigest(packageUrl, curationDataHandle);
+    if (digest == null) {
+      return super.getCuratedComponentInfo(packageUrl, curationDataHandle);
+    }
+    ComponentInfo componentInfo = this.resultCache.read(packageUrl, digest);
+    if (componentInfo == null) {
+      componentInfo = super.getCuratedComponentInfo(packageUrl, curationDataHandle);
+      this.resultCache.write(packageUrl, digest, componentInfo);
+    }
+    return componentInfo;
+  }
+
   @Override
   protected boolean isFeatureActive() {
 
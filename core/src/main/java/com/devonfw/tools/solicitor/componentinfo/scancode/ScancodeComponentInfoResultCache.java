@@ -0,0 +1,305 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoData;
+import com.devonfw.tools.solicitor.componentinfo.CurationDataHandle;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoDataImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultLicenseInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.LicenseInfo;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationProvider;
+import com.devonfw.tools.solicitor.componentinfo.curation.model.ComponentInfoCuration;
+import com.devonfw.tools.solicitor.lifecycle.AbstractSolicitorLifecycleListener;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.packageurl.PackageURL;
+
+/**
+ * Persistent cache for the curated {@link ComponentInfo} as determined by the {@link ScancodeComponentInfoAdapter}.
+ * The result for each package is stored in a file within the directory of the package in the scancode file repo.
+ * <p>
+ * Each cache entry is keyed by a digest of all inputs which determine the result: the scancode file and
+ * "package.yaml" (see {@link FileScancodeRawComponentInfoProvider#rawDataDigest(PackageURL)}), the effective curation
+ * of the package, the filter settings and the version of Solicitor. If any of these changes the cache entry is no
+ * longer valid and the data will be determined (and cached) again.
+ * <p>
+ * The cache is only active if property <code>solicitor.scancode.result-cache.enabled</code> is set to
+ * <code>true</code>. This class is thread safe.
+ */
+@Component
+public class ScancodeComponentInfoResultCache extends AbstractSolicitorLifecycleListener {
+
+  /**
+   * The name of the cache file within the package directory.
+   */
+  public static final String CACHE_FILE_NAME = "solicitor-componentinfo-cache.json";
+
+  private static final Logger LOG = LoggerFactory.getLogger(ScancodeComponentInfoResultCache.class);
+
+  private static final ObjectMapper mapper = new ObjectMapper()
+      .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+  private final FileScancodeRawComponentInfoProvider fileScancodeRawComponentInfoProvider;
+
+  private final CurationProvider curationProvider;
+
+  private SolicitorVersion solicitorVersion;
+
+  private boolean enabled;
+
+  private double minLicenseScore;
+
+  private int minLicensefileNumberOfLines;
+
+  private final AtomicInteger hits = new AtomicInteger();
+
+  private final AtomicInteger misses = new AtomicInteger();
+
+  /**
+   * The constructor.
+   *
+   * @param fileScancodeRawComponentInfoProvider the provider of the raw scancode data
+   * @param curationProvider the provider of the curations
+   */
+  @Autowired
+  public ScancodeComponentInfoResultCache(FileScancodeRawComponentInfoProvider fileScancodeRawComponentInfoProvider,
+      CurationProvider curationProvider) {
+
+    this.fileScancodeRawComponentInfoProvider = fileScancodeRawComponentInfoProvider;
+    this.curationProvider = curationProvider;
+  }
+
+  /**
+   * Sets the {@link SolicitorVersion}. Cache entries written by other versions of Solicitor are not used.
+   *
+   * @param solicitorVersion the version
+   */
+  @Autowired
+  public void setSolicitorVersion(SolicitorVersion solicitorVersion) {
+
+    this.solicitorVersion = solicitorVersion;
+  }
+
+  /**
+   * Activates or deactivates the cache.
+   *
+   * @param enabled <code>true</code> to activate the cache
+   */
+  @Value("${solicitor.scancode.result-cache.enabled:false}")
+  public void setEnabled(boolean enabled) {
+
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return <code>true</code> if the cache is active
+   */
+  public boolean isEnabled() {
+
+    return this.enabled;
+  }
+
+  /**
+   * Sets the minimum license score as used by the filtering of the scancode data.
+   *
+   * @param minLicenseScore the minimum license score
+   */
+  @Value("${solicitor.scancode.min-license-score}")
+  public void setMinLicenseScore(double minLicenseScore) {
+
+    this.minLicenseScore = minLicenseScore;
+  }
+
+  /**
+   * Sets the minimum number of lines of license files as used by the filtering of the scancode data.
+   *
+   * @param minLicensefileNumberOfLines the minimum number of lines
+   */
+  @Value("${solicitor.scancode.min-licensefile-number-of-lines}")
+  public void setMinLicensefileNumberOfLines(int minLicensefileNumberOfLines) {
+
+    this.minLicensefileNumberOfLines = minLicensefileNumberOfLines;
+  }
+
+  /**
+   * Calculates the digest of all inputs which determine the curated {@link ComponentInfo} of the package.
+   *
+   * @param packageUrl the identifier of the package
+   * @param curationDataHandle identifies which source should be used for the curation data
+   * @return the digest; <code>null</code> if there is no scancode data for the package, in which case the result
+   *         should not be cached
+   * @throws ComponentInfoAdapterException if the data could not be read
+   * @throws CurationInvalidException if the curation data is not valid
+   */
+  public String inputDigest(PackageURL packageUrl, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
+
+    String rawDataDigest = this.fileScancodeRawComponentInfoProvider.rawDataDigest(packageUrl);
+    if (rawDataDigest == null) {
+      return null;
+    }
+    ComponentInfoCuration curation = this.curationProvider.findCurations(packageUrl, curationDataHandle);
+    String curationJson;
+    try {
+      curationJson = mapper.writeValueAsString(curation);
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not serialize curation for calculating digest", e);
+    }
+    String version = this.solicitorVersion != null
+        ? this.solicitorVersion.getVersion() + "/" + this.solicitorVersion.getGithash()
+        : "";
+    String inputs = String.join("|", version, rawDataDigest, Double.toString(this.minLicenseScore),
+        Integer.toString(this.minLicensefileNumberOfLines), curationJson);
+    return DigestUtils.sha256Hex(inputs.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads the cached {@link ComponentInfo} of the package.
+   *
+   * @param packageUrl the identifier of the package
+   * @param digest the digest of the inputs as calculated by {@link #inputDigest(PackageURL, CurationDataHandle)}
+   * @return the cached {@link ComponentInfo}; <code>null</code> if there is no valid cache entry for the given digest
+   */
+  public ComponentInfo read(PackageURL packageUrl, String digest) {
+
+    File cacheFile = cacheFile(packageUrl);
+    if (cacheFile.exists()) {
+      try {
+        JsonNode entry = mapper.readTree(cacheFile);
+        if (digest.equals(entry.path("digest").asText(null))) {
+          this.hits.incrementAndGet();
+          return fromJson(packageUrl, entry);
+        }
+      } catch (IOException e) {
+        LOG.debug("Could not read component info cache file '{}', ignoring it", cacheFile, e);
+      }
+    }
+    this.misses.incrementAndGet();
+    return null;
+  }
+
+  /**
+   * Writes the {@link ComponentInfo} of the package to the cache. Results without {@link ComponentInfoData} are not
+   * cached.
+   *
+   * @param packageUrl the identifier of the package
+   * @param digest the digest of the inputs as calculated by {@link #inputDigest(PackageURL, CurationDataHandle)}
+   * @param componentInfo the curated {@link ComponentInfo}
+   */
+  public void write(PackageURL packageUrl, String digest, ComponentInfo componentInfo) {
+
+    if (componentInfo == null || componentInfo.getComponentInfoData() == null) {
+      return;
+    }
+    Path cacheFile = cacheFile(packageUrl).toPath();
+    try {
+      Path tempFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+      try {
+        mapper.writeValue(tempFile.toFile(), toJson(digest, componentInfo));
+        Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException e) {
+      LOG.warn(LogMessages.COMPONENT_INFO_CACHE_WRITE_FAILED.msg(), cacheFile, e.getClass().getSimpleName());
+    }
+  }
+
+  @Override
+  public void afterModelProcessing(ModelRoot modelRoot) {
+
+    if (this.enabled && (this.hits.get() > 0 || this.misses.get() > 0)) {
+      LOG.info(LogMessages.COMPONENT_INFO_CACHE_STATISTICS.msg(), this.hits.get(), this.misses.get());
+    }
+  }
+
+  private File cacheFile(PackageURL packageUrl) {
+
+    return new File(this.fileScancodeRawComponentInfoProvider.packageDirectory(packageUrl), CACHE_FILE_NAME);
+  }
+
+  private static ObjectNode toJson(String digest, ComponentInfo componentInfo) {
+
+    ObjectNode entry = mapper.createObjectNode();
+    entry.put("digest", digest);
+    entry.put("dataStatus", componentInfo.getDataStatus());
+    ArrayNode traceabilityNotes = entry.putArray("traceabilityNotes");
+    if (componentInfo.getTraceabilityNotes() != null) {
+      componentInfo.getTraceabilityNotes().forEach(traceabilityNotes::add);
+    }
+    ComponentInfoData data = componentInfo.getComponentInfoData();
+    ObjectNode dataNode = entry.putObject("componentInfoData");
+    ArrayNode copyrights = dataNode.putArray("copyrights");
+    data.getCopyrights().forEach(copyrights::add);
+    ArrayNode licenses = dataNode.putArray("licenses");
+    for (LicenseInfo licenseInfo : data.getLicenses()) {
+      ObjectNode licenseNode = licenses.addObject();
+      licenseNode.put("spdxid", licenseInfo.getSpdxid());
+      licenseNode.put("licenseUrl", licenseInfo.getLicenseUrl());
+      licenseNode.put("givenLicenseText", licenseInfo.getGivenLicenseText());
+    }
+    dataNode.put("noticeFileUrl", data.getNoticeFileUrl());
+    dataNode.put("noticeFileContent", data.getNoticeFileContent());
+    dataNode.put("homepageUrl", data.getHomepageUrl());
+    dataNode.put("sourceRepoUrl", data.getSourceRepoUrl());
+    dataNode.put("packageDownloadUrl", data.getPackageDownloadUrl());
+    dataNode.put("sourceDownloadUrl", data.getSourceDownloadUrl());
+    return entry;
+  }
+
+  private static ComponentInfo fromJson(PackageURL packageUrl, JsonNode entry) {
+
+    DefaultComponentInfoImpl componentInfo = new DefaultComponentInfoImpl(packageUrl,
+        entry.path("dataStatus").asText(null));
+    for (JsonNode note : entry.path("traceabilityNotes")) {
+      componentInfo.addTraceabillityNote(note.asText());
+    }
+    JsonNode dataNode = entry.path("componentInfoData");
+    DefaultComponentInfoDataImpl data = new DefaultComponentInfoDataImpl();
+    for (JsonNode copyright : dataNode.path("copyrights")) {
+      data.addCopyright(copyright.asText());
+    }
+    for (JsonNode licenseNode : dataNode.path("licenses")) {
+      DefaultLicenseInfoImpl licenseInfo = new DefaultLicenseInfoImpl();
+      licenseInfo.setSpdxId(licenseNode.path("spdxid").asText(null));
+      licenseInfo.setLicenseUrl(licenseNode.path("licenseUrl").asText(null));
+      licenseInfo.setGivenLicenseText(licenseNode.path("givenLicenseText").asText(null));
+      data.addLicense(licenseInfo);
+    }
+    data.setNoticeFileUrl(dataNode.path("noticeFileUrl").asText(null));
+    data.setNoticeFileContent(dataNode.path("noticeFileContent").asText(null));
+    data.setHomepageUrl(dataNode.path("homepageUrl").asText(null));
+    data.setSourceRepoUrl(dataNode.path("sourceRepoUrl").asText(null));
+    data.setPackageDownloadUrl(dataNode.path("packageDownloadUrl").asText(null));
+    data.setSourceDownloadUrl(dataNode.path("sourceDownloadUrl").asText(null));
+    componentInfo.setComponentInfoData(data);
+    return componentInfo;
+  }
+
+}
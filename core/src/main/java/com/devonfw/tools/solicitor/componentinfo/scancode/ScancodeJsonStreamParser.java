@@ -0,0 +1,200 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A helper class which supports parsing (possibly huge) scancode JSON files in a streaming way. The
+ * <code>files</code> array - which makes up nearly all of the data in scancode results of large packages - is never
+ * held in memory as a whole. Instead its entries are parsed and handed out one at a time, so that the memory needed
+ * for processing a package is bounded by the size of its largest file entry.
+ */
+public class ScancodeJsonStreamParser {
+
+  /**
+   * Name of the top level field which contains the findings per scanned file.
+   */
+  static final String FILES_FIELD = "files";
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Constructor. Prevents instantiation.
+   *
+   */
+  private ScancodeJsonStreamParser() {
+
+  }
+
+  /**
+   * Parses the scancode JSON skipping the <code>files</code> array. The result contains all other top level fields
+   * like <code>headers</code> or <code>license_references</code>.
+   *
+   * @param rawScancodeData the raw scancode data
+   * @return the parsed JSON without the <code>files</code> array
+   * @throws ComponentInfoAdapterException if the JSON could not be read or parsed
+   */
+  public static JsonNode parseWithoutFiles(ScancodeRawComponentInfo rawScancodeData)
+      throws ComponentInfoAdapterException {
+
+    try (JsonParser parser = mapper.createParser(rawScancodeData.openRawScancodeResult())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new ComponentInfoAdapterException("Scancode JSON does not contain a JSON object");
+      }
+      ObjectNode result = mapper.createObjectNode();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        parser.nextToken();
+        if (FILES_FIELD.equals(fieldName)) {
+          parser.skipChildren();
+        } else {
+          result.set(fieldName, mapper.readTree(parser));
+        }
+      }
+      return result;
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e);
+    }
+  }
+
+  /**
+   * Gives access to the entries of the <code>files</code> array. If the given (already parsed) scancode JSON contains
+   * the <code>files</code> array then its entries are returned directly. Otherwise the entries are parsed one at a time
+   * from the raw scancode data.
+   * <p>
+   * The returned {@link FileEntries} should be closed after use. Any {@link IOException} when iterating the entries is
+   * rethrown as {@link UncheckedIOException}.
+   *
+   * @param scancodeJson the parsed scancode JSON, possibly without the <code>files</code> array (see
+   *        {@link #parseWithoutFiles(ScancodeRawComponentInfo)})
+   * @param rawScancodeData the raw scancode data
+   * @return the entries of the <code>files</code> array
+   * @throws ComponentInfoAdapterException if the raw scancode data could not be read
+   */
+  public static FileEntries fileEntries(JsonNode scancodeJson, ScancodeRawComponentInfo rawScancodeData)
+      throws ComponentInfoAdapterException {
+
+    JsonNode files = scancodeJson.get(FILES_FIELD);
+    if (files != null) {
+      return new FileEntries(files.iterator(), null);
+    }
+    try {
+      JsonParser parser = mapper.createParser(rawScancodeData.openRawScancodeResult());
+      if (!moveToFilesArray(parser)) {
+        parser.close();
+        throw new ComponentInfoAdapterException("Files not found in Scancode JSON");
+      }
+      return new FileEntries(null, parser);
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e);
+    }
+  }
+
+  /**
+   * Positions the parser at the start of the top level <code>files</code> array.
+   *
+   * @param parser the parser
+   * @return <code>true</code> if the array was found, <code>false</code> otherwise
+   * @throws IOException if the JSON could not be parsed
+   */
+  private static boolean moveToFilesArray(JsonParser parser) throws IOException {
+
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken token = parser.nextToken();
+      if (FILES_FIELD.equals(fieldName) && token == JsonToken.START_ARRAY) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /**
+   * The entries of the <code>files</code> array of the scancode JSON, either taken from an already parsed JSON tree or
+   * parsed lazily from the underlying stream.
+   */
+  public static class FileEntries implements Iterable<JsonNode>, Closeable {
+
+    private final Iterator<JsonNode> treeIterator;
+
+    private final JsonParser parser;
+
+    private FileEntries(Iterator<JsonNode> treeIterator, JsonParser parser) {
+
+      this.treeIterator = treeIterator;
+      this.parser = parser;
+    }
+
+    @Override
+    public Iterator<JsonNode> iterator() {
+
+      if (this.treeIterator != null) {
+        return this.treeIterator;
+      }
+      return new Iterator<JsonNode>() {
+
+        private JsonNode next;
+
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+
+          if (this.next == null && !this.finished) {
+            try {
+              if (FileEntries.this.parser.nextToken() == JsonToken.START_OBJECT) {
+                this.next = mapper.readTree(FileEntries.this.parser);
+              } else {
+                this.finished = true;
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+          return this.next != null;
+        }
+
+        @Override
+        public JsonNode next() {
+
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          JsonNode result = this.next;
+          this.next = null;
+          return result;
+        }
+      };
+    }
+
+    @Override
+    public void close() {
+
+      if (this.parser != null) {
+        try {
+          this.parser.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+}
@@ -1,13 +1,30 @@
 package com.devonfw.tools.solicitor.componentinfo.scancode;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Contains raw scancode data and any additional data needed to create a ComponentInfo structure.
  *
  */
 public class ScancodeRawComponentInfo {
 
+  /**
+   * The raw scancode JSON. Might be <code>null</code> if {@link #rawScancodeResultFile} is given instead.
+   */
   public String rawScancodeResult;
 
+  /**
+   * The file containing the raw scancode JSON. Only used if {@link #rawScancodeResult} is <code>null</code>. This
+   * allows parsing the (possibly huge) JSON in a streaming way without reading it into memory as a whole.
+   */
+  public File rawScancodeResultFile;
+
   public String sourceDownloadUrl;
 
   public String packageDownloadUrl;
@@ -19,4 +36,21 @@ public class ScancodeRawComponentInfo {
 
   }
 
+  /**
+   * Opens a stream for reading the raw scancode JSON. The caller is responsible for closing the stream.
+   *
+   * @return the stream
+   * @throws IOException if the stream could not be opened
+   */
+  public InputStream openRawScancodeResult() throws IOException {
+
+    if (this.rawScancodeResult != null) {
+      return new ByteArrayInputStream(this.rawScancodeResult.getBytes(StandardCharsets.UTF_8));
+    }
+    if (this.rawScancodeResultFile == null) {
+      throw new IOException("No raw scancode data available");
+    }
+    return new BufferedInputStream(new FileInputStream(this.rawScancodeResultFile));
+  }
+
 }
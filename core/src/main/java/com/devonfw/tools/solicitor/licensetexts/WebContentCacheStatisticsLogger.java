@@ -0,0 +1,45 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.licensetexts;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+import com.devonfw.tools.solicitor.common.content.WeightedLruCache;
+import com.devonfw.tools.solicitor.lifecycle.AbstractSolicitorLifecycleListener;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+
+/**
+ * {@link com.devonfw.tools.solicitor.lifecycle.SolicitorLifecycleListener} which logs the statistics of the in memory
+ * caches of all {@link InMemoryMapContentProvider}s at the end of the main processing.
+ */
+@Component
+public class WebContentCacheStatisticsLogger extends AbstractSolicitorLifecycleListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebContentCacheStatisticsLogger.class);
+
+  @Autowired(required = false)
+  private List<InMemoryMapContentProvider<?>> inMemoryContentProviders;
+
+  @Override
+  public void endOfMainProcessing(ModelRoot modelRoot) {
+
+    if (this.inMemoryContentProviders == null) {
+      return;
+    }
+    for (InMemoryMapContentProvider<?> provider : this.inMemoryContentProviders) {
+      WeightedLruCache<String, ?> cache = provider.getMemoryCache();
+      LOG.info(LogMessages.CONTENT_MEMORY_CACHE_STATISTICS.msg(), provider.getClass().getSimpleName(),
+          cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount(), cache.size(),
+          cache.getCurrentWeight());
+    }
+  }
+
+}
@@ -3,6 +3,8 @@
  */
 package com.devonfw.tools.solicitor.licensetexts;
 
+import java.util.Arrays;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +17,7 @@ import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.DirectUrlWebContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
 import com.devonfw.tools.solicitor.common.content.web.WebContentFactory;
+import com.devonfw.tools.solicitor.common.content.web.WebContentPrefetcher;
 
 /**
  * Java Spring configuration for the beans in the area of the {@link ContentProvider} for {@link WebContent}.
@@ -28,6 +31,24 @@ public class WebContentConfiguration {
   @Value("${webcontent.skipdownload}")
   private boolean skipdownload;
 
+  @Value("${webcontent.connect-timeout-millis}")
+  private int connectTimeout;
+
+  @Value("${webcontent.read-timeout-millis}")
+  private int readTimeout;
+
+  @Value("${webcontent.memory-cache.max-bytes}")
+  private long memoryCacheMaxBytes;
+
+  @Value("${webcontent.prefetch.max-concurrency-per-host}")
+  private int prefetchMaxConcurrencyPerHost;
+
+  @Value("${webcontent.prefetch.max-retries}")
+  private int prefetchMaxRetries;
+
+  @Value("${webcontent.prefetch.retry-backoff-millis}")
+  private int prefetchRetryBackoff;
+
   @Bean
   public ContentFactory<WebContent> webContentFactory() {
 
@@ -37,8 +58,10 @@ public class WebContentConfiguration {
   @Bean
   public InMemoryMapContentProvider<WebContent> inMemoryMapWebContentProvider() {
 
-    return new InMemoryMapContentProvider<>(webContentFactory(), classpathWebContentProvider());
-
+    InMemoryMapContentProvider<WebContent> inMemoryMapContentProvider = new InMemoryMapContentProvider<>(
+        webContentFactory(), classpathWebContentProvider());
+    inMemoryMapContentProvider.setMaxBytes(this.memoryCacheMaxBytes);
+    return inMemoryMapContentProvider;
   }
 
   @Bean
@@ -56,6 +79,24 @@ public class WebContentConfiguration {
   @Bean
   public DirectUrlWebContentProvider directUrlWebContentProvider() {
 
-    return new DirectUrlWebContentProvider(this.skipdownload);
+    DirectUrlWebContentProvider directUrlWebContentProvider = new DirectUrlWebContentProvider(this.skipdownload);
+    directUrlWebContentProvider.setConnectTimeout(this.connectTimeout);
+    directUrlWebContentProvider.setReadTimeout(this.readTimeout);
+    return directUrlWebContentProvider;
+  }
+
+  @Bean
+  public WebContentPrefetcher webContentPrefetcher() {
+
+    WebContentPrefetcher webContentPrefetcher = new WebContentPrefetcher(
+        Arrays.asList(classpathWebContentProvider(), filesystemCachingWebContentProvider()),
+        filesystemCachingWebContentProvider(), inMemoryMapWebContentProvider());
+    webContentPrefetcher.setSkipdownload(this.skipdownload);
+    webContentPrefetcher.setConnectTimeout(this.connectTimeout);
+    webContentPrefetcher.setReadTimeout(this.readTimeout);
+    webContentPrefetcher.setMaxConcurrencyPerHost(this.prefetchMaxConcurrencyPerHost);
+    webContentPrefetcher.setMaxRetries(this.prefetchMaxRetries);
+    webContentPrefetcher.setRetryBackoff(this.prefetchRetryBackoff);
+    return webContentPrefetcher;
   }
 }
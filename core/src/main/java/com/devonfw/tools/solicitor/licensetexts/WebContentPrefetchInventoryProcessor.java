@@ -0,0 +1,86 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.licensetexts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.InventoryProcessor;
+import com.devonfw.tools.solicitor.common.content.web.WebContentPrefetcher;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+
+/**
+ * An {@link InventoryProcessor} which runs after the rule engine and prefetches the license texts and notice files
+ * referenced in the model via the {@link WebContentPrefetcher}. Only URLs are considered whose content is not yet set
+ * in the model, i.e. which would otherwise be downloaded one after the other when completing the model data.
+ */
+@Component
+@Order(InventoryProcessor.AFTER_RULE_ENGINE)
+public class WebContentPrefetchInventoryProcessor implements InventoryProcessor {
+
+  @Autowired
+  private WebContentPrefetcher webContentPrefetcher;
+
+  private boolean enabled;
+
+  /**
+   * @param enabled if set to <code>false</code> no prefetching will be done
+   */
+  @Value("${webcontent.prefetch.enabled}")
+  public void setEnabled(boolean enabled) {
+
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void processInventory(ModelRoot modelRoot) {
+
+    if (!this.enabled) {
+      return;
+    }
+    this.webContentPrefetcher.prefetch(collectUrls(modelRoot));
+  }
+
+  /**
+   * Collects all URLs of license texts and notice files whose content is not yet set.
+   *
+   * @param modelRoot the root of the model
+   * @return the URLs (might contain duplicates and <code>null</code> values)
+   */
+  Collection<String> collectUrls(ModelRoot modelRoot) {
+
+    Collection<String> urls = new ArrayList<>();
+    for (Application application : modelRoot.getEngagement().getApplications()) {
+      for (ApplicationComponent ac : application.getApplicationComponents()) {
+        if (ac.getNoticeFileContent() == null) {
+          urls.add(ac.getNoticeFileUrl());
+        }
+        for (NormalizedLicense nl : ac.getNormalizedLicenses()) {
+          if (nl.getDeclaredLicenseContent() == null) {
+            urls.add(nl.getLicenseUrl());
+          }
+          if (nl.getNormalizedLicenseContent() == null) {
+            urls.add(nl.getNormalizedLicenseUrl());
+          }
+          if (nl.getEffectiveNormalizedLicenseContent() == null) {
+            urls.add(nl.getEffectiveNormalizedLicenseUrl());
+          }
+          if (nl.getLicenseRefContent() == null) {
+            urls.add(nl.getLicenseRefUrl());
+          }
+        }
+      }
+    }
+    return urls;
+  }
+
+}
@@ -40,4 +40,10 @@ public abstract class AbstractSolicitorLifecycleListener implements SolicitorLif
     // NOOP by default
   }
 
+  @Override
+  public void phaseFinished(PhaseMetrics metrics) {
+
+    // NOOP by default
+  }
+
 }
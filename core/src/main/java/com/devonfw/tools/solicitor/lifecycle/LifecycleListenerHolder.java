@@ -86,4 +86,35 @@ public class LifecycleListenerHolder {
     }
   }
 
+  /**
+   * Starts the measurement of a processing phase. The measurement needs to be finished (on the same thread) via
+   * {@link PhaseMeasurement#finish(long)} which will then call
+   * {@link SolicitorLifecycleListener#phaseFinished(PhaseMetrics)} of all registered
+   * {@link SolicitorLifecycleListener}s.
+   *
+   * @param type the type of the phase
+   * @param name the name of the phase
+   * @return the started measurement
+   */
+  public PhaseMeasurement startPhase(PhaseType type, String name) {
+
+    return new PhaseMeasurement(this, type, name);
+  }
+
+  /**
+   * Calls {@link SolicitorLifecycleListener#phaseFinished(PhaseMetrics)} of all registered
+   * {@link SolicitorLifecycleListener}s.
+   *
+   * @param metrics the measured resource consumption of the phase
+   */
+  public void phaseFinished(PhaseMetrics metrics) {
+
+    if (this.listeners == null) {
+      return;
+    }
+    for (SolicitorLifecycleListener sll : this.listeners) {
+      sll.phaseFinished(metrics);
+    }
+  }
+
 }
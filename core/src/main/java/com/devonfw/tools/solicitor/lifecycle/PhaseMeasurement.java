@@ -0,0 +1,99 @@
+package com.devonfw.tools.solicitor.lifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A running measurement of a processing phase. Instances are created via
+ * {@link LifecycleListenerHolder#startPhase(PhaseType, String)} and need to be finished on the same thread by calling
+ * {@link #finish(long)}.
+ */
+public class PhaseMeasurement {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+  private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+  private final LifecycleListenerHolder holder;
+
+  private final PhaseType type;
+
+  private final String name;
+
+  private final long startTime;
+
+  private final long startNanos;
+
+  private final long startCpuNanos;
+
+  private final long startAllocatedBytes;
+
+  /**
+   * The constructor. Starts the measurement.
+   *
+   * @param holder the holder which will be notified when the phase is finished
+   * @param type the type of the phase
+   * @param name the name of the phase
+   */
+  PhaseMeasurement(LifecycleListenerHolder holder, PhaseType type, String name) {
+
+    this.holder = holder;
+    this.type = type;
+    this.name = name;
+    this.startTime = System.currentTimeMillis();
+    this.startNanos = System.nanoTime();
+    this.startCpuNanos = currentThreadCpuNanos();
+    this.startAllocatedBytes = currentThreadAllocatedBytes();
+  }
+
+  /**
+   * Finishes the measurement and reports the result to all {@link SolicitorLifecycleListener}s.
+   *
+   * @param objectCount the number of objects processed or created in this phase, see {@link PhaseType}
+   * @return the measured metrics
+   */
+  public PhaseMetrics finish(long objectCount) {
+
+    long wallTimeMillis = (System.nanoTime() - this.startNanos) / 1000000L;
+    long cpuTimeMillis = CPU_TIME_SUPPORTED ? (currentThreadCpuNanos() - this.startCpuNanos) / 1000000L : -1L;
+    long allocatedBytes = ALLOCATED_BYTES_SUPPORTED ? currentThreadAllocatedBytes() - this.startAllocatedBytes : -1L;
+    PhaseMetrics metrics = new PhaseMetrics(this.type, this.name, Thread.currentThread().getName(), this.startTime,
+        wallTimeMillis, cpuTimeMillis, allocatedBytes, objectCount);
+    this.holder.phaseFinished(metrics);
+    return metrics;
+  }
+
+  private static long currentThreadCpuNanos() {
+
+    return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0L;
+  }
+
+  private static long currentThreadAllocatedBytes() {
+
+    if (!ALLOCATED_BYTES_SUPPORTED) {
+      return 0L;
+    }
+    return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getCurrentThreadAllocatedBytes();
+  }
+
+  private static boolean isCpuTimeSupported() {
+
+    try {
+      return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private static boolean isAllocatedBytesSupported() {
+
+    if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+      return false;
+    }
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+    return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+  }
+
+}
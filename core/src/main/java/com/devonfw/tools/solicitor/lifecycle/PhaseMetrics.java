@@ -0,0 +1,115 @@
+package com.devonfw.tools.solicitor.lifecycle;
+
+/**
+ * The measured resource consumption of a single processing phase. CPU time and allocated bytes are measured for the
+ * thread executing the phase only; work which is delegated to other threads (e.g. parallel lookup of component info)
+ * is not included. A value of <code>-1</code> indicates that the respective measurement is not supported by the JVM.
+ */
+public class PhaseMetrics {
+
+  private final PhaseType type;
+
+  private final String name;
+
+  private final String thread;
+
+  private final long startTime;
+
+  private final long wallTimeMillis;
+
+  private final long cpuTimeMillis;
+
+  private final long allocatedBytes;
+
+  private final long objectCount;
+
+  /**
+   * The constructor.
+   *
+   * @param type the type of the phase
+   * @param name the name of the phase (e.g. the name of the rule group)
+   * @param thread the name of the thread executing the phase
+   * @param startTime the start time of the phase in milliseconds since the epoch
+   * @param wallTimeMillis the elapsed (wall clock) time in milliseconds
+   * @param cpuTimeMillis the CPU time in milliseconds
+   * @param allocatedBytes the number of bytes allocated on the heap
+   * @param objectCount the number of objects processed or created, see {@link PhaseType}
+   */
+  public PhaseMetrics(PhaseType type, String name, String thread, long startTime, long wallTimeMillis,
+      long cpuTimeMillis, long allocatedBytes, long objectCount) {
+
+    this.type = type;
+    this.name = name;
+    this.thread = thread;
+    this.startTime = startTime;
+    this.wallTimeMillis = wallTimeMillis;
+    this.cpuTimeMillis = cpuTimeMillis;
+    this.allocatedBytes = allocatedBytes;
+    this.objectCount = objectCount;
+  }
+
+  /**
+   * @return type
+   */
+  public PhaseType getType() {
+
+    return this.type;
+  }
+
+  /**
+   * @return name
+   */
+  public String getName() {
+
+    return this.name;
+  }
+
+  /**
+   * @return thread
+   */
+  public String getThread() {
+
+    return this.thread;
+  }
+
+  /**
+   * @return startTime
+   */
+  public long getStartTime() {
+
+    return this.startTime;
+  }
+
+  /**
+   * @return wallTimeMillis
+   */
+  public long getWallTimeMillis() {
+
+    return this.wallTimeMillis;
+  }
+
+  /**
+   * @return cpuTimeMillis
+   */
+  public long getCpuTimeMillis() {
+
+    return this.cpuTimeMillis;
+  }
+
+  /**
+   * @return allocatedBytes
+   */
+  public long getAllocatedBytes() {
+
+    return this.allocatedBytes;
+  }
+
+  /**
+   * @return objectCount
+   */
+  public long getObjectCount() {
+
+    return this.objectCount;
+  }
+
+}
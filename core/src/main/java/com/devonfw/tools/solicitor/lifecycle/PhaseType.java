@@ -0,0 +1,40 @@
+package com.devonfw.tools.solicitor.lifecycle;
+
+/**
+ * The types of processing phases which are measured and reported via
+ * {@link SolicitorLifecycleListener#phaseFinished(PhaseMetrics)}. The meaning of {@link PhaseMetrics#getObjectCount()}
+ * depends on the type of the phase.
+ */
+public enum PhaseType {
+
+  /**
+   * Reading the inventory of a single reader. The object count is the number of application components read.
+   */
+  READER,
+
+  /**
+   * Execution of a single inventory processor. The object count is the number of application components in the model.
+   */
+  INVENTORY_PROCESSOR,
+
+  /**
+   * Execution of the rules of a single rule group. The object count is the number of rules fired.
+   */
+  RULE_GROUP,
+
+  /**
+   * Loading a model into the reporting database. The object count is the number of model objects loaded.
+   */
+  DATABASE_LOAD,
+
+  /**
+   * Execution of a single SQL statement for reporting. The object count is the number of rows returned.
+   */
+  SQL_STATEMENT,
+
+  /**
+   * Creating a single report via a writer. The object count is the total number of rows of all data tables.
+   */
+  WRITER
+
+}
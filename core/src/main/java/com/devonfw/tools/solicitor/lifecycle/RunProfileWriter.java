@@ -0,0 +1,193 @@
+package com.devonfw.tools.solicitor.lifecycle;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * {@link SolicitorLifecycleListener} which collects the {@link PhaseMetrics} of all processing phases and writes them
+ * as a JSON run profile at the end of the main processing. This allows tracking the performance of Solicitor runs over
+ * time.
+ * <p>
+ * Writing the run profile is only active if property <code>solicitor.run-profile-file</code> is set.
+ */
+@Component
+public class RunProfileWriter extends AbstractSolicitorLifecycleListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RunProfileWriter.class);
+
+  @Autowired
+  private SolicitorVersion solicitorVersion;
+
+  private String runProfileFile;
+
+  private final List<PhaseMetrics> phases = new ArrayList<>();
+
+  private long startTime = System.currentTimeMillis();
+
+  /**
+   * Sets the name of the file to write the run profile to. If empty or <code>null</code> no run profile will be
+   * written.
+   *
+   * @param runProfileFile the name of the file
+   */
+  @Value("${solicitor.run-profile-file:}")
+  public void setRunProfileFile(String runProfileFile) {
+
+    this.runProfileFile = runProfileFile;
+  }
+
+  /**
+   * Checks if the run profile will be written.
+   *
+   * @return <code>true</code> if the run profile will be written, <code>false</code> otherwise
+   */
+  public boolean isActive() {
+
+    return this.runProfileFile != null && !this.runProfileFile.isEmpty();
+  }
+
+  @Override
+  public synchronized void modelRootInitialized(ModelRoot modelRoot) {
+
+    this.phases.clear();
+    this.startTime = System.currentTimeMillis();
+  }
+
+  @Override
+  public synchronized void phaseFinished(PhaseMetrics metrics) {
+
+    if (isActive()) {
+      this.phases.add(metrics);
+    }
+  }
+
+  @Override
+  public synchronized void endOfMainProcessing(ModelRoot modelRoot) {
+
+    if (!isActive()) {
+      return;
+    }
+    RunProfile runProfile = new RunProfile(this.solicitorVersion.getVersion(),
+        Instant.ofEpochMilli(this.startTime).toString(), System.currentTimeMillis() - this.startTime, peakHeapBytes(),
+        new ArrayList<>(this.phases));
+    try {
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(new File(this.runProfileFile),
+          runProfile);
+      LOG.info(LogMessages.RUN_PROFILE_WRITTEN.msg(), this.phases.size(), this.runProfileFile);
+    } catch (IOException e) {
+      LOG.warn(LogMessages.RUN_PROFILE_WRITE_FAILED.msg(), this.runProfileFile, e);
+    }
+  }
+
+  /**
+   * Determines the peak usage of the heap as the sum of the peak usage of all heap memory pools. As the pools might
+   * have reached their peak at different times this is an upper bound of the actual peak usage.
+   *
+   * @return the peak heap usage in bytes
+   */
+  private long peakHeapBytes() {
+
+    long result = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+        result += pool.getPeakUsage().getUsed();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The run profile as written to the JSON file.
+   */
+  public static class RunProfile {
+
+    private final String solicitorVersion;
+
+    private final String startTime;
+
+    private final long wallTimeMillis;
+
+    private final long peakHeapBytes;
+
+    private final List<PhaseMetrics> phases;
+
+    /**
+     * The constructor.
+     *
+     * @param solicitorVersion the version of Solicitor
+     * @param startTime the start time of the main processing (ISO 8601)
+     * @param wallTimeMillis the elapsed time of the main processing in milliseconds
+     * @param peakHeapBytes the (approximate) peak heap usage in bytes
+     * @param phases the metrics of all measured phases in the order of their completion
+     */
+    public RunProfile(String solicitorVersion, String startTime, long wallTimeMillis, long peakHeapBytes,
+        List<PhaseMetrics> phases) {
+
+      this.solicitorVersion = solicitorVersion;
+      this.startTime = startTime;
+      this.wallTimeMillis = wallTimeMillis;
+      this.peakHeapBytes = peakHeapBytes;
+      this.phases = phases;
+    }
+
+    /**
+     * @return solicitorVersion
+     */
+    public String getSolicitorVersion() {
+
+      return this.solicitorVersion;
+    }
+
+    /**
+     * @return startTime
+     */
+    public String getStartTime() {
+
+      return this.startTime;
+    }
+
+    /**
+     * @return wallTimeMillis
+     */
+    public long getWallTimeMillis() {
+
+      return this.wallTimeMillis;
+    }
+
+    /**
+     * @return peakHeapBytes
+     */
+    public long getPeakHeapBytes() {
+
+      return this.peakHeapBytes;
+    }
+
+    /**
+     * @return phases
+     */
+    public List<PhaseMetrics> getPhases() {
+
+      return this.phases;
+    }
+
+  }
+
+}
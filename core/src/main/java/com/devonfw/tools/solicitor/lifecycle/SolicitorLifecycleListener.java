@@ -40,4 +40,12 @@ public interface SolicitorLifecycleListener {
    */
   void endOfMainProcessing(ModelRoot modelRoot);
 
+  /**
+   * Method to be called whenever a measured processing phase (e.g. a reader, a rule group or a writer) has finished.
+   * Might be called concurrently from different threads.
+   *
+   * @param metrics the measured resource consumption of the phase
+   */
+  void phaseFinished(PhaseMetrics metrics);
+
 }
@@ -3,8 +3,16 @@
  */
 package com.devonfw.tools.solicitor.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,15 +23,34 @@ import com.devonfw.tools.solicitor.common.IOHelper;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.model.impl.ModelFactoryImpl;
 import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
+import com.fasterxml.jackson.core.format.DataFormatMatcher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 /**
  * The {@code ModelImporterExporter} class handles the import and export of the data model. It provides methods for
  * loading a data model from a JSON file, checking model version compatibility, and saving the data model to a file.
  * Additionally, it facilitates the transformation of JSON data into model objects, ensuring proper association between
  * the various components of the data model.
+ * <p>
+ * Besides the (indented) JSON format the model might be saved in the binary Smile format (see
+ * https://github.com/FasterXML/smile-format-specification) which is considerably smaller and faster to parse. Both
+ * formats might additionally be gzip compressed. The format used for saving is determined by the extension of the
+ * filename (see {@link #SMILE_EXTENSION} and {@link #GZIP_EXTENSION}); when loading the format is detected from the file
+ * content. Loading is done in a streaming fashion: only a single {@link ApplicationComponentImpl} is held as JSON tree
+ * at any time, so that the memory needed for loading is dominated by the resulting model and not by the file content.
  */
 @Component
 public class ModelImporterExporter {
@@ -37,12 +64,30 @@ public class ModelImporterExporter {
 
   public static final int LOWEST_VERSION_WITH_TEXT_POOL = 6;
 
+  /**
+   * Filename extension which selects the binary Smile format when saving the model. Might be followed by
+   * {@link #GZIP_EXTENSION}.
+   */
+  public static final String SMILE_EXTENSION = ".smile";
+
+  /**
+   * Filename extension which selects gzip compression when saving the model.
+   */
+  public static final String GZIP_EXTENSION = ".gz";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+  private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder(
+      SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build()).build();
+
   @Autowired
   private ModelFactoryImpl modelFactory;
 
   /**
-   * Loads the data model from a JSON file. The loaded data model is represented by a root object of type
-   * {@code ModelRootImpl}.
+   * Loads the data model from a file. The file might be JSON or Smile, optionally gzip compressed. The loaded data model
+   * is represented by a root object of type {@code ModelRootImpl}.
    *
    * @param filename the name of the file to load the data model from.
    * @return the root object of the loaded data model.
@@ -50,20 +95,207 @@ public class ModelImporterExporter {
    */
   public ModelRootImpl loadModel(String filename) {
 
-    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-    try {
-      JsonNode root = objectMapper.readTree(new File(filename));
-      ModelRootImpl modelRoot = this.modelFactory.newModelRoot();
-      int readModelVersion = root.get("modelVersion").asInt();
-      checkModelVersion(readModelVersion, modelRoot);
-      modelRoot.readModelRootFromJson(root, this.modelFactory, readModelVersion);
-      return modelRoot;
+    try (InputStream in = openForReading(new File(filename)); JsonParser parser = createParser(in)) {
+      return readModelRoot(parser);
     } catch (IOException e) {
       throw new SolicitorRuntimeException("Could not load internal data model from file '" + filename + "'", e);
     }
 
   }
 
+  /**
+   * Opens the given file for reading. If the file is gzip compressed the returned stream will decompress the content.
+   *
+   * @param file the file to open
+   * @return the stream for reading the (uncompressed) content
+   * @throws IOException if the file could not be opened
+   */
+  private InputStream openForReading(File file) throws IOException {
+
+    InputStream in = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+    in.mark(2);
+    boolean gzipped = in.read() == 0x1f && in.read() == 0x8b;
+    in.reset();
+    if (gzipped) {
+      in = new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+    }
+    return in;
+  }
+
+  /**
+   * Creates the parser for the given content, detecting whether it is JSON or Smile.
+   *
+   * @param in the (uncompressed) content
+   * @return the parser
+   * @throws IOException if the content could not be read
+   */
+  private JsonParser createParser(InputStream in) throws IOException {
+
+    DataFormatMatcher matcher = new DataFormatDetector(SMILE_MAPPER.getFactory(), JSON_MAPPER.getFactory())
+        .findFormat(in);
+    if (!matcher.hasMatch()) {
+      throw new IOException("Content is neither JSON nor Smile");
+    }
+    return matcher.createParserWithMatch();
+  }
+
+  /**
+   * Reads the {@link ModelRootImpl} from the parser. Scalar attributes might appear in any order; the engagement is
+   * processed incrementally if the model version was already read before, which is the case for all files written by
+   * {@link #saveModel(ModelRoot, String)}.
+   *
+   * @param parser the parser positioned before the root object
+   * @return the read model
+   * @throws IOException if reading failed
+   */
+  private ModelRootImpl readModelRoot(JsonParser parser) throws IOException {
+
+    expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+    ModelRootImpl modelRoot = this.modelFactory.newModelRoot();
+    ObjectNode attributes = JsonNodeFactory.instance.objectNode();
+    JsonNode bufferedEngagementNode = null;
+    int readModelVersion = -1;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "modelVersion":
+          readModelVersion = parser.getValueAsInt();
+          checkModelVersion(readModelVersion, modelRoot);
+          break;
+        case "engagement":
+          if (readModelVersion < 0) {
+            bufferedEngagementNode = parser.readValueAsTree();
+          } else {
+            readEngagement(parser, modelRoot, readModelVersion);
+          }
+          break;
+        case "textPool":
+          readTextPool(parser, modelRoot);
+          break;
+        default:
+          attributes.set(fieldName, parser.readValueAsTree());
+      }
+    }
+    if (readModelVersion < 0) {
+      throw new SolicitorRuntimeException("Model does not contain a modelVersion");
+    }
+    modelRoot.readModelRootAttributesFromJson(attributes);
+    if (bufferedEngagementNode != null) {
+      EngagementImpl engagement = this.modelFactory.newEngagement();
+      engagement.setModelRoot(modelRoot);
+      engagement.readEngagementFromJsonNode(bufferedEngagementNode, this.modelFactory, readModelVersion);
+    }
+    if (readModelVersion < LOWEST_VERSION_WITH_TEXT_POOL) {
+      // previous versions do not contain license texts, so complete the data now
+      modelRoot.completeData();
+    }
+    return modelRoot;
+  }
+
+  /**
+   * Reads the {@link EngagementImpl} and its applications from the parser.
+   *
+   * @param parser the parser positioned at the start of the engagement object
+   * @param modelRoot the model root to attach the engagement to
+   * @param readModelVersion the version of the model to read
+   * @throws IOException if reading failed
+   */
+  private void readEngagement(JsonParser parser, ModelRootImpl modelRoot, int readModelVersion) throws IOException {
+
+    expectToken(parser.currentToken(), JsonToken.START_OBJECT);
+    EngagementImpl engagement = this.modelFactory.newEngagement();
+    engagement.setModelRoot(modelRoot);
+    ObjectNode attributes = JsonNodeFactory.instance.objectNode();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      if ("applications".equals(fieldName)) {
+        expectToken(parser.currentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          readApplication(parser, engagement, readModelVersion);
+        }
+      } else {
+        attributes.set(fieldName, parser.readValueAsTree());
+      }
+    }
+    engagement.readEngagementAttributesFromJsonNode(attributes);
+  }
+
+  /**
+   * Reads a single {@link ApplicationImpl} from the parser. Each of its application components is read as separate
+   * JSON tree.
+   *
+   * @param parser the parser positioned at the start of the application object
+   * @param engagement the engagement to attach the application to
+   * @param readModelVersion the version of the model to read
+   * @throws IOException if reading failed
+   */
+  private void readApplication(JsonParser parser, EngagementImpl engagement, int readModelVersion)
+      throws IOException {
+
+    ApplicationImpl application = this.modelFactory.newApplication();
+    application.setEngagement(engagement);
+    ObjectNode attributes = JsonNodeFactory.instance.objectNode();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      if ("applicationComponents".equals(fieldName)) {
+        expectToken(parser.currentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          JsonNode applicationComponentNode = parser.readValueAsTree();
+          ApplicationComponentImpl applicationComponent = this.modelFactory.newApplicationComponent();
+          applicationComponent.setApplication(application);
+          applicationComponent.readApplicationComponentFromJsonNode(applicationComponentNode, this.modelFactory,
+              readModelVersion);
+        }
+      } else {
+        attributes.set(fieldName, parser.readValueAsTree());
+      }
+    }
+    application.readApplicationAttributesFromJsonNode(attributes);
+  }
+
+  /**
+   * Reads the entries of the text pool from the parser and stores them in the text pool of the model root. Only the
+   * values are read; the keys will be reconstructed based on the values.
+   *
+   * @param parser the parser positioned at the start of the text pool object
+   * @param modelRoot the model root
+   * @throws IOException if reading failed
+   */
+  private void readTextPool(JsonParser parser, ModelRootImpl modelRoot) throws IOException {
+
+    expectToken(parser.currentToken(), JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      if ("dataMap".equals(fieldName)) {
+        expectToken(parser.currentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          parser.nextToken();
+          modelRoot.getTextPool().store(parser.getText());
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * Checks that the given token is the expected one.
+   *
+   * @param actual the actual token
+   * @param expected the expected token
+   * @throws IOException if the token is not the expected one
+   */
+  private void expectToken(JsonToken actual, JsonToken expected) throws IOException {
+
+    if (actual != expected) {
+      throw new IOException("Unexpected model structure: expected " + expected + " but found " + actual);
+    }
+  }
+
   /**
    * Checks if the version of the model to be loaded is supported and compatible with the current model version.
    *
@@ -81,7 +313,9 @@ public class ModelImporterExporter {
   }
 
   /**
-   * Saves the model to a file.
+   * Saves the model to a file. If the filename ends with {@link #SMILE_EXTENSION} (optionally followed by
+   * {@link #GZIP_EXTENSION}) the binary Smile format is used, otherwise indented JSON. If the filename ends with
+   * {@link #GZIP_EXTENSION} the file will be gzip compressed.
    *
    * @param filename the path/name of the file to save to. If <code>node</code> a filename in the current directory will
    *        be autocreated.
@@ -91,12 +325,34 @@ public class ModelImporterExporter {
 
     String effectiveFilename = (filename != null) ? filename : "solicitor_" + System.currentTimeMillis() + ".json";
     IOHelper.checkAndCreateLocation(effectiveFilename);
-    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-    try {
-      objectMapper.writeValue(new File(effectiveFilename), modelRoot);
+    boolean gzipped = effectiveFilename.endsWith(GZIP_EXTENSION);
+    String uncompressedFilename = gzipped
+        ? effectiveFilename.substring(0, effectiveFilename.length() - GZIP_EXTENSION.length())
+        : effectiveFilename;
+    ObjectMapper objectMapper = uncompressedFilename.endsWith(SMILE_EXTENSION) ? SMILE_MAPPER
+        : JSON_MAPPER.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    try (OutputStream out = openForWriting(new File(effectiveFilename), gzipped)) {
+      objectMapper.writeValue(out, modelRoot);
     } catch (IOException e) {
       LOG.error("Could not write internal data model to file '{}'", effectiveFilename, e);
     }
 
   }
+
+  /**
+   * Opens the given file for writing.
+   *
+   * @param file the file to write to
+   * @param gzipped if <code>true</code> the written content will be gzip compressed
+   * @return the stream for writing
+   * @throws IOException if the file could not be opened
+   */
+  private OutputStream openForWriting(File file, boolean gzipped) throws IOException {
+
+    OutputStream out = new FileOutputStream(file);
+    if (gzipped) {
+      out = new GZIPOutputStream(out, BUFFER_SIZE);
+    }
+    return new BufferedOutputStream(out, BUFFER_SIZE);
+  }
 }
@@ -3,8 +3,8 @@
  */
 package com.devonfw.tools.solicitor.model.impl;
 
-import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -13,9 +13,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class AbstractModelObject {
 
-  private static long idSingleton = 0;
-
-  private static final DecimalFormat integerFormat = new DecimalFormat("000000000");
+  private static final AtomicLong idSingleton = new AtomicLong();
 
   /**
    * Concatenates two String arrays.
@@ -34,13 +32,11 @@ public abstract class AbstractModelObject {
   private String id;
 
   /**
-   * Constructor.
+   * Constructor. Allocation of the id is thread safe so model objects might be created concurrently.
    */
   public AbstractModelObject() {
 
-    synchronized (integerFormat) {
-      this.id = integerFormat.format(idSingleton++);
-    }
+    this.id = String.format("%09d", idSingleton.getAndIncrement());
   }
 
   /**
@@ -70,6 +66,19 @@ public abstract class AbstractModelObject {
   @JsonIgnore
   public abstract String[] getHeadElements();
 
+  /**
+   * Gets the names of those datafields (see {@link #getHeadElements()}) which are typically used for filtering, joining
+   * or sorting when creating reports. When storing the data in the reporting database these fields will be defined
+   * with a (bounded) VARCHAR type and will be indexed. To be overridden in subclasses.
+   *
+   * @return the names of the indexed fields; an empty array if no field should be indexed
+   */
+  @JsonIgnore
+  public String[] getIndexedHeadElements() {
+
+    return new String[0];
+  }
+
   /**
    * Gets the id of the model object.
    *
@@ -131,4 +140,16 @@ public abstract class AbstractModelObject {
 
     return getEffectiveTextPool().retrieve(key);
   }
+
+  /**
+   * Retrieves a text from the text pool with large HTML content being replaced.
+   *
+   * @param key the key of the text
+   * @return the associated text or the replacement note
+   * @see TextPool#retrieveSanitized(String)
+   */
+  protected String retrieveSanitizedTextFromPool(String key) {
+
+    return getEffectiveTextPool().retrieveSanitized(key);
+  }
 }
@@ -0,0 +1,126 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.model.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Implementation of a {@link TextPool} which keeps the texts outside of the heap in a (possibly shared)
+ * {@link MappedFileTextStore}. The pool itself only holds the keys of the texts which belong to it, so that
+ * {@link #getDataMap()} (which is used when saving the model) only contains the texts of this pool.
+ */
+public class MappedFileTextPool implements TextPool {
+
+  private final MappedFileTextStore textStore;
+
+  private final Set<String> keys = new ConcurrentSkipListSet<>();
+
+  /**
+   * The constructor.
+   *
+   * @param textStore the store which holds the texts
+   */
+  public MappedFileTextPool(MappedFileTextStore textStore) {
+
+    this.textStore = textStore;
+  }
+
+  /**
+   * Returns a read only view of the content of the pool, sorted by key. Texts are read from the store when iterating.
+   *
+   * @return the data map
+   */
+  public Map<String, String> getDataMap() {
+
+    return new AbstractMap<>() {
+
+      @Override
+      public Set<Entry<String, String>> entrySet() {
+
+        return new AbstractSet<>() {
+
+          @Override
+          public Iterator<Entry<String, String>> iterator() {
+
+            Iterator<String> keyIterator = MappedFileTextPool.this.keys.iterator();
+            return new Iterator<>() {
+
+              @Override
+              public boolean hasNext() {
+
+                return keyIterator.hasNext();
+              }
+
+              @Override
+              public Entry<String, String> next() {
+
+                String key = keyIterator.next();
+                return new SimpleImmutableEntry<>(key, MappedFileTextPool.this.textStore.retrieve(key));
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+
+            return MappedFileTextPool.this.keys.size();
+          }
+        };
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+
+        return MappedFileTextPool.this.keys.contains(key);
+      }
+    };
+  }
+
+  @Override
+  public String store(String text) {
+
+    // special handling of null (null values never get stored)
+    if (text == null) {
+      return null;
+    }
+    String key = this.textStore.store(text);
+    this.keys.add(key);
+    return key;
+  }
+
+  @Override
+  public String retrieve(String key) {
+
+    // a null key represents a null string
+    if (key == null) {
+      return null;
+    }
+    checkKey(key);
+    return this.textStore.retrieve(key);
+  }
+
+  @Override
+  public String retrieveSanitized(String key) {
+
+    if (key == null) {
+      return null;
+    }
+    checkKey(key);
+    return this.textStore.retrieveSanitized(key);
+  }
+
+  private void checkKey(String key) {
+
+    if (!this.keys.contains(key)) {
+      throw new NoSuchElementException("No data in text pool for key '" + key + "'");
+    }
+  }
+
+}
@@ -0,0 +1,236 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.model.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+
+/**
+ * Content addressed store for texts which keeps the texts in memory mapped files outside of the heap. Texts are
+ * addressed by their SHA-256 hash (as in {@link TextPoolImpl}), so the same store might be shared by multiple
+ * {@link MappedFileTextPool}s (e.g. the current and the old model when creating a diff) without storing any text
+ * twice.
+ * <p>
+ * Texts are appended to segment files of fixed size which are memory mapped. Only the location of each text is kept on
+ * the heap; the text itself is decoded lazily on each retrieval. The result of
+ * {@link LicenseTextHelper#replaceLongHtmlContent(String)} is memoized per text. All files are created in a temporary
+ * directory which is deleted when the JVM terminates.
+ * <p>
+ * This class is thread safe.
+ */
+public class MappedFileTextStore {
+
+  /**
+   * The default size of a single segment file.
+   */
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private final Path directory;
+
+  private final int segmentSize;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private MappedByteBuffer currentSegment;
+
+  private int currentPosition;
+
+  private int segmentCount;
+
+  private long storedBytes;
+
+  /**
+   * The location of a single text within the segments.
+   */
+  private static class Entry {
+
+    private final MappedByteBuffer segment;
+
+    private final int offset;
+
+    private final int length;
+
+    private volatile String sanitizedReplacement;
+
+    private volatile boolean sanitizedChecked;
+
+    Entry(MappedByteBuffer segment, int offset, int length) {
+
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param baseDirectory the directory in which the temporary directory for the segment files is created
+   * @param segmentSize the size of a single segment file; texts which are larger will be stored in a separate segment
+   *        of matching size
+   * @throws IOException if the temporary directory could not be created
+   */
+  public MappedFileTextStore(Path baseDirectory, int segmentSize) throws IOException {
+
+    Files.createDirectories(baseDirectory);
+    this.directory = Files.createTempDirectory(baseDirectory, "solicitor-textpool");
+    // registered first so that it is deleted last
+    this.directory.toFile().deleteOnExit();
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * Stores a text in the store if not already stored.
+   *
+   * @param text the text to store; must not be <code>null</code>
+   * @return the key of the text
+   */
+  public String store(String text) {
+
+    String key = DigestUtils.sha256Hex(text);
+    if (!this.entries.containsKey(key)) {
+      synchronized (this) {
+        if (!this.entries.containsKey(key)) {
+          this.entries.put(key, append(text.getBytes(StandardCharsets.UTF_8)));
+        }
+      }
+    }
+    return key;
+  }
+
+  /**
+   * Checks if a text is stored under the given key.
+   *
+   * @param key the key
+   * @return <code>true</code> if a text is stored under this key, <code>false</code> otherwise
+   */
+  public boolean contains(String key) {
+
+    return this.entries.containsKey(key);
+  }
+
+  /**
+   * Retrieves a text from the store.
+   *
+   * @param key the key of the text
+   * @return the text
+   * @throws NoSuchElementException if nothing is stored under the given key
+   */
+  public String retrieve(String key) {
+
+    return decode(getEntry(key));
+  }
+
+  /**
+   * Retrieves a text from the store with large HTML content being replaced, see
+   * {@link LicenseTextHelper#replaceLongHtmlContent(String)}. The check is only done once per text.
+   *
+   * @param key the key of the text
+   * @return the text or the replacement note
+   * @throws NoSuchElementException if nothing is stored under the given key
+   */
+  public String retrieveSanitized(String key) {
+
+    Entry entry = getEntry(key);
+    if (entry.sanitizedChecked) {
+      String replacement = entry.sanitizedReplacement;
+      return replacement != null ? replacement : decode(entry);
+    }
+    String text = decode(entry);
+    String sanitized = LicenseTextHelper.replaceLongHtmlContent(text);
+    if (sanitized != text) {
+      // the text was replaced
+      entry.sanitizedReplacement = sanitized;
+    }
+    entry.sanitizedChecked = true;
+    return sanitized;
+  }
+
+  /**
+   * @return the number of distinct texts stored
+   */
+  public int size() {
+
+    return this.entries.size();
+  }
+
+  /**
+   * @return the number of bytes (UTF-8) of all stored texts
+   */
+  public synchronized long getStoredBytes() {
+
+    return this.storedBytes;
+  }
+
+  /**
+   * @return the directory containing the segment files
+   */
+  public Path getDirectory() {
+
+    return this.directory;
+  }
+
+  private Entry getEntry(String key) {
+
+    Entry entry = this.entries.get(key);
+    if (entry == null) {
+      throw new NoSuchElementException("No data in text pool for key '" + key + "'");
+    }
+    return entry;
+  }
+
+  private String decode(Entry entry) {
+
+    byte[] bytes = new byte[entry.length];
+    entry.segment.get(entry.offset, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Appends the bytes to the current segment, starting a new segment if it does not fit. Needs to be called while
+   * holding the lock.
+   *
+   * @param bytes the bytes to append
+   * @return the entry describing the location
+   */
+  private Entry append(byte[] bytes) {
+
+    if (this.currentSegment == null || this.currentPosition + bytes.length > this.currentSegment.capacity()) {
+      this.currentSegment = createSegment(Math.max(this.segmentSize, bytes.length));
+      this.currentPosition = 0;
+    }
+    this.currentSegment.put(this.currentPosition, bytes);
+    Entry entry = new Entry(this.currentSegment, this.currentPosition, bytes.length);
+    this.currentPosition += bytes.length;
+    this.storedBytes += bytes.length;
+    return entry;
+  }
+
+  private MappedByteBuffer createSegment(int size) {
+
+    File segmentFile = this.directory.resolve("segment-" + this.segmentCount++ + ".dat").toFile();
+    segmentFile.deleteOnExit();
+    try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw"); FileChannel channel = file.getChannel()) {
+      // the mapping stays valid after closing the channel
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } catch (IOException e) {
+      throw new SolicitorRuntimeException("Could not create text pool segment file '" + segmentFile + "'", e);
+    }
+  }
+
+}
@@ -3,6 +3,8 @@
  */
 package com.devonfw.tools.solicitor.model.impl;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,8 +14,10 @@ import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
@@ -40,6 +44,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
   private SolicitorVersion solicitorVersion;
 
+  private String textPoolDirectory;
+
+  private MappedFileTextStore textStore;
+
   /** Map for looking up the table name for each model object class. */
   private Map<Class<? extends AbstractModelObject>, String> tableNameMap = new HashMap<>();
 
@@ -91,6 +99,47 @@ public class ModelFactoryImpl implements ModelFactory {
     return this.solicitorVersion;
   }
 
+  /**
+   * Sets the directory for storing license and notice texts outside of the heap. If empty the texts are kept on the
+   * heap.
+   *
+   * @param textPoolDirectory the directory
+   */
+  @Value("${solicitor.textpool.directory:}")
+  public void setTextPoolDirectory(String textPoolDirectory) {
+
+    this.textPoolDirectory = textPoolDirectory;
+  }
+
+  /**
+   * Creates the {@link TextPool} for a new {@link ModelRootImpl}. If a text pool directory is configured all created
+   * pools share a single {@link MappedFileTextStore}, otherwise each pool is a {@link TextPoolImpl}.
+   *
+   * @return the new text pool
+   */
+  protected TextPool newTextPool() {
+
+    if (this.textPoolDirectory == null || this.textPoolDirectory.isEmpty()) {
+      return new TextPoolImpl();
+    }
+    return new MappedFileTextPool(getTextStore());
+  }
+
+  private synchronized MappedFileTextStore getTextStore() {
+
+    if (this.textStore == null) {
+      try {
+        this.textStore = new MappedFileTextStore(Paths.get(this.textPoolDirectory),
+            MappedFileTextStore.DEFAULT_SEGMENT_SIZE);
+      } catch (IOException e) {
+        throw new SolicitorRuntimeException(
+            "Could not create text pool in directory '" + this.textPoolDirectory + "'", e);
+      }
+      LOG.info(LogMessages.TEXT_POOL_MAPPED_FILES.msg(), this.textStore.getDirectory());
+    }
+    return this.textStore;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<Object> getAllModelObjects(ModelRoot modelRoot) {
@@ -160,7 +209,7 @@ public class ModelFactoryImpl implements ModelFactory {
   @Override
   public ModelRootImpl newModelRoot() {
 
-    ModelRootImpl modelRoot = new ModelRootImpl();
+    ModelRootImpl modelRoot = new ModelRootImpl(newTextPool());
     modelRoot.setSolicitorVersion(this.solicitorVersion.getVersion());
     modelRoot.setSolicitorGitHash(this.solicitorVersion.getGithash());
     modelRoot.setSolicitorBuilddate(this.solicitorVersion.getBuilddate());
@@ -5,9 +5,7 @@ package com.devonfw.tools.solicitor.model.impl;
 
 import java.util.Date;
 
-import com.devonfw.tools.solicitor.model.ModelImporterExporter;
 import com.devonfw.tools.solicitor.model.ModelRoot;
-import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
 import com.devonfw.tools.solicitor.model.masterdata.Engagement;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -48,10 +46,20 @@ public class ModelRootImpl extends AbstractModelObject implements ModelRoot {
    */
   public ModelRootImpl() {
 
+    this(new TextPoolImpl());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param textPool the text pool for storing license and notice texts
+   */
+  public ModelRootImpl(TextPool textPool) {
+
     super();
     this.modelVersion = DEFAULT_MODEL_VERSION;
     this.executionTime = (new Date()).toString();
-    this.textPool = new TextPoolImpl();
+    this.textPool = textPool;
 
   }
 
@@ -251,13 +259,11 @@ public class ModelRootImpl extends AbstractModelObject implements ModelRoot {
   }
 
   /**
-   * Read the data of the ModelRoot from a JsonNode.
+   * Read the scalar attributes of the ModelRoot from a JsonNode. The engagement and the text pool are not read.
    *
-   * @param root the JsonNode containing the data of the ModelRoot
-   * @param modelFactory the ModelFactoryImpl to create the EngagementImpl object for the engagement of the ModelRoot
-   * @param readModelVersion the version of the model to read, which can be used to handle differences in the model
+   * @param root the JsonNode containing the attributes of the ModelRoot
    */
-  public void readModelRootFromJson(JsonNode root, ModelFactoryImpl modelFactory, int readModelVersion) {
+  public void readModelRootAttributesFromJson(JsonNode root) {
 
     setExecutionTime(root.get("executionTime").asText());
 
@@ -274,26 +280,6 @@ public class ModelRootImpl extends AbstractModelObject implements ModelRoot {
     setExtensionGitHash(root.get("extensionGitHash").asText());
 
     setExtensionBuilddate(root.get("extensionBuilddate").asText());
-
-    JsonNode engagementNode = root.get("engagement");
-    EngagementImpl engagement = modelFactory.newEngagement();
-    engagement.setModelRoot(this);
-    engagement.readEngagementFromJsonNode(engagementNode, modelFactory, readModelVersion);
-
-    JsonNode textPoolNode = null;
-    if (readModelVersion >= ModelImporterExporter.LOWEST_VERSION_WITH_TEXT_POOL) {
-      textPoolNode = root.get("textPool");
-      JsonNode dataMapNode = textPoolNode.get("dataMap");
-
-      TextPool textPool = getTextPool();
-      for (JsonNode singleEntryValue : dataMapNode) {
-        // only store values; keys will be reconstructed based on values
-        textPool.store(singleEntryValue.asText());
-      }
-    } else {
-      // previous versions do not contain license texts, so complete the data now
-      completeData();
-    }
   }
 
 }
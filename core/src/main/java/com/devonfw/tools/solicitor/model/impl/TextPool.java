@@ -25,4 +25,15 @@ public interface TextPool {
    * @throws NoSuchElementException if nothing is stored under the given key
    */
   String retrieve(String key);
+
+  /**
+   * Retrieves a text from the pool with large HTML content being replaced as done by
+   * {@link com.devonfw.tools.solicitor.common.LicenseTextHelper#replaceLongHtmlContent(String)}. Implementations
+   * memoize the result per key so that the (possibly large) text is only checked once.
+   *
+   * @param key the key of the text (might <code>null</code> which represents a <code>null</code> value)
+   * @return the stored text or the replacement note; might be <code>null</code> if a null value was stored in the pool
+   * @throws NoSuchElementException if nothing is stored under the given key
+   */
+  String retrieveSanitized(String key);
 }
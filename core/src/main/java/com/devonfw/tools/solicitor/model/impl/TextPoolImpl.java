@@ -3,17 +3,22 @@ package com.devonfw.tools.solicitor.model.impl;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.codec.digest.DigestUtils;
 
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+
 /**
- * Implementation of a {@link TextPool}.
+ * Implementation of a {@link TextPool} which keeps all texts on the heap.
  *
  */
 public class TextPoolImpl implements TextPool {
 
   private Map<String, String> dataMap;
 
+  private final Map<String, String> sanitizedMap = new ConcurrentHashMap<>();
+
   /**
    * @return dataMap
    */
@@ -28,6 +33,7 @@ public class TextPoolImpl implements TextPool {
   public void setDataMap(Map<String, String> dataMap) {
 
     this.dataMap = dataMap;
+    this.sanitizedMap.clear();
   }
 
   /**
@@ -70,4 +76,18 @@ public class TextPoolImpl implements TextPool {
     return result;
   }
 
+  @Override
+  public String retrieveSanitized(String key) {
+
+    if (key == null) {
+      return null;
+    }
+    String result = this.sanitizedMap.get(key);
+    if (result == null) {
+      result = LicenseTextHelper.replaceLongHtmlContent(retrieve(key));
+      this.sanitizedMap.put(key, result);
+    }
+    return result;
+  }
+
 }
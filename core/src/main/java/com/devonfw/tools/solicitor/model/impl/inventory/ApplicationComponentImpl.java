@@ -8,7 +8,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import com.devonfw.tools.solicitor.common.LicenseTextHelper;
 import com.devonfw.tools.solicitor.common.PackageURLHelper;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.common.content.ContentProvider;
@@ -141,6 +140,13 @@ public class ApplicationComponentImpl extends AbstractModelObject implements App
     "sourceDownloadUrl", "dataStatus", "traceabilityNotes" };
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String[] getIndexedHeadElements() {
+
+    return new String[] { "groupId", "artifactId", "version", "usagePattern" };
+  }
+
   /** {@inheritDoc} */
   @Override
   public List<NormalizedLicense> getNormalizedLicenses() {
@@ -174,7 +180,7 @@ public class ApplicationComponentImpl extends AbstractModelObject implements App
   @JsonIgnore
   public String getNoticeFileContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.noticeFileContentKey));
+    return retrieveSanitizedTextFromPool(this.noticeFileContentKey);
   }
 
   /**
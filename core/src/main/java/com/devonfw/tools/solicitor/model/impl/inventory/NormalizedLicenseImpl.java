@@ -7,7 +7,6 @@ package com.devonfw.tools.solicitor.model.impl.inventory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.devonfw.tools.solicitor.common.LicenseTextHelper;
 import com.devonfw.tools.solicitor.common.content.ContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
 import com.devonfw.tools.solicitor.model.ModelImporterExporter;
@@ -149,7 +148,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getDeclaredLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.declaredLicenseContentKey));
+    return retrieveSanitizedTextFromPool(this.declaredLicenseContentKey);
   }
 
   /**
@@ -174,7 +173,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getEffectiveNormalizedLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.effectiveNormalizedLicenseContentKey));
+    return retrieveSanitizedTextFromPool(this.effectiveNormalizedLicenseContentKey);
   }
 
   /**
@@ -212,6 +211,14 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
     "includeSource", "reviewedForRelease", "comments", "legalApproved", "legalComments", "trace" };
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String[] getIndexedHeadElements() {
+
+    return new String[] { "normalizedLicenseType", "normalizedLicense", "effectiveNormalizedLicenseType",
+    "effectiveNormalizedLicense" };
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getIncludeLicense() {
@@ -270,7 +277,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getLicenseRefContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.licenseRefContentKey));
+    return retrieveSanitizedTextFromPool(this.licenseRefContentKey);
   }
 
   /**
@@ -323,7 +330,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getNormalizedLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.normalizedLicenseContentKey));
+    return retrieveSanitizedTextFromPool(this.normalizedLicenseContentKey);
   }
 
   /**
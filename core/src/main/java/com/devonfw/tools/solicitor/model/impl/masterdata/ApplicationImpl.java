@@ -47,9 +47,13 @@ public class ApplicationImpl extends AbstractModelObject implements Application
     super();
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * This method is thread safe.
+   */
   @Override
-  public void addApplicationComponent(ApplicationComponent applicationComponent) {
+  public synchronized void addApplicationComponent(ApplicationComponent applicationComponent) {
 
     this.applicationComponents.add(applicationComponent);
   }
@@ -61,11 +65,15 @@ public class ApplicationImpl extends AbstractModelObject implements Application
     return this.engagement;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * This method is thread safe. The returned list is a snapshot which is not affected by components added later on.
+   */
   @Override
-  public List<ApplicationComponent> getApplicationComponents() {
+  public synchronized List<ApplicationComponent> getApplicationComponents() {
 
-    return Collections.unmodifiableList(this.applicationComponents);
+    return Collections.unmodifiableList(new ArrayList<>(this.applicationComponents));
   }
 
   /** {@inheritDoc} */
@@ -92,6 +100,13 @@ public class ApplicationImpl extends AbstractModelObject implements Application
     "reportingGroups" };
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String[] getIndexedHeadElements() {
+
+    return new String[] { "applicationName" };
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getName() {
@@ -191,7 +206,7 @@ public class ApplicationImpl extends AbstractModelObject implements Application
   @Override
   public void completeData() {
 
-    for (ApplicationComponent applicationComponent : this.applicationComponents) {
+    for (ApplicationComponent applicationComponent : getApplicationComponents()) {
       applicationComponent.completeData();
     }
   }
@@ -206,6 +221,25 @@ public class ApplicationImpl extends AbstractModelObject implements Application
   public void readApplicationFromJsonNode(JsonNode applicationNode, ModelFactoryImpl modelFactory,
       int readModelVersion) {
 
+    readApplicationAttributesFromJsonNode(applicationNode);
+
+    JsonNode applicationComponentsNode = applicationNode.get("applicationComponents");
+    for (JsonNode applicationComponentNode : applicationComponentsNode) {
+      ApplicationComponentImpl applicationComponent = modelFactory.newApplicationComponent();
+      applicationComponent.setApplication(this);
+      applicationComponent.readApplicationComponentFromJsonNode(applicationComponentNode, modelFactory,
+          readModelVersion);
+
+    }
+  }
+
+  /**
+   * Read the scalar attributes of an Application from a JsonNode. The application components are not read.
+   *
+   * @param applicationNode the JsonNode containing the attributes of the Application
+   */
+  public void readApplicationAttributesFromJsonNode(JsonNode applicationNode) {
+
     setName(applicationNode.get("name").asText(null));
 
     setReleaseId(applicationNode.get("releaseId").asText(null));
@@ -223,15 +257,6 @@ public class ApplicationImpl extends AbstractModelObject implements Application
       ReportingGroupHandler.validateReportingGroupList(reportingGroups);
     }
     setReportingGroups(reportingGroups);
-
-    JsonNode applicationComponentsNode = applicationNode.get("applicationComponents");
-    for (JsonNode applicationComponentNode : applicationComponentsNode) {
-      ApplicationComponentImpl applicationComponent = modelFactory.newApplicationComponent();
-      applicationComponent.setApplication(this);
-      applicationComponent.readApplicationComponentFromJsonNode(applicationComponentNode, modelFactory,
-          readModelVersion);
-
-    }
   }
 
 }
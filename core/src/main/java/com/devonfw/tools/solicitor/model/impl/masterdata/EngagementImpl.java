@@ -233,6 +233,23 @@ public class EngagementImpl extends AbstractModelObject implements Engagement {
    */
   public void readEngagementFromJsonNode(JsonNode engagementNode, ModelFactoryImpl modelFactory, int readModelVersion) {
 
+    readEngagementAttributesFromJsonNode(engagementNode);
+
+    JsonNode applicationsNode = engagementNode.get("applications");
+    for (JsonNode applicationNode : applicationsNode) {
+      ApplicationImpl application = modelFactory.newApplication();
+      application.setEngagement(this);
+      application.readApplicationFromJsonNode(applicationNode, modelFactory, readModelVersion);
+    }
+  }
+
+  /**
+   * Read the scalar attributes of the Engagement from a JsonNode. The applications are not read.
+   *
+   * @param engagementNode the JsonNode containing the attributes of the Engagement
+   */
+  public void readEngagementAttributesFromJsonNode(JsonNode engagementNode) {
+
     setEngagementName(engagementNode.get("engagementName").asText(null));
 
     setEngagementType(EngagementType.valueOf(engagementNode.get("engagementType").asText(null)));
@@ -246,13 +263,6 @@ public class EngagementImpl extends AbstractModelObject implements Engagement {
     setOssPolicyFollowed(engagementNode.get("ossPolicyFollowed").asBoolean());
 
     setCustomerProvidesOss(engagementNode.get("customerProvidesOss").asBoolean());
-
-    JsonNode applicationsNode = engagementNode.get("applications");
-    for (JsonNode applicationNode : applicationsNode) {
-      ApplicationImpl application = modelFactory.newApplication();
-      application.setEngagement(this);
-      application.readApplicationFromJsonNode(applicationNode, modelFactory, readModelVersion);
-    }
   }
 
 }
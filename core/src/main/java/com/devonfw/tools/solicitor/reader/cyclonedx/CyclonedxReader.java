@@ -2,7 +2,9 @@ package com.devonfw.tools.solicitor.reader.cyclonedx;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,13 +21,17 @@ import com.devonfw.tools.solicitor.model.masterdata.Application;
 import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
 import com.devonfw.tools.solicitor.reader.AbstractReader;
 import com.devonfw.tools.solicitor.reader.Reader;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.github.packageurl.PackageURL;
 
 /**
  * A {@link Reader} which reads data produced by the <a href="https://github.com/CycloneDX/cdxgen">CDXGEN Tool</a>.
+ * <p>
+ * The SBOM is parsed in a streaming way so that the memory needed does not depend on the size of the SBOM. By default
+ * only the top level components are read. Components nested within other components are read if the reader
+ * configuration parameter <code>includeNestedComponents</code> is set to <code>true</code>.
  */
 @Component
 public class CyclonedxReader extends AbstractReader implements Reader {
@@ -37,6 +43,15 @@ public class CyclonedxReader extends AbstractReader implements Reader {
    */
   public static final String SUPPORTED_TYPE = "cyclonedx";
 
+  /**
+   * Name of the reader configuration parameter which activates reading of nested components.
+   */
+  private static final String INCLUDE_NESTED_COMPONENTS_PARAMETER_NAME = "includeNestedComponents";
+
+  private static final String COMPONENTS_FIELD = "components";
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
   /** {@inheritDoc} */
   @Override
   public Set<String> getSupportedTypes() {
@@ -56,101 +71,270 @@ public class CyclonedxReader extends AbstractReader implements Reader {
     } catch (IOException e1) {
       throw new SolicitorRuntimeException("Could not open inventory source '" + sourceUrl + "' for reading", e1);
     }
-    // According to tutorial https://github.com/FasterXML/jackson-databind/
-    ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-    try {
-      JsonNode rootNode = mapper.readTree(is);
-
-      // Get all components in SBOM
-      JsonNode componentsNode = rootNode.get("components");
-      if (componentsNode != null) {
-        for (JsonNode componentNode : componentsNode) {
-
-          String groupId = componentNode.get("group") != null ? componentNode.get("group").asText() : null;
-          String artifactId = componentNode.get("name").asText();
-          String version = componentNode.get("version") != null ? componentNode.get("version").asText() : null;
-          String purl = componentNode.get("purl") != null ? componentNode.get("purl").asText() : null;
-
-          // Fill appComponents
-          ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
-          statistics.readComponentCount++;
-
-          appComponent.setGroupId(groupId);
-          appComponent.setArtifactId(artifactId);
-          appComponent.setVersion(version);
-          appComponent.setUsagePattern(usagePattern);
-          appComponent.setOssModified(modified);
-
-          // Fill purl
-          if (purl != null && !purl.isEmpty()) {
-            try {
-              PackageURL packageURL = PackageURLHelper.fromString(purl);
-              appComponent.setPackageUrl(packageURL);
-            } catch (SolicitorMalformedPackageURLException ex) {
-              if (LOG.isDebugEnabled()) {
-                LOG.debug("Problem with PackageURL", ex);
-              }
-              LOG.warn(LogMessages.READER_PURL_MALFORMED.msg(), purl);
+    boolean includeNestedComponents = configuration != null
+        && "true".equals(configuration.get(INCLUDE_NESTED_COMPONENTS_PARAMETER_NAME));
+    // the SBOM is parsed in a streaming way; only a single (top level) component is held in memory at a time
+    try (JsonParser parser = JSON_FACTORY.createParser(is)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("SBOM does not contain a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        JsonToken token = parser.nextToken();
+        // Get all components in SBOM
+        if (COMPONENTS_FIELD.equals(fieldName) && token == JsonToken.START_ARRAY) {
+          while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+              CyclonedxComponent component = readComponent(parser, includeNestedComponents);
+              addComponent(component, sourceUrl, application, usagePattern, modified, configuration, statistics);
+            } else {
+              parser.skipChildren();
             }
           }
+        } else {
+          parser.skipChildren();
+        }
+      }
+      doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
+    } catch (IOException e) {
+      throw new SolicitorRuntimeException("Could not read CycloneDx inventory source '" + sourceUrl + "'", e);
+    }
 
-          if (!addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
-            // skip processing of licenses and proceed to next component if component is filtered out
-            continue;
-          }
-
-          // Fill license information
-          JsonNode licensesNode = componentNode.get("licenses"); // licenses
+  }
 
-          // Case if no licenses field exists
-          if (licensesNode == null) {
-            addRawLicense(appComponent, null, null, sourceUrl);
-          }
-          // Case if licenses field exists but is empty
-          else if (licensesNode != null && licensesNode.isEmpty()) {
-            addRawLicense(appComponent, null, null, sourceUrl);
-          }
-          // Case if licenses field exists and contains expressions or licenses
-          else if (licensesNode != null && licensesNode.isEmpty() == false) {
-            for (JsonNode licenseNode : licensesNode) {
-              // Check for expressions
-              if (licenseNode.has("expression")) {
-                statistics.licenseCount++;
-                addRawLicense(appComponent, licenseNode.get("expression").asText(), null, sourceUrl);
-              }
+  /**
+   * Reads a single component object from the parser. The parser needs to be positioned on the
+   * {@link JsonToken#START_OBJECT} of the component; it will be positioned on the corresponding
+   * {@link JsonToken#END_OBJECT} afterwards. All fields which are not needed (e.g. hashes or the texts of licenses) are
+   * skipped without being built.
+   *
+   * @param parser the parser
+   * @param includeNestedComponents if <code>true</code> then the nested components are read recursively, otherwise
+   *        they are skipped
+   * @return the data of the component
+   * @throws IOException if the JSON could not be parsed
+   */
+  private CyclonedxComponent readComponent(JsonParser parser, boolean includeNestedComponents) throws IOException {
 
-              // Check for licenses
-              if (licenseNode.has("license")) {
-                // Declared License can be written either in "id" or "name" field. Prefer "id" as its written in SPDX
-                // format.
-                if (licenseNode.get("license").has("id")) {
-                  if (licenseNode.get("license").has("url")) {
-                    statistics.licenseCount++;
-                    addRawLicense(appComponent, licenseNode.get("license").get("id").asText(),
-                        licenseNode.get("license").get("url").asText(), sourceUrl);
-                  } else {
-                    statistics.licenseCount++;
-                    addRawLicense(appComponent, licenseNode.get("license").get("id").asText(), null, sourceUrl);
-                  }
-                } else if (licenseNode.get("license").has("name")) {
-                  if (licenseNode.get("license").has("url")) {
-                    statistics.licenseCount++;
-                    addRawLicense(appComponent, licenseNode.get("license").get("name").asText(),
-                        licenseNode.get("license").get("url").asText(), sourceUrl);
-                  } else {
-                    statistics.licenseCount++;
-                    addRawLicense(appComponent, licenseNode.get("license").get("name").asText(), null, sourceUrl);
-                  }
-                }
+    CyclonedxComponent component = new CyclonedxComponent();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (fieldName) {
+        case "group":
+          component.group = valueAsText(parser);
+          break;
+        case "name":
+          component.name = valueAsText(parser);
+          break;
+        case "version":
+          component.version = valueAsText(parser);
+          break;
+        case "purl":
+          component.purl = valueAsText(parser);
+          break;
+        case "licenses":
+          component.licenses = readLicenses(parser);
+          break;
+        case COMPONENTS_FIELD:
+          if (includeNestedComponents && token == JsonToken.START_ARRAY) {
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+              if (token == JsonToken.START_OBJECT) {
+                component.components.add(readComponent(parser, true));
+              } else {
+                parser.skipChildren();
               }
             }
+          } else {
+            parser.skipChildren();
           }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return component;
+  }
+
+  /**
+   * Reads the <code>licenses</code> field of a component. The parser needs to be positioned on the value of the field.
+   *
+   * @param parser the parser
+   * @return the declared licenses (name and url) in the order given in the SBOM; <code>null</code> if the field does
+   *         not contain any entries
+   * @throws IOException if the JSON could not be parsed
+   */
+  private List<String[]> readLicenses(JsonParser parser) throws IOException {
+
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.END_ARRAY) {
+      return null;
+    }
+    List<String[]> licenses = new ArrayList<>();
+    for (; token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      String expression = null;
+      String[] license = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        token = parser.nextToken();
+        if ("expression".equals(fieldName)) {
+          expression = valueAsText(parser);
+        } else if ("license".equals(fieldName) && token == JsonToken.START_OBJECT) {
+          license = readLicense(parser);
+        } else {
+          parser.skipChildren();
         }
       }
-      doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
-    } catch (IOException e) {
-      throw new SolicitorRuntimeException("Could not read CycloneDx inventory source '" + sourceUrl + "'", e);
+      // Check for expressions
+      if (expression != null) {
+        licenses.add(new String[] { expression, null });
+      }
+      // Check for licenses
+      if (license != null) {
+        licenses.add(license);
+      }
     }
+    return licenses;
+  }
+
+  /**
+   * Reads a <code>license</code> object. The parser needs to be positioned on its {@link JsonToken#START_OBJECT}.
+   *
+   * @param parser the parser
+   * @return the license name and url; <code>null</code> if neither "id" nor "name" is given
+   * @throws IOException if the JSON could not be parsed
+   */
+  private String[] readLicense(JsonParser parser) throws IOException {
+
+    String id = null;
+    String name = null;
+    String url = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "id":
+          id = valueAsText(parser);
+          break;
+        case "name":
+          name = valueAsText(parser);
+          break;
+        case "url":
+          url = valueAsText(parser);
+          break;
+        default:
+          // e.g. the (possibly huge) license text
+          parser.skipChildren();
+      }
+    }
+    // Declared License can be written either in "id" or "name" field. Prefer "id" as its written in SPDX format.
+    if (id != null) {
+      return new String[] { id, url };
+    } else if (name != null) {
+      return new String[] { name, url };
+    }
+    return null;
+  }
+
+  /**
+   * Returns the text of the current value in the same way as {@link com.fasterxml.jackson.databind.JsonNode#asText()}
+   * would do. Structured values are skipped and result in an empty string.
+   *
+   * @param parser the parser positioned on a value
+   * @return the text representation of the value
+   * @throws IOException if the JSON could not be parsed
+   */
+  private static String valueAsText(JsonParser parser) throws IOException {
+
+    if (parser.currentToken().isStructStart()) {
+      parser.skipChildren();
+      return "";
+    }
+    return parser.getText();
+  }
+
+  /**
+   * Creates the {@link ApplicationComponent} (including its licenses) for the given component data and adds it to the
+   * application if not filtered. Nested components are processed afterwards.
+   *
+   * @param component the component data as read from the SBOM
+   * @param sourceUrl the URL of the SBOM
+   * @param application the application
+   * @param usagePattern the usage pattern
+   * @param modified the modified flag
+   * @param configuration the reader configuration
+   * @param statistics the statistics data structure
+   */
+  private void addComponent(CyclonedxComponent component, String sourceUrl, Application application,
+      UsagePattern usagePattern, boolean modified, Map<String, String> configuration, ReaderStatistics statistics) {
+
+    // Fill appComponents
+    ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
+    statistics.readComponentCount++;
+
+    appComponent.setGroupId(component.group);
+    appComponent.setArtifactId(component.name);
+    appComponent.setVersion(component.version);
+    appComponent.setUsagePattern(usagePattern);
+    appComponent.setOssModified(modified);
+
+    // Fill purl
+    String purl = component.purl;
+    if (purl != null && !purl.isEmpty()) {
+      try {
+        PackageURL packageURL = PackageURLHelper.fromString(purl);
+        appComponent.setPackageUrl(packageURL);
+      } catch (SolicitorMalformedPackageURLException ex) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Problem with PackageURL", ex);
+        }
+        LOG.warn(LogMessages.READER_PURL_MALFORMED.msg(), purl);
+      }
+    }
+
+    if (addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
+      // Fill license information
+      if (component.licenses == null) {
+        // Case if no licenses field exists or if licenses field exists but is empty
+        addRawLicense(appComponent, null, null, sourceUrl);
+      } else {
+        // Case if licenses field exists and contains expressions or licenses
+        for (String[] license : component.licenses) {
+          statistics.licenseCount++;
+          addRawLicense(appComponent, license[0], license[1], sourceUrl);
+        }
+      }
+    }
+
+    for (CyclonedxComponent nestedComponent : component.components) {
+      addComponent(nestedComponent, sourceUrl, application, usagePattern, modified, configuration, statistics);
+    }
+  }
+
+  /**
+   * The data of a single component as needed for creating the {@link ApplicationComponent}.
+   */
+  private static class CyclonedxComponent {
+
+    private String group;
+
+    private String name;
+
+    private String version;
+
+    private String purl;
+
+    private List<String[]> licenses;
+
+    private final List<CyclonedxComponent> components = new ArrayList<>();
 
   }
 
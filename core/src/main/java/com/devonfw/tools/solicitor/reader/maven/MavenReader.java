@@ -12,12 +12,18 @@ import java.util.Set;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.sax.SAXSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -40,6 +46,10 @@ import jakarta.xml.bind.Unmarshaller;
 /**
  * A {@link Reader} which reads data produced by the <a href="https://www.mojohaus.org/license-maven-plugin/">Maven
  * License Plugin</a>.
+ * <p>
+ * The {@link JAXBContext} is created only once and shared by all invocations. In streaming mode (see
+ * {@link #setStreaming(boolean)}) the data is read with a StAX parser and each dependency is processed as soon as it
+ * has been parsed.
  */
 @Component
 public class MavenReader extends AbstractReader implements Reader {
@@ -50,6 +60,26 @@ public class MavenReader extends AbstractReader implements Reader {
    */
   public static final String SUPPORTED_TYPE = "maven";
 
+  private static JAXBContext jaxbContext;
+
+  private static SAXParserFactory secureParserFactory;
+
+  private static XMLInputFactory secureInputFactory;
+
+  private boolean streaming = false;
+
+  /**
+   * Activates the StAX based streaming mode.
+   *
+   * @param streaming if <code>true</code> each dependency is processed as soon as it has been parsed; otherwise the
+   *        whole license summary is unmarshalled before processing
+   */
+  @Value("${solicitor.reader.maven.streaming:false}")
+  public void setStreaming(boolean streaming) {
+
+    this.streaming = streaming;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Set<String> getSupportedTypes() {
@@ -69,57 +99,203 @@ public class MavenReader extends AbstractReader implements Reader {
     } catch (IOException e1) {
       throw new SolicitorRuntimeException("Could not open inventory source '" + sourceUrl + "' for reading", e1);
     }
-    LicenseSummary ls;
-
-    JAXBContext jaxbContext;
     try {
-      SAXParserFactory secureParserFactory = SAXParserFactory.newInstance();
-      secureParserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-      secureParserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-      secureParserFactory.setXIncludeAware(false);
+      if (this.streaming) {
+        readDependenciesStreaming(is, sourceUrl, application, usagePattern, modified, configuration, statistics);
+      } else {
+        LicenseSummary ls = readLicenseSummary(is);
+        for (Dependency dep : ls.getDependencies()) {
+          addDependency(dep, sourceUrl, application, usagePattern, modified, configuration, statistics);
+        }
+      }
+    } finally {
+      try {
+        is.close();
+      } catch (IOException e) {
+        LOG.debug("Exception while attemping to close inputs stream for reading maven license data", e);
+      }
+    }
+    doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
+  }
+
+  /**
+   * Unmarshals the complete {@link LicenseSummary}.
+   *
+   * @param is the stream to read from
+   * @return the license summary
+   */
+  private LicenseSummary readLicenseSummary(InputStream is) {
 
-      Source xmlSource = new SAXSource(secureParserFactory.newSAXParser().getXMLReader(), new InputSource(is));
+    try {
+      SAXParser saxParser;
+      SAXParserFactory secureParserFactory = getSecureParserFactory();
+      synchronized (secureParserFactory) {
+        saxParser = secureParserFactory.newSAXParser();
+      }
+      Source xmlSource = new SAXSource(saxParser.getXMLReader(), new InputSource(is));
 
-      jaxbContext = JAXBContext.newInstance(LicenseSummary.class);
-      Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-      ls = (LicenseSummary) unmarshaller.unmarshal(xmlSource);
+      Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+      return (LicenseSummary) unmarshaller.unmarshal(xmlSource);
     } catch (JAXBException | SAXException | ParserConfigurationException e) {
       throw new SolicitorRuntimeException("Could not read maven license info", e);
+    }
+  }
+
+  /**
+   * Reads the dependencies using a StAX parser. Each <code>&lt;dependency&gt;</code> element within
+   * <code>&lt;licenseSummary&gt;&lt;dependencies&gt;</code> is unmarshalled on its own and directly turned into an
+   * {@link ApplicationComponent}, so the complete {@link LicenseSummary} is never held in memory.
+   *
+   * @param is the stream to read from
+   * @param sourceUrl the URL of the source
+   * @param application the application
+   * @param usagePattern the usage pattern
+   * @param modified the modified flag
+   * @param configuration the reader configuration
+   * @param statistics the statistics data structure
+   */
+  private void readDependenciesStreaming(InputStream is, String sourceUrl, Application application,
+      UsagePattern usagePattern, boolean modified, Map<String, String> configuration, ReaderStatistics statistics) {
+
+    XMLStreamReader xsr = null;
+    try {
+      XMLInputFactory secureInputFactory = getSecureInputFactory();
+      synchronized (secureInputFactory) {
+        xsr = secureInputFactory.createXMLStreamReader(is);
+      }
+      Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+      int depth = 0;
+      boolean inDependencies = false;
+      int event = xsr.next();
+      while (event != XMLStreamConstants.END_DOCUMENT) {
+        if (event == XMLStreamConstants.DTD) {
+          // prevent XXE in the same way as in the non streaming mode
+          throw new XMLStreamException("DOCTYPE is disallowed", xsr.getLocation());
+        }
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          if (inDependencies && depth == 3 && "dependency".equals(xsr.getLocalName())) {
+            // unmarshalling consumes the complete element and leaves the reader on the following event
+            Dependency dep = unmarshaller.unmarshal(xsr, Dependency.class).getValue();
+            depth--;
+            addDependency(dep, sourceUrl, application, usagePattern, modified, configuration, statistics);
+            event = xsr.getEventType();
+            continue;
+          }
+          if (depth == 2 && "dependencies".equals(xsr.getLocalName())) {
+            inDependencies = true;
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          if (depth == 2) {
+            inDependencies = false;
+          }
+          depth--;
+        }
+        event = xsr.next();
+      }
+    } catch (JAXBException | XMLStreamException e) {
+      throw new SolicitorRuntimeException("Could not read maven license info", e);
     } finally {
-      if (is != null) {
+      if (xsr != null) {
         try {
-          is.close();
-        } catch (IOException e) {
-          LOG.debug("Exception while attemping to close inputs stream for reading maven license data", e);
+          xsr.close();
+        } catch (XMLStreamException e) {
+          LOG.debug("Exception while attemping to close XML stream reader for reading maven license data", e);
         }
       }
     }
+  }
 
-    for (Dependency dep : ls.getDependencies()) {
-      ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
-      statistics.readComponentCount++;
-      appComponent.setGroupId(dep.getGroupId());
-      appComponent.setArtifactId(dep.getArtifactId());
-      appComponent.setVersion(dep.getVersion());
-      appComponent.setUsagePattern(usagePattern);
-      appComponent.setOssModified(modified);
-      appComponent.setPackageUrl(
-          PackageURLHelper.fromMavenCoordinates(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
-      if (!addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
-        // skip processing of licenses and processd with next component if component is filtered out
-        continue;
-      }
-      if (dep.getLicenses().isEmpty()) {
-        // in case no license is found insert an empty entry
-        addRawLicense(appComponent, null, null, sourceUrl);
-      } else {
-        for (License lic : dep.getLicenses()) {
-          statistics.licenseCount++;
-          addRawLicense(appComponent, lic.getName(), lic.getUrl(), sourceUrl);
-        }
+  /**
+   * Creates the {@link ApplicationComponent} (including its licenses) for the given dependency and adds it to the
+   * application if not filtered.
+   *
+   * @param dep the dependency as read from the license summary
+   * @param sourceUrl the URL of the source
+   * @param application the application
+   * @param usagePattern the usage pattern
+   * @param modified the modified flag
+   * @param configuration the reader configuration
+   * @param statistics the statistics data structure
+   */
+  private void addDependency(Dependency dep, String sourceUrl, Application application, UsagePattern usagePattern,
+      boolean modified, Map<String, String> configuration, ReaderStatistics statistics) {
+
+    ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
+    statistics.readComponentCount++;
+    appComponent.setGroupId(dep.getGroupId());
+    appComponent.setArtifactId(dep.getArtifactId());
+    appComponent.setVersion(dep.getVersion());
+    appComponent.setUsagePattern(usagePattern);
+    appComponent.setOssModified(modified);
+    appComponent.setPackageUrl(
+        PackageURLHelper.fromMavenCoordinates(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+    if (!addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
+      // skip processing of licenses if component is filtered out
+      return;
+    }
+    if (dep.getLicenses() == null || dep.getLicenses().isEmpty()) {
+      // in case no license is found insert an empty entry
+      addRawLicense(appComponent, null, null, sourceUrl);
+    } else {
+      for (License lic : dep.getLicenses()) {
+        statistics.licenseCount++;
+        addRawLicense(appComponent, lic.getName(), lic.getUrl(), sourceUrl);
       }
     }
-    doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
+  }
+
+  /**
+   * Gets the {@link JAXBContext} for the {@link LicenseSummary}. The context is created only once as this is expensive;
+   * it is thread safe and shared by all readers.
+   *
+   * @return the JAXB context
+   * @throws JAXBException if the context could not be created
+   */
+  private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+
+    if (jaxbContext == null) {
+      jaxbContext = JAXBContext.newInstance(LicenseSummary.class);
+    }
+    return jaxbContext;
+  }
+
+  /**
+   * Gets the {@link SAXParserFactory} which is configured to prevent XXE. The factory is not guaranteed to be thread
+   * safe, so any access needs to be synchronized on the factory.
+   *
+   * @return the parser factory
+   * @throws SAXException if the factory could not be configured
+   * @throws ParserConfigurationException if the factory could not be configured
+   */
+  private static synchronized SAXParserFactory getSecureParserFactory()
+      throws SAXException, ParserConfigurationException {
+
+    if (secureParserFactory == null) {
+      SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setXIncludeAware(false);
+      secureParserFactory = factory;
+    }
+    return secureParserFactory;
+  }
+
+  /**
+   * Gets the {@link XMLInputFactory} which is configured to prevent XXE. The factory is not guaranteed to be thread
+   * safe, so any access needs to be synchronized on the factory.
+   *
+   * @return the input factory
+   */
+  private static synchronized XMLInputFactory getSecureInputFactory() {
+
+    if (secureInputFactory == null) {
+      XMLInputFactory factory = XMLInputFactory.newInstance();
+      factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+      secureInputFactory = factory;
+    }
+    return secureInputFactory;
   }
 
 }
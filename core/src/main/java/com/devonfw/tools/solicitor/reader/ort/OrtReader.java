@@ -5,6 +5,8 @@
 package com.devonfw.tools.solicitor.reader.ort;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -23,13 +25,18 @@ import com.devonfw.tools.solicitor.model.masterdata.Application;
 import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
 import com.devonfw.tools.solicitor.reader.AbstractReader;
 import com.devonfw.tools.solicitor.reader.Reader;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.github.packageurl.PackageURL;
 
 /**
  * A {@link Reader} which reads data generated by the
  * <a href="https://github.com/oss-review-toolkit/ort#analyzer">ORT-Analyzer</a> component.
+ * <p>
+ * The analyzer result is parsed in a streaming way. It might be given in JSON or (if the source has extension
+ * <code>.yml</code> or <code>.yaml</code>) in YAML format.
  */
 @Component
 public class OrtReader extends AbstractReader implements Reader {
@@ -41,6 +48,10 @@ public class OrtReader extends AbstractReader implements Reader {
    */
   public static final String SUPPORTED_TYPE = "ort";
 
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final JsonFactory YAML_FACTORY = new YAMLFactory();
+
   /** {@inheritDoc} */
   @Override
   public Set<String> getSupportedTypes() {
@@ -49,81 +60,268 @@ public class OrtReader extends AbstractReader implements Reader {
   }
 
   /** {@inheritDoc} */
-  @SuppressWarnings("rawtypes")
   @Override
   public void readInventory(String type, String sourceUrl, Application application, UsagePattern usagePattern,
       boolean modified, String packageType, Map<String, String> configuration) {
 
     ReaderStatistics statistics = new ReaderStatistics();
 
-    // According to tutorial https://github.com/FasterXML/jackson-databind/
-    ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    InputStream is;
     try {
-      Map l = mapper.readValue(this.inputStreamFactory.createInputStreamFor(sourceUrl), Map.class);
-      Map analyzer = (Map) l.get("analyzer");
-      Map result = (Map) analyzer.get("result");
-      List packages = (List) result.get("packages");
-
-      for (int i = 0; i < packages.size(); i++) {
-        Map iterator = (Map) packages.get(i);
-        Map singlePackage = (Map) iterator.get("package");
-        String id = (String) singlePackage.get("id");
-        Map vcsProcessed = (Map) singlePackage.get("vcs_processed");
-        String repo = (String) vcsProcessed.get("url");
-        String pURL = (String) singlePackage.get("purl");
-
-        String homePage = (String) singlePackage.get("homepage_url");
-
-        ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
-        statistics.readComponentCount++;
-
-        // resolve id into groupId/artifactId/version/repoType
-        String[] resolvedId = id.split(":");
-        String trueRepoType = resolvedId[0];
-        String groupId = resolvedId[1];
-        String artifactId = resolvedId[2];
-        String version = resolvedId[3];
-
-        appComponent.setGroupId(groupId);
-        appComponent.setArtifactId(artifactId);
-        appComponent.setVersion(version);
-        appComponent.setUsagePattern(usagePattern);
-        appComponent.setOssModified(modified);
-        appComponent.setOssHomepage(homePage);
-        appComponent.setSourceRepoUrl(repo);
-
-        try {
-          if (pURL != null && !pURL.isEmpty()) {
-            PackageURL packageURL = PackageURLHelper.fromString(pURL);
-            appComponent.setPackageUrl(packageURL);
-          }
-        } catch (SolicitorMalformedPackageURLException ex) {
-          if (LOG.isDebugEnabled()) {
-            LOG.debug("Problem with PackageURL", ex);
-          }
-          LOG.warn(LogMessages.READER_PURL_MALFORMED.msg(), pURL);
+      is = this.inputStreamFactory.createInputStreamFor(sourceUrl);
+    } catch (IOException e) {
+      throw new SolicitorRuntimeException("Could not read ort license inventory source '" + sourceUrl + "'", e);
+    }
+    JsonFactory factory = isYaml(sourceUrl) ? YAML_FACTORY : JSON_FACTORY;
+    // only analyzer.result.packages is processed (one package at a time); all other data is skipped without building it
+    try (JsonParser parser = factory.createParser(is)) {
+      if (!moveToPackagesArray(parser)) {
+        throw new IOException("No packages found in analyzer result");
+      }
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
         }
+        OrtPackage singlePackage = readPackageEntry(parser);
+        addPackage(singlePackage, sourceUrl, application, usagePattern, modified, configuration, statistics);
+      }
+      doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
+    } catch (IOException e) {
+      throw new SolicitorRuntimeException("Could not read ort license inventory source '" + sourceUrl + "'", e);
+    }
+  }
 
-        if (!addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
-          // skip processing of licenses and proceed to next component if component is filtered out
-          continue;
+  /**
+   * Checks if the given source is a YAML file. Otherwise it is treated as JSON.
+   *
+   * @param sourceUrl the URL of the source
+   * @return <code>true</code> if the file has extension <code>.yml</code> or <code>.yaml</code>
+   */
+  private static boolean isYaml(String sourceUrl) {
+
+    String lowerCaseUrl = sourceUrl.toLowerCase();
+    return lowerCaseUrl.endsWith(".yml") || lowerCaseUrl.endsWith(".yaml");
+  }
+
+  /**
+   * Positions the parser at the start of the <code>analyzer.result.packages</code> array. All other data is skipped.
+   *
+   * @param parser the parser
+   * @return <code>true</code> if the array was found, <code>false</code> otherwise
+   * @throws IOException if the data could not be parsed
+   */
+  private static boolean moveToPackagesArray(JsonParser parser) throws IOException {
+
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    return moveToField(parser, "analyzer", JsonToken.START_OBJECT)
+        && moveToField(parser, "result", JsonToken.START_OBJECT)
+        && moveToField(parser, "packages", JsonToken.START_ARRAY);
+  }
+
+  /**
+   * Skips the fields of the current object until the field with the given name is found.
+   *
+   * @param parser the parser positioned within an object
+   * @param fieldName the name of the field
+   * @param expectedToken the token which is expected as value of the field
+   * @return <code>true</code> if the field was found and the parser is positioned on its value
+   * @throws IOException if the data could not be parsed
+   */
+  private static boolean moveToField(JsonParser parser, String fieldName, JsonToken expectedToken) throws IOException {
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String currentName = parser.currentName();
+      JsonToken token = parser.nextToken();
+      if (fieldName.equals(currentName) && token == expectedToken) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /**
+   * Reads a single entry of the <code>packages</code> array. The package data is either wrapped in a
+   * <code>package</code> object (together with the <code>curations</code>) or directly given within the entry as in
+   * newer ORT versions. The parser needs to be positioned on the {@link JsonToken#START_OBJECT} of the entry.
+   *
+   * @param parser the parser
+   * @return the package data
+   * @throws IOException if the data could not be parsed
+   */
+  private static OrtPackage readPackageEntry(JsonParser parser) throws IOException {
+
+    OrtPackage singlePackage = new OrtPackage();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken token = parser.nextToken();
+      if ("package".equals(fieldName) && token == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String packageFieldName = parser.currentName();
+          parser.nextToken();
+          readPackageField(parser, packageFieldName, singlePackage);
         }
+      } else {
+        readPackageField(parser, fieldName, singlePackage);
+      }
+    }
+    return singlePackage;
+  }
+
+  /**
+   * Reads the value of a field of a package if it is needed; skips it otherwise.
+   *
+   * @param parser the parser positioned on the value of the field
+   * @param fieldName the name of the field
+   * @param singlePackage the package data to fill
+   * @throws IOException if the data could not be parsed
+   */
+  private static void readPackageField(JsonParser parser, String fieldName, OrtPackage singlePackage)
+      throws IOException {
 
-        // manage multiple declared licenses
-        List lic = (List) singlePackage.get("declared_licenses");
-        if (lic.isEmpty()) {
-          // add empty raw license if no license info attached
-          addRawLicense(appComponent, null, null, sourceUrl);
+    switch (fieldName) {
+      case "id":
+        singlePackage.id = valueAsText(parser);
+        break;
+      case "purl":
+        singlePackage.purl = valueAsText(parser);
+        break;
+      case "homepage_url":
+        singlePackage.homepageUrl = valueAsText(parser);
+        break;
+      case "vcs_processed":
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String vcsFieldName = parser.currentName();
+            parser.nextToken();
+            if ("url".equals(vcsFieldName)) {
+              singlePackage.repo = valueAsText(parser);
+            } else {
+              parser.skipChildren();
+            }
+          }
         } else {
-          for (Object cl : lic) {
-            statistics.licenseCount++;
-            addRawLicense(appComponent, cl.toString(), null, sourceUrl);
+          parser.skipChildren();
+        }
+        break;
+      case "declared_licenses":
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+          JsonToken token;
+          while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token.isScalarValue()) {
+              singlePackage.declaredLicenses.add(parser.getText());
+            } else {
+              parser.skipChildren();
+            }
           }
+        } else {
+          parser.skipChildren();
         }
-        doLogging(configuration, sourceUrl, application, usagePattern, modified, statistics);
+        break;
+      default:
+        parser.skipChildren();
+    }
+  }
+
+  /**
+   * Returns the text of the current value. Structured values are skipped and result in <code>null</code>.
+   *
+   * @param parser the parser positioned on a value
+   * @return the text of the value; <code>null</code> for JSON <code>null</code> and structured values
+   * @throws IOException if the data could not be parsed
+   */
+  private static String valueAsText(JsonParser parser) throws IOException {
+
+    if (parser.currentToken().isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return parser.getText();
+  }
+
+  /**
+   * Creates the {@link ApplicationComponent} (including its licenses) for the given package data and adds it to the
+   * application if not filtered.
+   *
+   * @param singlePackage the package data as read from the analyzer result
+   * @param sourceUrl the URL of the analyzer result
+   * @param application the application
+   * @param usagePattern the usage pattern
+   * @param modified the modified flag
+   * @param configuration the reader configuration
+   * @param statistics the statistics data structure
+   */
+  private void addPackage(OrtPackage singlePackage, String sourceUrl, Application application,
+      UsagePattern usagePattern, boolean modified, Map<String, String> configuration, ReaderStatistics statistics) {
+
+    ApplicationComponent appComponent = getModelFactory().newApplicationComponent();
+    statistics.readComponentCount++;
+
+    // resolve id into groupId/artifactId/version/repoType
+    String[] resolvedId = singlePackage.id.split(":");
+    String groupId = resolvedId[1];
+    String artifactId = resolvedId[2];
+    String version = resolvedId[3];
+
+    appComponent.setGroupId(groupId);
+    appComponent.setArtifactId(artifactId);
+    appComponent.setVersion(version);
+    appComponent.setUsagePattern(usagePattern);
+    appComponent.setOssModified(modified);
+    appComponent.setOssHomepage(singlePackage.homepageUrl);
+    appComponent.setSourceRepoUrl(singlePackage.repo);
+
+    String pURL = singlePackage.purl;
+    try {
+      if (pURL != null && !pURL.isEmpty()) {
+        PackageURL packageURL = PackageURLHelper.fromString(pURL);
+        appComponent.setPackageUrl(packageURL);
+      }
+    } catch (SolicitorMalformedPackageURLException ex) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Problem with PackageURL", ex);
+      }
+      LOG.warn(LogMessages.READER_PURL_MALFORMED.msg(), pURL);
+    }
+
+    if (!addComponentToApplicationIfNotFiltered(application, appComponent, configuration, statistics)) {
+      // skip processing of licenses if component is filtered out
+      return;
+    }
+
+    // manage multiple declared licenses
+    if (singlePackage.declaredLicenses.isEmpty()) {
+      // add empty raw license if no license info attached
+      addRawLicense(appComponent, null, null, sourceUrl);
+    } else {
+      for (String cl : singlePackage.declaredLicenses) {
+        statistics.licenseCount++;
+        addRawLicense(appComponent, cl, null, sourceUrl);
       }
-    } catch (IOException e) {
-      throw new SolicitorRuntimeException("Could not read ort license inventory source '" + sourceUrl + "'", e);
     }
   }
+
+  /**
+   * The data of a single package as needed for creating the {@link ApplicationComponent}.
+   */
+  private static class OrtPackage {
+
+    private String id;
+
+    private String purl;
+
+    private String homepageUrl;
+
+    private String repo;
+
+    private final List<String> declaredLicenses = new ArrayList<>();
+
+  }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.KieModule;
 import org.kie.api.builder.Message.Level;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieBaseModel;
@@ -32,6 +33,9 @@ import com.devonfw.tools.solicitor.common.DeprecationChecker;
 import com.devonfw.tools.solicitor.common.InputStreamFactory;
 import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.config.RuleConfig;
+import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.lifecycle.PhaseMeasurement;
+import com.devonfw.tools.solicitor.lifecycle.PhaseType;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
 import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
@@ -66,6 +70,12 @@ public class DroolsRuleEngine implements RuleEngine {
   @Autowired
   private DeprecationChecker deprecationChecker;
 
+  @Autowired
+  private KieModuleCache kieModuleCache;
+
+  @Autowired
+  private LifecycleListenerHolder lifecycleListenerHolder;
+
   /**
    * {@inheritDoc}
    *
@@ -105,17 +115,23 @@ public class DroolsRuleEngine implements RuleEngine {
       this.deprecationChecker.check(rc.isDeprecationWarnOnly(), rc.getDeprecationDetails());
     }
 
+    PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.RULE_GROUP, rc.getRuleGroup());
     KieSession ksession = prepareSession(rc);
 
     insertFacts(ksession, modelRoot);
 
     // Fire the rules.
     long startTime = System.currentTimeMillis();
+    long conditionCacheHits = ModelHelper.getConditionCacheHits();
+    long conditionCacheMisses = ModelHelper.getConditionCacheMisses();
     ModelHelper.setCurrentRuleGroup(rc.getRuleGroup());
     int count = ksession.fireAllRules();
     long endTime = System.currentTimeMillis();
-    LOG.info(LogMessages.RULE_GROUP_FINISHED.msg(), rc.getRuleGroup(), count, endTime - startTime);
+    LOG.info(LogMessages.RULE_GROUP_FINISHED.msg(), rc.getRuleGroup(), count, endTime - startTime,
+        ModelHelper.getConditionCacheHits() - conditionCacheHits,
+        ModelHelper.getConditionCacheMisses() - conditionCacheMisses);
     ksession.dispose();
+    measurement.finish(count);
     return count;
   }
 
@@ -166,7 +182,8 @@ public class DroolsRuleEngine implements RuleEngine {
   }
 
   /**
-   * Prepare the {@link KieSession} by reading and preprocessing given rules.
+   * Prepare the {@link KieSession} by reading and preprocessing given rules. If the {@link KieModuleCache} is active
+   * and contains the compiled rules then these will be taken instead of compiling the rules again.
    *
    * @param rc the configuration of the rules to read
    * @return the prepared {@link KieSession}
@@ -174,9 +191,62 @@ public class DroolsRuleEngine implements RuleEngine {
   private synchronized KieSession prepareSession(RuleConfig rc) {
 
     KieServices ks = KieServices.Factory.get();
+
+    String sesionName = "SolitorSessionModel";
+
+    KieModule kieModule = null;
+    String cacheKey = null;
+    if (this.kieModuleCache.isActive()) {
+      cacheKey = this.kieModuleCache.determineKey(rc);
+      kieModule = this.kieModuleCache.load(cacheKey, rc.getRuleGroup());
+    }
+    KieSession kSession = null;
+    if (kieModule != null) {
+      try {
+        kSession = ks.newKieContainer(kieModule.getReleaseId()).newKieSession(sesionName);
+      } catch (RuntimeException e) {
+        // a broken cache entry must never be fatal: fall back to compiling the rules
+        this.kieModuleCache.invalidate(cacheKey, rc.getRuleGroup(), e);
+        ks.getRepository().removeKieModule(kieModule.getReleaseId());
+      }
+    }
+    if (kSession == null) {
+      kieModule = buildKieModule(ks, rc, sesionName, cacheKey);
+      if (cacheKey != null) {
+        this.kieModuleCache.store(cacheKey, kieModule, rc.getRuleGroup());
+      }
+      KieContainer kContainer = ks.newKieContainer(kieModule.getReleaseId());
+      kSession = kContainer.newKieSession(sesionName);
+    }
+
+    if (this.debugLog != null && !this.debugLog.isEmpty()) {
+      // Set up listeners.
+      kSession.addEventListener(new DebugAgendaEventListener());
+      kSession.addEventListener(new DebugRuleRuntimeEventListener());
+
+      // Set up a file-based audit logger.
+      KieServices.get().getLoggers().newFileLogger(kSession, this.debugLog);
+    }
+
+    return kSession;
+  }
+
+  /**
+   * Builds the {@link KieModule} by reading and compiling the given rules.
+   *
+   * @param ks the {@link KieServices}
+   * @param rc the configuration of the rules to read
+   * @param sesionName the name of the session model to define
+   * @param cacheKey the key of the rules in the {@link KieModuleCache}; will be used for defining a unique version of
+   *        the module. Might be <code>null</code> if the cache is not active.
+   * @return the built {@link KieModule}
+   */
+  private KieModule buildKieModule(KieServices ks, RuleConfig rc, String sesionName, String cacheKey) {
+
     KieFileSystem kfs = ks.newKieFileSystem();
 
-    ReleaseId rid = ks.newReleaseId("com.devonfw.tools", "solicitor", "0.0.0");
+    String version = cacheKey != null ? "0.0.0-" + cacheKey : "0.0.0";
+    ReleaseId rid = ks.newReleaseId("com.devonfw.tools", "solicitor", version);
     kfs.generateAndWritePomXML(rid);
 
     KieModuleModel kModuleModel = ks.newKieModuleModel();
@@ -190,7 +260,6 @@ public class DroolsRuleEngine implements RuleEngine {
         rc.getDescription(), baseModel, resources);
     LOG.info(LogMessages.LOAD_RULES.msg(), rc.getType(), rc.getRuleSource(), rc.getTemplateSource(), rc.getRuleGroup());
 
-    String sesionName = "SolitorSessionModel";
     baseModel.newKieSessionModel(sesionName);
 
     kfs.writeKModuleXML(kModuleModel.toXML());
@@ -204,20 +273,6 @@ public class DroolsRuleEngine implements RuleEngine {
     if (kb.getResults().hasMessages(Level.ERROR)) {
       throw new RuntimeException("Build Errors:\n" + kb.getResults().toString());
     }
-
-    KieContainer kContainer = ks.newKieContainer(rid);
-
-    KieSession kSession = kContainer.newKieSession(sesionName);
-
-    if (this.debugLog != null && !this.debugLog.isEmpty()) {
-      // Set up listeners.
-      kSession.addEventListener(new DebugAgendaEventListener());
-      kSession.addEventListener(new DebugRuleRuntimeEventListener());
-
-      // Set up a file-based audit logger.
-      KieServices.get().getLoggers().newFileLogger(kSession, this.debugLog);
-    }
-
-    return kSession;
+    return kb.getKieModule();
   }
 }
@@ -0,0 +1,232 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.InputStreamFactory;
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+import com.devonfw.tools.solicitor.config.RuleConfig;
+
+/**
+ * Persistent cache for the {@link KieModule}s built from the rules of a {@link RuleConfig}. The compiled KieModules
+ * are stored as KJAR files within the configured cache directory. The key of each entry is a hash of the content of the
+ * rule source and the template source (and the Solicitor and extension version). If rules and templates are unchanged
+ * the KieModule can be loaded from the cache instead of compiling the rules again.
+ * <p>
+ * The cache is only active if property <code>drools-rule-engine.kiemodule-cache-dir</code> is set.
+ */
+@Component
+public class KieModuleCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KieModuleCache.class);
+
+  private static final String CACHE_FILE_SUFFIX = ".jar";
+
+  @Autowired
+  private InputStreamFactory inputStreamFactory;
+
+  @Autowired
+  private SolicitorVersion solicitorVersion;
+
+  private String cacheDir;
+
+  /**
+   * Sets the directory where cached KieModules are stored. If empty or <code>null</code> the cache is deactivated.
+   *
+   * @param cacheDir the directory of the cache
+   */
+  @Value("${drools-rule-engine.kiemodule-cache-dir:}")
+  public void setCacheDir(String cacheDir) {
+
+    this.cacheDir = cacheDir;
+  }
+
+  /**
+   * Checks if the cache is active.
+   *
+   * @return <code>true</code> if the cache is active, <code>false</code> otherwise
+   */
+  public boolean isActive() {
+
+    return this.cacheDir != null && !this.cacheDir.isEmpty();
+  }
+
+  /**
+   * Determines the cache key for the given rule configuration. The key is the SHA-256 hash of the content of the rule
+   * source and the template source. As compiled rules might depend on the data model the Solicitor version and the
+   * version of a possibly active extension are also included.
+   *
+   * @param rc the rule configuration
+   * @return the cache key (hex encoded)
+   */
+  public String determineKey(RuleConfig rc) {
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      updateDigest(digest, this.solicitorVersion.getVersion());
+      updateDigest(digest, this.solicitorVersion.getGithash());
+      updateDigest(digest, this.solicitorVersion.getBuilddate());
+      updateDigest(digest, this.solicitorVersion.getExtensionArtifact());
+      updateDigest(digest, this.solicitorVersion.getExtensionVersion());
+      updateDigest(digest, this.solicitorVersion.getExtensionGithash());
+      updateDigest(digest, rc.getType());
+      updateDigestWithContent(digest, rc.getRuleSource());
+      updateDigestWithContent(digest, rc.getTemplateSource());
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new SolicitorRuntimeException("Could not create hash for rules", e);
+    }
+  }
+
+  /**
+   * Loads the KieModule with the given key from the cache and adds it to the KieRepository. A cache entry which can not
+   * be loaded (e.g. as it is truncated, corrupt or was written by an incompatible Drools version) is deleted; this will
+   * be logged but will not abort processing.
+   *
+   * @param key the cache key
+   * @param ruleGroup the rule group (for logging only)
+   * @return the KieModule; <code>null</code> if the cache is not active, the cache does not contain the module or the
+   *         module could not be loaded
+   */
+  public KieModule load(String key, String ruleGroup) {
+
+    if (!isActive()) {
+      return null;
+    }
+    File cacheFile = cacheFileFor(key);
+    if (!cacheFile.isFile()) {
+      return null;
+    }
+    LOG.info(LogMessages.LOAD_RULES_FROM_CACHE.msg(), ruleGroup, cacheFile.getPath());
+    KieServices ks = KieServices.Factory.get();
+    KieModule kieModule;
+    try {
+      kieModule = ks.getRepository().addKieModule(ks.getResources().newFileSystemResource(cacheFile));
+    } catch (RuntimeException e) {
+      LOG.warn(LogMessages.KIEMODULE_CACHE_READ_FAILED.msg(), ruleGroup, cacheFile.getPath(), e);
+      deleteCacheFile(cacheFile);
+      return null;
+    }
+    if (kieModule == null) {
+      LOG.warn(LogMessages.KIEMODULE_CACHE_READ_FAILED.msg(), ruleGroup, cacheFile.getPath());
+      deleteCacheFile(cacheFile);
+    }
+    return kieModule;
+  }
+
+  /**
+   * Removes the entry with the given key from the cache. To be called if a KieModule which was loaded from the cache
+   * turns out to be unusable.
+   *
+   * @param key the cache key
+   * @param ruleGroup the rule group (for logging only)
+   * @param cause the problem which occurred when using the cached KieModule
+   */
+  public void invalidate(String key, String ruleGroup, RuntimeException cause) {
+
+    if (!isActive()) {
+      return;
+    }
+    File cacheFile = cacheFileFor(key);
+    LOG.warn(LogMessages.KIEMODULE_CACHE_READ_FAILED.msg(), ruleGroup, cacheFile.getPath(), cause);
+    deleteCacheFile(cacheFile);
+  }
+
+  /**
+   * Stores the given (freshly built) KieModule in the cache. Any failure when writing the cache will be logged but will
+   * not abort processing.
+   *
+   * @param key the cache key
+   * @param kieModule the KieModule to store
+   * @param ruleGroup the rule group (for logging only)
+   */
+  public void store(String key, KieModule kieModule, String ruleGroup) {
+
+    if (!isActive()) {
+      return;
+    }
+    File cacheFile = cacheFileFor(key);
+    if (!(kieModule instanceof InternalKieModule)) {
+      LOG.warn(LogMessages.KIEMODULE_CACHE_WRITE_FAILED.msg(), ruleGroup, cacheFile.getPath());
+      return;
+    }
+    File tempFile = null;
+    try {
+      File dir = cacheFile.getParentFile();
+      Files.createDirectories(dir.toPath());
+      tempFile = File.createTempFile(key, ".tmp", dir);
+      Files.write(tempFile.toPath(), ((InternalKieModule) kieModule).getBytes());
+      Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(LogMessages.KIEMODULE_CACHE_WRITE_FAILED.msg(), ruleGroup, cacheFile.getPath(), e);
+      if (tempFile != null) {
+        deleteCacheFile(tempFile);
+      }
+    }
+  }
+
+  private void deleteCacheFile(File file) {
+
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (IOException e) {
+      LOG.debug("Could not delete KieModule cache file '{}'", file.getPath(), e);
+    }
+  }
+
+  private File cacheFileFor(String key) {
+
+    return new File(this.cacheDir, key + CACHE_FILE_SUFFIX);
+  }
+
+  private void updateDigest(MessageDigest digest, String value) {
+
+    if (value != null) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    digest.update((byte) 0);
+  }
+
+  private void updateDigestWithContent(MessageDigest digest, String resource) {
+
+    if (resource != null) {
+      try (InputStream is = this.inputStreamFactory.createInputStreamFor(resource)) {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+          digest.update(buffer, 0, read);
+        }
+      } catch (IOException e) {
+        throw new SolicitorRuntimeException("Could not read rule resource '" + resource + "' for creating hash", e);
+      }
+    }
+    digest.update((byte) 0);
+  }
+
+}
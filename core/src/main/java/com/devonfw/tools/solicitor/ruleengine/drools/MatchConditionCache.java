@@ -0,0 +1,82 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread safe cache of compiled conditions as used by {@link ModelHelper#match(String, String)}. Compiling a condition
+ * (e.g. a regular expression or a maven version range) is done only once per distinct condition string. The cache is
+ * bounded: if the maximum number of entries is reached, further conditions are still compiled but not cached.
+ */
+class MatchConditionCache {
+
+  private final Map<String, Predicate<String>> compiledConditions = new ConcurrentHashMap<>();
+
+  private final Function<String, Predicate<String>> compiler;
+
+  private final int maxSize;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * The constructor.
+   *
+   * @param compiler the function which compiles a (non <code>null</code>) condition string
+   * @param maxSize the maximum number of entries to keep in the cache
+   */
+  MatchConditionCache(Function<String, Predicate<String>> compiler, int maxSize) {
+
+    this.compiler = compiler;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Gets the compiled condition for the given condition string. Compiles it if not yet contained in the cache.
+   *
+   * @param condition the condition; must not be <code>null</code>
+   * @return the compiled condition
+   */
+  Predicate<String> get(String condition) {
+
+    Predicate<String> compiledCondition = this.compiledConditions.get(condition);
+    if (compiledCondition != null) {
+      this.hits.increment();
+      return compiledCondition;
+    }
+    this.misses.increment();
+    compiledCondition = this.compiler.apply(condition);
+    if (this.compiledConditions.size() < this.maxSize) {
+      this.compiledConditions.putIfAbsent(condition, compiledCondition);
+    }
+    return compiledCondition;
+  }
+
+  /**
+   * Gets the number of cache hits since creation of the cache.
+   *
+   * @return the number of hits
+   */
+  long getHits() {
+
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of cache misses since creation of the cache.
+   *
+   * @return the number of misses
+   */
+  long getMisses() {
+
+    return this.misses.sum();
+  }
+
+}
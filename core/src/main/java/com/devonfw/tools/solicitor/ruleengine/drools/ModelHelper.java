@@ -3,6 +3,11 @@
  */
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.maven.artifact.versioning.VersionRange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.common.MavenVersionHelper;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.model.ModelFactory;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
 import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
@@ -46,8 +52,16 @@ public class ModelHelper {
    */
   private static final String NOT_PREFIX = "NOT:";
 
+  /**
+   * Maximum number of compiled conditions to keep in the cache.
+   */
+  private static final int CONDITION_CACHE_MAX_SIZE = 10000;
+
   private static final Logger LOG = LoggerFactory.getLogger(ModelHelper.class);
 
+  private static final MatchConditionCache CONDITION_CACHE = new MatchConditionCache(ModelHelper::compileCondition,
+      CONDITION_CACHE_MAX_SIZE);
+
   private static ModelFactory modelFactory;
 
   private static String currentRuleGroup;
@@ -181,6 +195,9 @@ public class ModelHelper {
    * the condition is inverted. The prefix "REGEX:" and the suffix "(REGEX)" indicate that the remainder should be
    * interpreted as a Java RegEx and matching will be done against this RegEx. "RANGE:" indicates that the following
    * should be interpreted as a Maven version range expression.
+   * <p>
+   * As this method is called very often from the rules the conditions are compiled only once and then taken from a
+   * cache.
    *
    * @param input the string to test
    * @param condition the condition to test against
@@ -188,31 +205,92 @@ public class ModelHelper {
    */
   public static boolean match(String input, String condition) {
 
-    if (input == null && condition == null) {
-      return true;
+    if (condition == null) {
+      return input == null;
     }
-    if (condition != null) {
-      if (condition.startsWith(NOT_PREFIX)) {
-        String negatedCondition = condition.substring(NOT_PREFIX.length());
-        return !match(input, negatedCondition);
-      }
+    return CONDITION_CACHE.get(condition).test(input);
+  }
+
+  /**
+   * Compiles the given condition to a {@link Predicate} which implements the logic described in
+   * {@link #match(String, String)}. Any exceptions which result from an invalid condition will only be thrown when
+   * testing a non <code>null</code> input.
+   *
+   * @param condition the condition; must not be <code>null</code>
+   * @return the compiled condition
+   */
+  private static Predicate<String> compileCondition(String condition) {
+
+    if (condition.startsWith(NOT_PREFIX)) {
+      String negatedCondition = condition.substring(NOT_PREFIX.length());
+      return compileCondition(negatedCondition).negate();
     }
-    if (input != null && condition != null) {
-      if (condition.startsWith(REGEX_PREFIX)) {
+    if (condition.startsWith(REGEX_PREFIX)) {
+      return input -> {
+        if (input == null) {
+          return false;
+        }
         LOG.error(LogMessages.REGEX_PREFIX_UNSUPPORTED.msg(), condition);
         throw new IllegalArgumentException("Unsupprted REGEX prefix notation in '" + condition + "'");
+      };
+    }
+    if (condition.endsWith(REGEX_SUFFIX)) {
+      String pattern = condition.substring(0, condition.length() - REGEX_SUFFIX.length()).trim();
+      Pattern compiledPattern;
+      try {
+        compiledPattern = Pattern.compile(pattern);
+      } catch (PatternSyntaxException e) {
+        return failingCondition(e);
       }
-      if (condition.endsWith(REGEX_SUFFIX)) {
-        String pattern = condition.substring(0, condition.length() - REGEX_SUFFIX.length()).trim();
-        return input.matches(pattern);
-      }
-      if (condition.startsWith(RANGE_PREFIX)) {
-        String rangeSpec = condition.substring(RANGE_PREFIX.length());
-        return MavenVersionHelper.checkVersionRange(input, rangeSpec);
+      return input -> input != null && compiledPattern.matcher(input).matches();
+    }
+    if (condition.startsWith(RANGE_PREFIX)) {
+      String rangeSpec = condition.substring(RANGE_PREFIX.length());
+      VersionRange versionRange;
+      try {
+        versionRange = MavenVersionHelper.parseVersionRange(rangeSpec);
+      } catch (SolicitorRuntimeException e) {
+        return failingCondition(e);
       }
-      return input.equals(condition);
+      return input -> input != null && MavenVersionHelper.checkVersionRange(input, versionRange);
     }
-    return false;
+    return input -> condition.equals(input);
+  }
+
+  /**
+   * Creates a condition which throws the given exception when testing any non <code>null</code> input.
+   *
+   * @param e the exception to throw
+   * @return the condition
+   */
+  private static Predicate<String> failingCondition(RuntimeException e) {
+
+    return input -> {
+      if (input == null) {
+        return false;
+      }
+      throw e;
+    };
+  }
+
+  /**
+   * Gets the number of hits in the cache of compiled conditions used by {@link #match(String, String)}.
+   *
+   * @return the number of cache hits
+   */
+  public static long getConditionCacheHits() {
+
+    return CONDITION_CACHE.getHits();
+  }
+
+  /**
+   * Gets the number of misses in the cache of compiled conditions used by {@link #match(String, String)}.
+   *
+   * @return the number of cache misses
+   */
+  public static long getConditionCacheMisses() {
+
+    return CONDITION_CACHE.getMisses();
   }
 
   /**
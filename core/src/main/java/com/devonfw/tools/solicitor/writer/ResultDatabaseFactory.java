@@ -6,18 +6,29 @@ package com.devonfw.tools.solicitor.writer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import javax.sql.DataSource;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.stereotype.Component;
 
 import com.devonfw.tools.solicitor.common.IOHelper;
@@ -25,6 +36,9 @@ import com.devonfw.tools.solicitor.common.InputStreamFactory;
 import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.lifecycle.PhaseMeasurement;
+import com.devonfw.tools.solicitor.lifecycle.PhaseType;
 import com.devonfw.tools.solicitor.model.ModelFactory;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.model.impl.AbstractModelObject;
@@ -37,12 +51,23 @@ import com.devonfw.tools.solicitor.writer.data.DataTableRow;
 /**
  * Transforms the internal Solicitor data model to result tables in {@link DataTable} format by loading the internal
  * data model into a temporary database and creating tablular result by executing SQL statements on the data.
+ * <p>
+ * The current model is loaded into the default schema, an optional old model (for creating delta reports) into a
+ * separate schema. Once loaded the data is only read, so {@link DataTable}s might be created concurrently. Each SQL
+ * statement is executed on a dedicated connection which sees the <code>reportingGroup</code> of the model root as
+ * requested for this statement.
  */
 @Component
 public class ResultDatabaseFactory {
 
   private static final Logger LOG = LoggerFactory.getLogger(ResultDatabaseFactory.class);
 
+  /**
+   * Type of the indexed columns (and id columns). The length is chosen large enough to never truncate any realistic
+   * values of the indexed fields.
+   */
+  private static final String INDEXED_COLUMN_TYPE = "VARCHAR(32768)";
+
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
@@ -55,38 +80,77 @@ public class ResultDatabaseFactory {
   @Autowired
   private ReportingGroupHandler reportingGroupHandler;
 
-  private Set<Class<? extends AbstractModelObject>> definedTablesSet = new HashSet<>();
+  @Autowired
+  private LifecycleListenerHolder lifecycleListenerHolder;
+
+  /**
+   * Schema which holds the data of the current model.
+   */
+  private static final String CURRENT_MODEL_SCHEMA = "PUBLIC";
+
+  /**
+   * Schema which holds the data of the old model.
+   */
+  private static final String OLD_MODEL_SCHEMA = "OLDMODEL";
+
+  private Map<String, Set<Class<? extends AbstractModelObject>>> definedTables = new HashMap<>();
+
+  private String modelRootTableName;
 
   private Map<String, AbstractModelObject> allModelObjectInstances = new TreeMap<>();
 
+  private int batchSize = 1000;
+
+  private boolean createIndexes = true;
+
   /**
-   * Creates a database table for storing the given {@link AbstractModelObject}.
+   * Creates a database table for storing the given {@link AbstractModelObject}. Fields which are declared as indexed
+   * (see {@link AbstractModelObject#getIndexedHeadElements()}) are defined as VARCHAR and get an index; all other
+   * fields are defined as LONGVARCHAR. If creating these indexes is deactivated (see
+   * {@link #setCreateIndexes(boolean)}) all fields are defined as LONGVARCHAR and only the column referencing the parent
+   * gets an index.
    *
    * @param modelObject the model object for which the table should be defined
+   * @param schema the database schema
    */
-  private void createTable(AbstractModelObject modelObject) {
+  private void createTable(AbstractModelObject modelObject, String schema) {
 
     StringBuilder sb = new StringBuilder();
     String name = modelFactory.determineTableName(modelObject.getClass());
-    sb.append("create table ").append(name).append(" ( ");
+    String qualifiedName = schema + "." + name;
+    Set<String> indexedFields = this.createIndexes
+        ? new LinkedHashSet<>(Arrays.asList(modelObject.getIndexedHeadElements()))
+        : Collections.emptySet();
+    String idColumnType = this.createIndexes ? INDEXED_COLUMN_TYPE : "LONGVARCHAR";
+    sb.append("create table ").append(qualifiedName).append(" ( ");
     for (String fields : modelObject.getHeadElements()) {
-      sb.append("\"").append(fields).append("\" ").append("LONGVARCHAR, ");
+      String type = indexedFields.contains(fields) ? INDEXED_COLUMN_TYPE : "LONGVARCHAR";
+      sb.append("\"").append(fields).append("\" ").append(type).append(", ");
     }
     if (modelObject.getParent() != null) {
-      sb.append("PARENT_").append(name).append(" ").append("LONGVARCHAR NOT NULL, ");
+      sb.append("PARENT_").append(name).append(" ").append(idColumnType).append(" NOT NULL, ");
     }
-    sb.append("ID_").append(name).append(" ").append("LONGVARCHAR NOT NULL, ");
+    sb.append("ID_").append(name).append(" ").append(idColumnType).append(" NOT NULL, ");
     sb.append("PRIMARY KEY ( ID_").append(name).append(")");
     sb.append(" );");
-    LOG.debug("Creating Reporting table '{}'", name);
+    LOG.debug("Creating Reporting table '{}'", qualifiedName);
     String sql = sb.toString();
     this.jdbcTemplate.execute(sql);
 
     // add index on foreign key column if parent exists to speed up queries
     if (modelObject.getParent() != null) {
       sb = new StringBuilder();
-      sb.append("CREATE INDEX IDX_").append(name).append("_PARENT ON ").append(name).append(" (PARENT_").append(name)
-          .append(");");
+      sb.append("CREATE INDEX ").append(schema).append(".IDX_").append(name).append("_PARENT ON ").append(qualifiedName)
+          .append(" (PARENT_").append(name).append(");");
+      sql = sb.toString();
+      this.jdbcTemplate.execute(sql);
+    }
+
+    // add indexes on fields which are typically used for filtering / joining / sorting
+    for (String field : indexedFields) {
+      sb = new StringBuilder();
+      sb.append("CREATE INDEX ").append(schema).append(".IDX_").append(name).append("_").append(field.toUpperCase())
+          .append(" ON ").append(qualifiedName).append(" (\"").append(field).append("\");");
       sql = sb.toString();
       this.jdbcTemplate.execute(sql);
     }
@@ -97,11 +161,12 @@ public class ResultDatabaseFactory {
    * Drop the database table which corresponds to the given {@link AbstractModelObject}.
    *
    * @param oneTable the model class for which the corresponding database table should be dropped
+   * @param schema the database schema
    */
-  private void dropExistingTable(Class<? extends AbstractModelObject> oneTable) {
+  private void dropExistingTable(Class<? extends AbstractModelObject> oneTable, String schema) {
 
     StringBuilder sb = new StringBuilder();
-    String name = modelFactory.determineTableName(oneTable);
+    String name = schema + "." + modelFactory.determineTableName(oneTable);
     sb.append("drop table ").append(name).append(";");
     LOG.debug("Dropping Reporting table '{}'", name);
     String sql = sb.toString();
@@ -109,7 +174,7 @@ public class ResultDatabaseFactory {
   }
 
   /**
-   * Creates a {@link DataTable} by executing the referenced SQL.
+   * Creates a {@link DataTable} by executing the referenced SQL on the current model.
    *
    * @param sqlResourceUrl URL which references an SQL statement
    * @param reportingGroup parameter which denotes the reportingGroup to select data from
@@ -117,6 +182,32 @@ public class ResultDatabaseFactory {
    */
   public DataTable getDataTable(String sqlResourceUrl, String reportingGroup) {
 
+    return getDataTable(sqlResourceUrl, reportingGroup, CURRENT_MODEL_SCHEMA);
+  }
+
+  /**
+   * Creates a {@link DataTable} by executing the referenced SQL on the old model (see
+   * {@link #initOldDataModel(ModelRoot)}).
+   *
+   * @param sqlResourceUrl URL which references an SQL statement
+   * @param reportingGroup parameter which denotes the reportingGroup to select data from
+   * @return the result of the SQL statement
+   */
+  public DataTable getOldDataTable(String sqlResourceUrl, String reportingGroup) {
+
+    return getDataTable(sqlResourceUrl, reportingGroup, OLD_MODEL_SCHEMA);
+  }
+
+  /**
+   * Creates a {@link DataTable} by executing the referenced SQL.
+   *
+   * @param sqlResourceUrl URL which references an SQL statement
+   * @param reportingGroup parameter which denotes the reportingGroup to select data from
+   * @param schema the database schema holding the model data
+   * @return the result of the SQL statement
+   */
+  private DataTable getDataTable(String sqlResourceUrl, String reportingGroup, String schema) {
+
     String sql;
 
     try (InputStream inp = this.inputStreamFactory.createInputStreamFor(sqlResourceUrl)) {
@@ -127,7 +218,10 @@ public class ResultDatabaseFactory {
 
     sql = ReportingGroupHandler.replacePlaceholderInSql(sql, reportingGroup);
 
-    List<Map<String, Object>> rawResult = this.jdbcTemplate.queryForList(sql);
+    PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.SQL_STATEMENT,
+        sqlResourceUrl + " (" + schema + ", " + reportingGroup + ")");
+    List<Map<String, Object>> rawResult = queryForList(sql, reportingGroup, schema);
+    measurement.finish(rawResult.size());
 
     // put the final data in a result DataTable
 
@@ -182,7 +276,40 @@ public class ResultDatabaseFactory {
   }
 
   /**
-   * Initializes the database with the data of the internal data model.
+   * Executes the given SQL on a dedicated connection. Within this connection the table of the model root is replaced
+   * by a session local copy which contains the given reporting group. This allows executing statements for different
+   * reporting groups concurrently on the same model data.
+   *
+   * @param sql the SQL statement
+   * @param reportingGroup the reporting group to set in the model root table
+   * @param schema the database schema holding the model data
+   * @return the result of the SQL statement
+   */
+  private List<Map<String, Object>> queryForList(String sql, String reportingGroup, String schema) {
+
+    DataSource dataSource = this.jdbcTemplate.getDataSource();
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+      template.execute("SET SCHEMA " + schema);
+      template.execute("DECLARE LOCAL TEMPORARY TABLE " + this.modelRootTableName + " AS (SELECT * FROM " + schema
+          + "." + this.modelRootTableName + ") WITH DATA ON COMMIT PRESERVE ROWS");
+      try {
+        template.update("UPDATE " + this.modelRootTableName + " SET \"reportingGroup\" = ?", reportingGroup);
+        return template.queryForList(sql);
+      } finally {
+        // cleanup as the connection will be returned to the pool
+        template.execute("DROP TABLE SESSION." + this.modelRootTableName);
+        template.execute("SET SCHEMA " + CURRENT_MODEL_SCHEMA);
+      }
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  /**
+   * Initializes the database with the data of the internal data model. The data is inserted table by table using
+   * batched prepared statements (see {@link #setBatchSize(int)}).
    *
    * @param modelRoot the root object of the internal data model which gives access to the complete data model
    */
@@ -190,17 +317,63 @@ public class ResultDatabaseFactory {
 
     // delete all possibly existing entries in the model instances map
     this.allModelObjectInstances.clear();
+    loadModel(modelRoot, CURRENT_MODEL_SCHEMA);
+  }
+
+  /**
+   * Initializes the database with the data of an old data model. This data is stored in addition to the current data
+   * model and might be queried via {@link #getOldDataTable(String, String)}. Needs to be called after
+   * {@link #initDataModel(ModelRoot)}.
+   *
+   * @param oldModelRoot the root object of the old data model
+   */
+  public void initOldDataModel(ModelRoot oldModelRoot) {
+
+    if (!this.definedTables.containsKey(OLD_MODEL_SCHEMA)) {
+      this.jdbcTemplate.execute("CREATE SCHEMA " + OLD_MODEL_SCHEMA);
+    }
+    loadModel(oldModelRoot, OLD_MODEL_SCHEMA);
+  }
+
+  /**
+   * Loads the given data model into the given schema. Any already existing tables in the schema will be dropped.
+   *
+   * @param modelRoot the root object of the data model
+   * @param schema the database schema
+   */
+  private void loadModel(ModelRoot modelRoot, String schema) {
+
+    PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.DATABASE_LOAD, schema);
     // drop any already existing tables
-    for (Class<? extends AbstractModelObject> oneTable : this.definedTablesSet) {
-      dropExistingTable(oneTable);
+    Set<Class<? extends AbstractModelObject>> definedTablesSet = this.definedTables.computeIfAbsent(schema,
+        k -> new HashSet<>());
+    for (Class<? extends AbstractModelObject> oneTable : definedTablesSet) {
+      dropExistingTable(oneTable, schema);
     }
-    this.definedTablesSet.clear();
+    definedTablesSet.clear();
+    this.modelRootTableName = modelFactory.determineTableName(((AbstractModelObject) modelRoot).getClass());
     // create all needed tables and add all data; also store object in map
     // to access it via given id
-    for (Object amo : this.modelFactory.getAllModelObjects(modelRoot)) {
-      saveToDatabase((AbstractModelObject) amo);
-      this.allModelObjectInstances.put(((AbstractModelObject) amo).getId(), (AbstractModelObject) amo);
+    Map<Class<? extends AbstractModelObject>, TableLoader> loaders = new LinkedHashMap<>();
+    long objectCount = 0;
+    for (Object object : this.modelFactory.getAllModelObjects(modelRoot)) {
+      AbstractModelObject amo = (AbstractModelObject) object;
+      TableLoader loader = loaders.get(amo.getClass());
+      if (loader == null) {
+        definedTablesSet.add(amo.getClass());
+        createTable(amo, schema);
+        loader = new TableLoader(amo, schema);
+        loaders.put(amo.getClass(), loader);
+      }
+      loader.add(amo);
+      this.allModelObjectInstances.put(amo.getId(), amo);
+      objectCount++;
     }
+    for (TableLoader loader : loaders.values()) {
+      loader.flush();
+      loader.logStatistics();
+    }
+    measurement.finish(objectCount);
   }
 
   /**
@@ -251,29 +424,144 @@ public class ResultDatabaseFactory {
    */
   public void saveToDatabase(AbstractModelObject modelObject) {
 
-    String[] params = modelObject.getDataElements();
-
     Class<? extends AbstractModelObject> clazz = modelObject.getClass();
-    if (!this.definedTablesSet.contains(clazz)) {
-      this.definedTablesSet.add(clazz);
-      createTable(modelObject);
+    Set<Class<? extends AbstractModelObject>> definedTablesSet = this.definedTables
+        .computeIfAbsent(CURRENT_MODEL_SCHEMA, k -> new HashSet<>());
+    if (!definedTablesSet.contains(clazz)) {
+      definedTablesSet.add(clazz);
+      createTable(modelObject, CURRENT_MODEL_SCHEMA);
     }
+    this.jdbcTemplate.update(insertStatement(modelObject, CURRENT_MODEL_SCHEMA),
+        (Object[]) insertParameters(modelObject));
+
+  }
+
+  /**
+   * Creates the SQL insert statement for the table of the given {@link AbstractModelObject}.
+   *
+   * @param modelObject the object defining the table
+   * @param schema the database schema
+   * @return the SQL statement with placeholders for all values
+   */
+  private String insertStatement(AbstractModelObject modelObject, String schema) {
+
     StringBuilder sb = new StringBuilder();
-    String name = modelFactory.determineTableName(modelObject.getClass());
+    String name = schema + "." + modelFactory.determineTableName(modelObject.getClass());
     sb.append("insert into ").append(name).append(" values ( ");
-    for (String fields : modelObject.getDataElements()) {
+    for (int i = 0; i < modelObject.getHeadElements().length; i++) {
       sb.append("?").append(", ");
     }
     if (modelObject.getParent() != null) {
       sb.append("?, ");
-      params = AbstractModelObject.concatRow(params, new String[] { modelObject.getParent().getId() });
     }
     sb.append("?");
     sb.append(" );");
-    String sql = sb.toString();
-    params = AbstractModelObject.concatRow(params, new String[] { modelObject.getId() });
-    this.jdbcTemplate.update(sql, (Object[]) params);
+    return sb.toString();
+  }
+
+  /**
+   * Determines the values to insert into the database for the given {@link AbstractModelObject}.
+   *
+   * @param modelObject the object to save
+   * @return the values matching the placeholders of {@link #insertStatement(AbstractModelObject, String)}
+   */
+  private String[] insertParameters(AbstractModelObject modelObject) {
+
+    String[] params = modelObject.getDataElements();
+    if (modelObject.getParent() != null) {
+      params = AbstractModelObject.concatRow(params, new String[] { modelObject.getParent().getId() });
+    }
+    return AbstractModelObject.concatRow(params, new String[] { modelObject.getId() });
+  }
+
+  /**
+   * Sets the number of rows which are inserted into the database with a single batch.
+   *
+   * @param batchSize the batch size; values smaller than 1 will be treated as 1
+   */
+  @Value("${solicitor.reporting.insert-batch-size:1000}")
+  public void setBatchSize(int batchSize) {
+
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  /**
+   * Sets whether the fields declared as indexed (see {@link AbstractModelObject#getIndexedHeadElements()}) are created
+   * as VARCHAR columns with an index. Deactivating this is only intended for comparing the performance with and
+   * without these indexes. Takes effect when the model is loaded the next time.
+   *
+   * @param createIndexes <code>true</code> (default) if the indexes should be created
+   */
+  @Value("${solicitor.reporting.create-indexes:true}")
+  public void setCreateIndexes(boolean createIndexes) {
+
+    this.createIndexes = createIndexes;
+  }
+
+  /**
+   * Collects the rows for a single reporting table and inserts them in batches.
+   */
+  private class TableLoader {
+
+    private final String tableName;
+
+    private final String sql;
+
+    private final List<Object[]> pendingRows = new ArrayList<>();
 
+    private int rowCount;
+
+    private long durationNanos;
+
+    /**
+     * The constructor.
+     *
+     * @param modelObject an object which defines the table to load
+     * @param schema the database schema
+     */
+    TableLoader(AbstractModelObject modelObject, String schema) {
+
+      this.tableName = schema + "." + modelFactory.determineTableName(modelObject.getClass());
+      this.sql = insertStatement(modelObject, schema);
+    }
+
+    /**
+     * Adds the given object. The pending rows will be inserted if the batch size is reached.
+     *
+     * @param modelObject the object to add
+     */
+    void add(AbstractModelObject modelObject) {
+
+      this.pendingRows.add(insertParameters(modelObject));
+      if (this.pendingRows.size() >= ResultDatabaseFactory.this.batchSize) {
+        flush();
+      }
+    }
+
+    /**
+     * Inserts all pending rows.
+     */
+    void flush() {
+
+      if (this.pendingRows.isEmpty()) {
+        return;
+      }
+      long start = System.nanoTime();
+      ResultDatabaseFactory.this.jdbcTemplate.batchUpdate(this.sql, this.pendingRows);
+      this.durationNanos += System.nanoTime() - start;
+      this.rowCount += this.pendingRows.size();
+      this.pendingRows.clear();
+    }
+
+    /**
+     * Logs the number of loaded rows and the achieved throughput.
+     */
+    void logStatistics() {
+
+      long durationMillis = this.durationNanos / 1000000L;
+      long rowsPerSecond = this.durationNanos > 0 ? this.rowCount * 1000000000L / this.durationNanos : 0;
+      LOG.info(LogMessages.REPORTING_TABLE_LOADED.msg(), this.rowCount, this.tableName, durationMillis, rowsPerSecond);
+    }
   }
 
 }
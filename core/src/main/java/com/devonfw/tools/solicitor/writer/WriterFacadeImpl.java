@@ -3,20 +3,32 @@
  */
 package com.devonfw.tools.solicitor.writer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.devonfw.tools.solicitor.SolicitorSetup;
 import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.config.WriterConfig;
+import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.lifecycle.PhaseMeasurement;
+import com.devonfw.tools.solicitor.lifecycle.PhaseType;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.writer.data.DataTable;
 import com.devonfw.tools.solicitor.writer.data.DataTableDiffer;
@@ -44,6 +56,11 @@ public class WriterFacadeImpl implements WriterFacade {
   @Autowired
   private ReportingGroupHandler reportingGroupHandler;
 
+  @Autowired
+  private LifecycleListenerHolder lifecycleListenerHolder;
+
+  private int parallelism = 1;
+
   /**
    * Constructor.
    */
@@ -51,53 +68,69 @@ public class WriterFacadeImpl implements WriterFacade {
 
   }
 
+  /**
+   * Sets the number of writers which might run concurrently. A value of 1 (default) results in sequential processing.
+   *
+   * @param parallelism the number of threads to use for writing the reports
+   */
+  @Value("${solicitor.writer.parallelism:1}")
+  public void setParallelism(int parallelism) {
+
+    this.parallelism = parallelism;
+  }
+
   /**
    * Execute the configured transformations via the embedded SQL database and generated the data tables which will be
-   * input for the report generation via XLS or velocity templating.
+   * input for the report generation via XLS or velocity templating. The data model(s) need to be already loaded to the
+   * database.
    *
-   * @param modelRoot the current model
-   * @param oldModelRoot the old modelto compare to; might be <code>null</code>
    * @param writerConfig the configuration of a {@link Writer} which also defines the SQL queries to perform
    * @param reportingGroup the name of the reporting group to be selected; the parameter will have no effect if the SQL
    *        statements do not contain the respective placeholder
+   * @param diff if <code>true</code> then the data tables will be compared to the result of the old model
    * @return a map of transformed data tables
    */
-  private Map<String, DataTable> getDataTables(ModelRoot modelRoot, ModelRoot oldModelRoot, WriterConfig writerConfig,
-      String reportingGroup) {
+  private Map<String, DataTable> getDataTables(WriterConfig writerConfig, String reportingGroup, boolean diff) {
 
-    // create the table for the current data model
-    LOG.info(LogMessages.INIT_SQL.msg());
-    modelRoot.setReportingGroup(reportingGroup);
-    this.resultDatabaseFactory.initDataModel(modelRoot);
     Map<String, DataTable> result = new HashMap<>();
     for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
       LOG.info(LogMessages.EXECUTE_SQL.msg(), table.getKey(), table.getValue(), reportingGroup);
       result.put(table.getKey(), this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup));
     }
-    modelRoot.setReportingGroup(null);
     // if old model data is defined then transform it and create diff
     // between new and old
-    if (oldModelRoot != null) {
-      LOG.info(LogMessages.INIT_SQL_OLD.msg());
-      oldModelRoot.setReportingGroup(reportingGroup);
-      this.resultDatabaseFactory.initDataModel(oldModelRoot);
+    if (diff) {
       for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
         DataTable newTable = result.get(table.getKey());
         LOG.info(LogMessages.EXECUTE_SQL.msg(), table.getKey() + " (old)", table.getValue(), reportingGroup);
-        DataTable oldTable = this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup);
+        DataTable oldTable = this.resultDatabaseFactory.getOldDataTable(table.getValue(), reportingGroup);
         LOG.info(LogMessages.CREATING_DIFF.msg(), table.getKey());
         DataTable diffTable = this.dataTableDiffer.diff(newTable, oldTable, writerConfig.isIncludeDeletesRowsInDelta());
         result.put(table.getKey(), diffTable);
       }
-      oldModelRoot.setReportingGroup(null);
     }
 
     return result;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The model (and the old model, if given) is loaded into the database only once. The reports for all writers and
+   * reporting groups are then created from this data; if configured (see {@link #setParallelism(int)}) concurrently.
+   */
   @Override
   public void writeResult(ModelRoot modelRoot, ModelRoot oldModelRoot) {
 
+    LOG.info(LogMessages.INIT_SQL.msg());
+    this.resultDatabaseFactory.initDataModel(modelRoot);
+    if (oldModelRoot != null) {
+      LOG.info(LogMessages.INIT_SQL_OLD.msg());
+      this.resultDatabaseFactory.initOldDataModel(oldModelRoot);
+    }
+    boolean diff = oldModelRoot != null;
+
+    List<Runnable> tasks = new ArrayList<>();
     for (WriterConfig writerConfig : this.solicitorSetup.getWriterSetups()) {
       List<String> writerReportingGroups;
       if (writerConfig.isEnableReportingGroups()) {
@@ -109,19 +142,83 @@ public class WriterFacadeImpl implements WriterFacade {
       for (String reportingGroup : writerReportingGroups) {
         if (this.reportingGroupHandler.matchesReportingGroupFilter(reportingGroup)) {
           String targetFilename = ReportingGroupHandler.expandReportingGroupInFileName(rawFilename, reportingGroup);
-          LOG.info(LogMessages.PREPARING_FOR_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
-              targetFilename);
-          Writer writer = this.writerFactory.writerFor(writerConfig.getType());
-          writer.writeReport(writerConfig, targetFilename,
-              getDataTables(modelRoot, oldModelRoot, writerConfig, reportingGroup));
-          LOG.info(LogMessages.FINISHED_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
-              targetFilename);
+          tasks.add(() -> writeReport(writerConfig, reportingGroup, targetFilename, diff));
         } else {
           LOG.info(LogMessages.REPORTING_GROUP_NOT_MATCHING_FILTER.msg(), reportingGroup,
               writerConfig.getTemplateSource());
         }
       }
     }
+    if (this.parallelism > 1 && tasks.size() > 1) {
+      runInParallel(tasks);
+    } else {
+      for (Runnable task : tasks) {
+        task.run();
+      }
+    }
+  }
+
+  /**
+   * Creates a single report.
+   *
+   * @param writerConfig the configuration of the {@link Writer}
+   * @param reportingGroup the reporting group
+   * @param targetFilename the name of the file to write
+   * @param diff if <code>true</code> then a delta report to the old model will be created
+   */
+  private void writeReport(WriterConfig writerConfig, String reportingGroup, String targetFilename, boolean diff) {
+
+    LOG.info(LogMessages.PREPARING_FOR_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
+        targetFilename);
+    PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.WRITER, targetFilename);
+    Writer writer = this.writerFactory.writerFor(writerConfig.getType());
+    Map<String, DataTable> dataTables = getDataTables(writerConfig, reportingGroup, diff);
+    writer.writeReport(writerConfig, targetFilename, dataTables);
+    long rows = 0;
+    for (DataTable dataTable : dataTables.values()) {
+      rows += dataTable.size();
+    }
+    measurement.finish(rows);
+    LOG.info(LogMessages.FINISHED_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
+        targetFilename);
+  }
+
+  /**
+   * Runs the given tasks using a bounded thread pool and waits for their completion. If any task fails the remaining
+   * tasks will be cancelled and the exception will be rethrown.
+   *
+   * @param tasks the tasks to run
+   */
+  private void runInParallel(List<Runnable> tasks) {
+
+    AtomicInteger threadCounter = new AtomicInteger();
+    ThreadFactory threadFactory = r -> {
+      Thread thread = new Thread(r, "writer-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, threadFactory);
+    try {
+      List<Future<?>> futures = new ArrayList<>(tasks.size());
+      for (Runnable task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw new SolicitorRuntimeException("Exception when writing report", e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new SolicitorRuntimeException("Interrupted when writing report", e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
 }
@@ -3,10 +3,11 @@
  */
 package com.devonfw.tools.solicitor.writer.data;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -205,12 +206,14 @@ public class DataTableDifferImpl implements DataTableDiffer {
       Map<Integer, Integer> newTableIndexToOldTableIndexMap, Set<Integer> oldTableUnmatchedIndexSet,
       String corrKeyColumn) {
 
+    Map<String, Deque<Integer>> oldTableUnmatchedIndexByKey = indexOldTableRows(oldTable, oldTableUnmatchedIndexSet,
+        corrKeyColumn);
     int unmatchedEntries = 0;
     for (Entry<Integer, Integer> entry : newTableIndexToOldTableIndexMap.entrySet()) {
       if (entry.getValue() == null) {
         DataTableRow newTableRow = newTable.getDataRow(entry.getKey());
-        Integer matchingOldRow = searchAndRemoveFromOldTableRowSet(newTableRow, oldTable, oldTableUnmatchedIndexSet,
-            corrKeyColumn);
+        Integer matchingOldRow = searchAndRemoveFromOldTableRowSet(newTableRow, oldTableUnmatchedIndexByKey,
+            oldTableUnmatchedIndexSet, corrKeyColumn);
         if (matchingOldRow != null) {
           entry.setValue(matchingOldRow);
         } else {
@@ -222,6 +225,26 @@ public class DataTableDifferImpl implements DataTableDiffer {
 
   }
 
+  /**
+   * Build an index of the not yet matched old rows by the value of the given correlation key. For each key value the
+   * indexes of the old rows are kept in the same order as in the set of unmatched old rows.
+   *
+   * @param oldTable the old table
+   * @param oldTableUnmatchedIndexSet the set of not yet mapped old rows
+   * @param corrKeyColumn the name of the correlation key column
+   * @return the map which holds for each correlation key value the queue of matching old row indexes
+   */
+  private Map<String, Deque<Integer>> indexOldTableRows(DataTable oldTable, Set<Integer> oldTableUnmatchedIndexSet,
+      String corrKeyColumn) {
+
+    Map<String, Deque<Integer>> oldTableUnmatchedIndexByKey = new HashMap<>();
+    for (Integer oldIndex : oldTableUnmatchedIndexSet) {
+      String oldTableRowCorrKey = extractKey(oldTable.getDataRow(oldIndex), corrKeyColumn);
+      oldTableUnmatchedIndexByKey.computeIfAbsent(oldTableRowCorrKey, k -> new ArrayDeque<>()).add(oldIndex);
+    }
+    return oldTableUnmatchedIndexByKey;
+  }
+
   /**
    * Append any subsequent deleted rows from old table to the correlated table.
    *
@@ -318,28 +341,27 @@ public class DataTableDifferImpl implements DataTableDiffer {
   }
 
   /**
-   * Search a corresponding row in the Set of not yet matched old rows. If a row is found remove it from the Set.
+   * Search a corresponding row in the not yet matched old rows. If a row is found remove it from the index and the Set.
    *
    * @param newTableRow the row of the new table to which the corresponding old row is searched
+   * @param oldTableUnmatchedIndexByKey the index of not yet matched old rows by correlation key value
    * @param oldTableUnmatchedIndexSet the set of not yet matched old rows
    * @param corrKeyColumn the name of the correlation key column to check
    * @return the matching old row; <code>null</code> if no match was found
    */
-  private Integer searchAndRemoveFromOldTableRowSet(DataTableRow newTableRow, DataTable oldTable,
-      Set<Integer> oldTableUnmatchedIndexSet, String corrKeyColumn) {
+  private Integer searchAndRemoveFromOldTableRowSet(DataTableRow newTableRow,
+      Map<String, Deque<Integer>> oldTableUnmatchedIndexByKey, Set<Integer> oldTableUnmatchedIndexSet,
+      String corrKeyColumn) {
 
     String newTableRowCorrKey = extractKey(newTableRow, corrKeyColumn);
-    for (Iterator<Integer> iterator = oldTableUnmatchedIndexSet.iterator(); iterator.hasNext();) {
-      int oldIndex = iterator.next();
-      DataTableRow oldTableRow = oldTable.getDataRow(oldIndex);
-      String oldTableRowCorrKey = extractKey(oldTableRow, corrKeyColumn);
-      if (newTableRowCorrKey.equals(oldTableRowCorrKey)) {
-        // corresponding row found!
-        iterator.remove();
-        return oldIndex;
-      }
+    Deque<Integer> candidates = oldTableUnmatchedIndexByKey.get(newTableRowCorrKey);
+    if (candidates == null || candidates.isEmpty()) {
+      return null;
     }
-    return null;
+    // corresponding row found!
+    Integer oldIndex = candidates.poll();
+    oldTableUnmatchedIndexSet.remove(oldIndex);
+    return oldIndex;
   }
 
 }
@@ -15,7 +15,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
+import org.apache.velocity.app.VelocityEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -59,9 +59,9 @@ public class VelocityWriter implements Writer {
   @Override
   public void writeReport(WriterConfig config, String target, Map<String, DataTable> dataTables) {
 
-    // (re)initialize velocity runtime engine
-    Velocity.reset();
-    Velocity.init();
+    // use a separate engine instance (instead of the singleton) so that reports might be written concurrently
+    VelocityEngine velocityEngine = new VelocityEngine();
+    velocityEngine.init();
 
     // set up the context
     VelocityContext context = new VelocityContext();
@@ -88,7 +88,7 @@ public class VelocityWriter implements Writer {
     IOHelper.checkAndCreateLocation(file);
     try (BufferedWriter writer = new BufferedWriter(
         new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
-      Velocity.evaluate(context, writer, "solicitor report velocity", templateString);
+      velocityEngine.evaluate(context, writer, "solicitor report velocity", templateString);
       writer.flush();
     } catch (IOException e) {
       throw new SolicitorRuntimeException("Processing of velocity report failed", e);
@@ -19,6 +19,7 @@ import java.util.Random;
 
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellCopyContext;
 import org.apache.poi.ss.usermodel.CellCopyPolicy;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
@@ -38,6 +39,7 @@ import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.xssf.usermodel.XSSFDataValidation;
 import org.apache.poi.xssf.usermodel.XSSFDataValidationHelper;
+import org.apache.poi.xssf.usermodel.XSSFRow;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTDataValidations;
@@ -110,28 +112,44 @@ public class ExcelWriter implements Writer {
     cell.setCellComment(comment);
   }
 
-  private void copyRowsDown(Row row) {
-
-    // copy the current row to the row directly beneath it
+  /**
+   * Expands the given template row by copying it to the required number of rows directly beneath it. The space for
+   * these rows needs to be available (see {@link #possiblyMoveBelowRowsDownToCreateSpaceForNewRows(Row, int)}).
+   * Conditional formatting and data validation regions are adjusted once for all added rows.
+   *
+   * @param row the template row
+   * @param numberOfRows the total number of rows (including the template row) which are needed
+   */
+  private void expandTemplateRow(Row row, int numberOfRows) {
 
+    if (numberOfRows <= 1) {
+      return;
+    }
     XSSFSheet worksheet = (XSSFSheet) row.getSheet();
 
     int rowNumToCopy = row.getRowNum();
-    worksheet.copyRows(rowNumToCopy, rowNumToCopy, rowNumToCopy + 1, new CellCopyPolicy());
-    updateConditionalFormattingRegionsIncrementLastRow(worksheet, rowNumToCopy);
-    updateValidationRegionsIncrementLastRow(worksheet, rowNumToCopy);
+    CellCopyPolicy cellCopyPolicy = new CellCopyPolicy();
+    CellCopyContext cellCopyContext = new CellCopyContext();
+    for (int i = 1; i < numberOfRows; i++) {
+      XSSFRow newRow = worksheet.createRow(rowNumToCopy + i);
+      newRow.copyRowFrom(row, cellCopyPolicy, cellCopyContext);
+    }
+    updateConditionalFormattingRegionsExtendLastRow(worksheet, rowNumToCopy, numberOfRows - 1);
+    updateValidationRegionsExtendLastRow(worksheet, rowNumToCopy, numberOfRows - 1);
 
   }
 
   /**
-   * Updates all conditional formatting regions in the given worksheet by incrementing the last row of any region that
-   * ends at the given srcLastRowNum. This is necessary to keep conditional formatting working correctly after inserting
-   * a new row after srcLastRowNum.
+   * Updates all conditional formatting regions in the given worksheet by extending the last row of any region that ends
+   * at the given srcLastRowNum. This is necessary to keep conditional formatting working correctly after inserting new
+   * rows after srcLastRowNum.
    *
-   * @param worksheet
-   * @param srcLastRowNum
+   * @param worksheet the sheet to update
+   * @param srcLastRowNum the row index which is the last row of any region that should be extended
+   * @param numberOfAddedRows the number of rows inserted after srcLastRowNum
    */
-  private static void updateConditionalFormattingRegionsIncrementLastRow(XSSFSheet worksheet, int srcLastRowNum) {
+  private static void updateConditionalFormattingRegionsExtendLastRow(XSSFSheet worksheet, int srcLastRowNum,
+      int numberOfAddedRows) {
 
     SheetConditionalFormatting scf = worksheet.getSheetConditionalFormatting();
     for (int i = 0; i < scf.getNumConditionalFormattings(); i++) {
@@ -139,7 +157,7 @@ public class ExcelWriter implements Writer {
       CellRangeAddress[] cras = cf.getFormattingRanges();
       for (CellRangeAddress cra : cras) {
         if (cra.getLastRow() == srcLastRowNum) {
-          cra.setLastRow(srcLastRowNum + 1);
+          cra.setLastRow(srcLastRowNum + numberOfAddedRows);
         }
       }
       cf.setFormattingRanges(cras);
@@ -147,14 +165,16 @@ public class ExcelWriter implements Writer {
   }
 
   /**
-   * Updates all data validation regions in the given sheet by incrementing the last row of any region that ends at the
-   * given srcLastRowNum. This is necessary to keep data validations working correctly after inserting a new row after
+   * Updates all data validation regions in the given sheet by extending the last row of any region that ends at the
+   * given srcLastRowNum. This is necessary to keep data validations working correctly after inserting new rows after
    * srcLastRowNum.
    *
    * @param sheet the sheet to update
-   * @param srcLastRowNum the row index which is the last row of any region that should be incremented
+   * @param srcLastRowNum the row index which is the last row of any region that should be extended
+   * @param numberOfAddedRows the number of rows inserted after srcLastRowNum
    */
-  private static void updateValidationRegionsIncrementLastRow(XSSFSheet sheet, int srcLastRowNum) {
+  private static void updateValidationRegionsExtendLastRow(XSSFSheet sheet, int srcLastRowNum,
+      int numberOfAddedRows) {
 
     // 1. Extract all existing validations safely
     List<XSSFDataValidation> existing = sheet.getDataValidations();
@@ -203,10 +223,10 @@ public class ExcelWriter implements Writer {
         int fc = r.getFirstColumn();
         int lc = r.getLastColumn();
 
-        // Conditionally increment last row if it is equal to the target last row (the row where a new row was just
+        // Conditionally extend last row if it is equal to the target last row (the row after which the new rows were
         // inserted)
         if (last == srcLastRowNum) {
-          last = last + 1;
+          last = last + numberOfAddedRows;
         }
 
         newList.addCellRangeAddress(new CellRangeAddress(first, last, fc, lc));
@@ -289,14 +309,12 @@ public class ExcelWriter implements Writer {
       numberOfRows++;
     }
     possiblyMoveBelowRowsDownToCreateSpaceForNewRows(row, numberOfRows);
+    // create all additional template rows at once
+    expandTemplateRow(row, numberOfRows);
 
-    // add additional rows if necessary and replace the placeholders
+    // replace the placeholders
     for (Iterator<DataTableRow> rowIterator = dt.iterator(); rowIterator.hasNext();) {
       DataTableRow rowData = rowIterator.next();
-      if (rowIterator.hasNext()) { // add an additional template row if
-                                   // necessary
-        copyRowsDown(row);
-      }
       if (rowData.getRowDiffStatus() == RowDiffStatus.NEW) {
         Cell firstCellInRow = row.getCell(row.getFirstCellNum());
         addCommentToCell(firstCellInRow, "NEWLY INSERTED LINE");
@@ -0,0 +1,122 @@
+package com.devonfw.tools.solicitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.SolicitorSetup.ReaderSetup;
+import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.model.impl.AbstractModelObject;
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.devonfw.tools.solicitor.reader.Reader;
+import com.devonfw.tools.solicitor.reader.ReaderFactory;
+
+/**
+ * Tests reading the inventory via {@link Solicitor} with multiple {@link Reader}s and {@link Application}s.
+ */
+class SolicitorReadInventoryTest {
+
+  private static final int APPLICATION_COUNT = 6;
+
+  private static final int READERS_PER_APPLICATION = 3;
+
+  private static final int COMPONENTS_PER_READER = 500;
+
+  /**
+   * A {@link Reader} which creates a fixed number of {@link ApplicationComponent}s whose artifactId is derived from the
+   * source.
+   */
+  private static class SyntheticReader implements Reader {
+
+    @Override
+    public boolean accept(String type) {
+
+      return "synthetic".equals(type);
+    }
+
+    @Override
+    public void readInventory(String type, String sourceUrl, Application application, UsagePattern usagePattern,
+        boolean modified, String packageType, Map<String, String> configuration) {
+
+      for (int i = 0; i < COMPONENTS_PER_READER; i++) {
+        ApplicationComponentImpl ac = new ApplicationComponentImpl();
+        ac.setGroupId(application.getName());
+        ac.setArtifactId(sourceUrl + "-" + i);
+        ac.setVersion("1.0.0");
+        ac.setUsagePattern(usagePattern);
+        ac.setOssModified(modified);
+        ac.setApplication(application);
+        if (i % 50 == 0) {
+          Thread.yield();
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that reading the inventory with a reader parallelism greater than 1 links exactly the components read for an
+   * application to this application, retains the configured order of the readers and creates unique ids.
+   */
+  @Test
+  public void testReadInventoryInParallel() {
+
+    List<ApplicationImpl> applications = new ArrayList<>();
+    List<ReaderSetup> readerSetups = new ArrayList<>();
+    for (int a = 0; a < APPLICATION_COUNT; a++) {
+      ApplicationImpl application = new ApplicationImpl();
+      application.setName("app" + a);
+      applications.add(application);
+    }
+    // interleave the reader setups of the different applications
+    for (int r = 0; r < READERS_PER_APPLICATION; r++) {
+      for (ApplicationImpl application : applications) {
+        ReaderSetup readerSetup = new ReaderSetup();
+        readerSetup.setType("synthetic");
+        readerSetup.setSource(application.getName() + "-source" + r);
+        readerSetup.setApplication(application);
+        readerSetup.setUsagePattern(UsagePattern.DYNAMIC_LINKING);
+        readerSetups.add(readerSetup);
+      }
+    }
+    SolicitorSetup solicitorSetup = new SolicitorSetup();
+    solicitorSetup.setReaderSetups(readerSetups);
+    ReaderFactory readerFactory = new ReaderFactory();
+    ReflectionTestUtils.setField(readerFactory, "readers", new Reader[] { new SyntheticReader() });
+
+    Solicitor solicitor = new Solicitor();
+    ReflectionTestUtils.setField(solicitor, "solicitorSetup", solicitorSetup);
+    ReflectionTestUtils.setField(solicitor, "readerFactory", readerFactory);
+    ReflectionTestUtils.setField(solicitor, "lifecycleListenerHolder", new LifecycleListenerHolder());
+    solicitor.setReaderParallelism(4);
+
+    ReflectionTestUtils.invokeMethod(solicitor, "readInventory");
+
+    Set<String> ids = new HashSet<>();
+    for (ApplicationImpl application : applications) {
+      List<ApplicationComponent> components = application.getApplicationComponents();
+      Assertions.assertEquals(READERS_PER_APPLICATION * COMPONENTS_PER_READER, components.size());
+      int index = 0;
+      for (int r = 0; r < READERS_PER_APPLICATION; r++) {
+        for (int i = 0; i < COMPONENTS_PER_READER; i++) {
+          ApplicationComponent ac = components.get(index++);
+          Assertions.assertSame(application, ac.getApplication());
+          Assertions.assertEquals(application.getName(), ac.getGroupId());
+          Assertions.assertEquals(application.getName() + "-source" + r + "-" + i, ac.getArtifactId());
+          Assertions.assertTrue(ids.add(((AbstractModelObject) ac).getId()), "duplicate id");
+        }
+      }
+    }
+    Assertions.assertEquals(APPLICATION_COUNT * READERS_PER_APPLICATION * COMPONENTS_PER_READER, ids.size());
+  }
+
+}
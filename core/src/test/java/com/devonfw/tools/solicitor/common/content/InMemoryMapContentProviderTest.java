@@ -0,0 +1,92 @@
+package com.devonfw.tools.solicitor.common.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+import com.devonfw.tools.solicitor.common.content.web.WebContentFactory;
+
+/**
+ * Tests for {@link InMemoryMapContentProvider}.
+ */
+class InMemoryMapContentProviderTest {
+
+  private final List<String> requestedUrls = new ArrayList<>();
+
+  private InMemoryMapContentProvider<WebContent> provider;
+
+  @BeforeEach
+  void setUp() {
+
+    this.requestedUrls.clear();
+    ContentProvider<WebContent> next = url -> {
+      this.requestedUrls.add(url);
+      return new WebContent(url.endsWith("unknown") ? null : "content of " + url);
+    };
+    this.provider = new InMemoryMapContentProvider<>(new WebContentFactory(), next);
+  }
+
+  /**
+   * Test that repeated lookups, also of content which could not be found, are only delegated once.
+   */
+  @Test
+  void testRepeatedLookupsIncludingNegativeOnes() {
+
+    WebContent known = this.provider.getContentForUri("http://example.com/known");
+    for (int i = 0; i < 3; i++) {
+      assertSame(known, this.provider.getContentForUri("http://example.com/known"));
+      assertNull(this.provider.getContentForUri("http://example.com/unknown").getContent());
+    }
+    assertEquals(List.of("http://example.com/known", "http://example.com/unknown"), this.requestedUrls);
+    assertEquals(5, this.provider.getMemoryCache().getHitCount());
+    assertEquals(2, this.provider.getMemoryCache().getMissCount());
+  }
+
+  /**
+   * Test that the least recently used content is evicted if the maximum size is exceeded and is then requested from
+   * the next provider again.
+   */
+  @Test
+  void testEviction() {
+
+    // each entry: 256 bytes overhead + 2 bytes per character
+    this.provider.setMaxBytes(2 * (256 + 2 * "content of http://example.com/a".length()));
+    this.provider.getContentForUri("http://example.com/a");
+    this.provider.getContentForUri("http://example.com/b");
+    this.provider.getContentForUri("http://example.com/a");
+    this.provider.getContentForUri("http://example.com/c");
+    this.provider.getContentForUri("http://example.com/a");
+    this.provider.getContentForUri("http://example.com/b");
+
+    assertEquals(List.of("http://example.com/a", "http://example.com/b", "http://example.com/c",
+        "http://example.com/b"), this.requestedUrls);
+    assertEquals(2, this.provider.getMemoryCache().size());
+    assertEquals(2, this.provider.getMemoryCache().getEvictionCount());
+  }
+
+  /**
+   * Test that nothing is cached if the maximum size is 0 and that content put explicitly is returned.
+   */
+  @Test
+  void testDeactivatedCacheAndPutContent() {
+
+    this.provider.setMaxBytes(0);
+    this.provider.getContentForUri("http://example.com/a");
+    this.provider.getContentForUri("http://example.com/a");
+    assertEquals(2, this.requestedUrls.size());
+
+    this.provider.setMaxBytes(InMemoryMapContentProvider.DEFAULT_MAX_BYTES);
+    WebContent put = new WebContent(null);
+    this.provider.putContent("http://example.com/failed", put);
+    assertSame(put, this.provider.getContentForUri("http://example.com/failed"));
+    assertEquals(2, this.requestedUrls.size());
+  }
+
+}
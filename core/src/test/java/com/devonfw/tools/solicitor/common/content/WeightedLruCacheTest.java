@@ -0,0 +1,53 @@
+package com.devonfw.tools.solicitor.common.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WeightedLruCache}.
+ */
+class WeightedLruCacheTest {
+
+  /**
+   * Test that the least recently used entries are evicted when the maximum weight is exceeded.
+   */
+  @Test
+  void testEvictsLeastRecentlyUsed() {
+
+    WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, String::length);
+    cache.put("a", "aaaa");
+    cache.put("b", "bbbb");
+    assertEquals("aaaa", cache.get("a"));
+    cache.put("c", "cccc");
+
+    assertNull(cache.get("b"));
+    assertEquals("aaaa", cache.get("a"));
+    assertEquals("cccc", cache.get("c"));
+    assertEquals(2, cache.size());
+    assertEquals(8, cache.getCurrentWeight());
+    assertEquals(3, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getEvictionCount());
+  }
+
+  /**
+   * Test replacing and removing entries and that values heavier than the maximum weight are not cached.
+   */
+  @Test
+  void testReplaceRemoveAndOversized() {
+
+    WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, String::length);
+    cache.put("a", "aaaa");
+    cache.put("a", "aa");
+    assertEquals(2, cache.getCurrentWeight());
+    cache.put("b", "bbbbbbbbbbb");
+    assertNull(cache.get("b"));
+    cache.remove("a");
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getCurrentWeight());
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+}
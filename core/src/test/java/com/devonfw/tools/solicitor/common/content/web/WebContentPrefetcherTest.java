@@ -0,0 +1,161 @@
+package com.devonfw.tools.solicitor.common.content.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.common.UrlInputStreamFactory;
+import com.devonfw.tools.solicitor.common.content.FilesystemCachingContentProvider;
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for {@link WebContentPrefetcher} using a local stub HTTP server.
+ */
+@SpringBootTest
+class WebContentPrefetcherTest {
+
+  @Autowired
+  private UrlInputStreamFactory urlInputStreamFactory;
+
+  @TempDir
+  Path cacheDir;
+
+  private HttpServer server;
+
+  private String baseUrl;
+
+  private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+  private FilesystemCachingContentProvider<WebContent> filesystemCache;
+
+  private InMemoryMapContentProvider<WebContent> inMemoryCache;
+
+  private WebContentPrefetcher prefetcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/", this::handle);
+    this.server.start();
+    this.baseUrl = "http://localhost:" + this.server.getAddress().getPort();
+
+    WebContentFactory factory = new WebContentFactory();
+    this.filesystemCache = new FilesystemCachingContentProvider<>(factory, new DirectUrlWebContentProvider(true),
+        this.cacheDir.toString());
+    ReflectionTestUtils.setField(this.filesystemCache, "urlInputStreamFactory", this.urlInputStreamFactory);
+    this.inMemoryCache = new InMemoryMapContentProvider<>(factory, this.filesystemCache);
+    this.prefetcher = new WebContentPrefetcher(Collections.singletonList(this.filesystemCache), this.filesystemCache,
+        this.inMemoryCache);
+    this.prefetcher.setRetryBackoff(10);
+  }
+
+  @AfterEach
+  void tearDown() {
+
+    this.server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+
+    String path = exchange.getRequestURI().getPath();
+    int count = this.requestCounts.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+    int status;
+    String body;
+    switch (path) {
+      case "/license":
+        status = 200;
+        body = "license text";
+        break;
+      case "/lines":
+        status = 200;
+        body = "line 1\nline 2\nline 3\n";
+        break;
+      case "/flaky":
+        status = count == 1 ? 503 : 200;
+        body = "flaky text";
+        break;
+      default:
+        status = 404;
+        body = "not found";
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+
+  private int requests(String path) {
+
+    AtomicInteger count = this.requestCounts.get(path);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Tests that all not yet cached URLs are downloaded once and stored in the cache.
+   */
+  @Test
+  void testPrefetch() {
+
+    String license = this.baseUrl + "/license";
+    String lines = this.baseUrl + "/lines#L2-L3";
+    String flaky = this.baseUrl + "/flaky";
+    String missing = this.baseUrl + "/missing";
+
+    int downloaded = this.prefetcher
+        .prefetch(Arrays.asList(license, license, lines, flaky, missing, null, "file:some/file.txt"));
+
+    assertEquals(3, downloaded);
+    assertEquals(1, requests("/license"));
+    assertEquals(1, requests("/lines"));
+    assertEquals(2, requests("/flaky"));
+    assertEquals(1, requests("/missing"));
+    assertTrue(this.filesystemCache.isCached(license));
+    assertTrue(this.filesystemCache.isCached(missing));
+
+    assertEquals("license text", this.inMemoryCache.getContentForUri(license).getContent());
+    assertEquals("line 2\nline 3\n", this.inMemoryCache.getContentForUri(lines).getContent());
+    assertEquals("flaky text", this.inMemoryCache.getContentForUri(flaky).getContent());
+    assertNull(this.inMemoryCache.getContentForUri(missing).getContent());
+
+    // everything is cached now
+    assertEquals(0, this.prefetcher.prefetch(Arrays.asList(license, lines, flaky, missing)));
+    assertEquals(1, requests("/license"));
+    assertEquals(1, requests("/missing"));
+  }
+
+  /**
+   * Tests that nothing is downloaded if downloading is disabled.
+   */
+  @Test
+  void testSkipDownload() {
+
+    this.prefetcher.setSkipdownload(true);
+
+    assertEquals(0, this.prefetcher.prefetch(Collections.singletonList(this.baseUrl + "/license")));
+    assertEquals(0, requests("/license"));
+  }
+
+}
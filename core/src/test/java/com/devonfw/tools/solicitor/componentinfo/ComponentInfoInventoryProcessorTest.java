@@ -1,5 +1,6 @@
 package com.devonfw.tools.solicitor.componentinfo;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -8,6 +9,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.impl.ModelFactoryImpl;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.RawLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+
 /**
  * This class contains JUnit test methods for the {@link ComponentInfoInventoryProcessor} class.
  */
@@ -80,4 +91,119 @@ class ComponentInfoInventoryProcessorTest {
     Assertions.assertEquals("", formattedNotes);
   }
 
+  /**
+   * Test the {@link ComponentInfoInventoryProcessor#processInventory(ModelRoot)} method with parallel lookup of the
+   * component information. The resulting model needs to be the same as with sequential processing.
+   *
+   * @throws Exception if anything goes wrong
+   */
+  @Test
+  public void testProcessInventoryInParallel() throws Exception {
+
+    List<ApplicationComponent> sequential = processTestInventory(1, createTestAdapter());
+    List<ApplicationComponent> parallel = processTestInventory(8, createTestAdapter());
+
+    Assertions.assertEquals(sequential.size(), parallel.size());
+    for (int i = 0; i < sequential.size(); i++) {
+      ApplicationComponent expected = sequential.get(i);
+      ApplicationComponent actual = parallel.get(i);
+      Assertions.assertEquals(expected.getPackageUrl(), actual.getPackageUrl());
+      Assertions.assertEquals(expected.getDataStatus(), actual.getDataStatus());
+      Assertions.assertEquals(expected.getOssHomepage(), actual.getOssHomepage());
+      Assertions.assertEquals(expected.getRawLicenses().size(), actual.getRawLicenses().size());
+      for (int j = 0; j < expected.getRawLicenses().size(); j++) {
+        Assertions.assertEquals(expected.getRawLicenses().get(j).getDeclaredLicense(),
+            actual.getRawLicenses().get(j).getDeclaredLicense());
+      }
+    }
+    Assertions.assertEquals("DA:some-status", parallel.get(0).getDataStatus());
+    Assertions.assertEquals("ND:some-status", parallel.get(3).getDataStatus());
+  }
+
+  /**
+   * Test that {@link ComponentInfoInventoryProcessor#processInventory(ModelRoot)} queries the
+   * {@link ComponentInfoAdapter} only once for each distinct PackageURL, even if it occurs in multiple applications.
+   *
+   * @throws Exception if anything goes wrong
+   */
+  @Test
+  public void testProcessInventoryLooksUpEachPackageOnce() throws Exception {
+
+    ComponentInfoAdapter adapter = createTestAdapter();
+    List<ApplicationComponent> result = processTestInventory(1, adapter);
+
+    // applications 0 and 2 contain the same packages
+    Mockito.verify(adapter, Mockito.times(60)).getComponentInfo(Mockito.any(), Mockito.any());
+    for (int i = 0; i < 30; i++) {
+      ApplicationComponent first = result.get(i);
+      ApplicationComponent third = result.get(60 + i);
+      Assertions.assertEquals(first.getPackageUrl(), third.getPackageUrl());
+      Assertions.assertEquals(first.getDataStatus(), third.getDataStatus());
+      Assertions.assertEquals(first.getOssHomepage(), third.getOssHomepage());
+      Assertions.assertEquals(first.getRawLicenses().size(), third.getRawLicenses().size());
+      Assertions.assertNotSame(first.getRawLicenses().get(0), third.getRawLicenses().get(0));
+    }
+  }
+
+  private ComponentInfoAdapter createTestAdapter() throws Exception {
+
+    ComponentInfoAdapter adapter = Mockito.mock(ComponentInfoAdapter.class);
+    Mockito.when(adapter.getComponentInfo(Mockito.any(), Mockito.any()))
+        .thenAnswer(invocation -> createComponentInfo(invocation.getArgument(0)));
+    return adapter;
+  }
+
+  private List<ApplicationComponent> processTestInventory(int parallelism, ComponentInfoAdapter adapter)
+      throws Exception {
+
+    ModelFactoryImpl modelFactory = new ModelFactoryImpl();
+    modelFactory.setSolicitorVersion(Mockito.mock(SolicitorVersion.class));
+    ModelRoot modelRoot = modelFactory.newModelRoot();
+    Engagement engagement = modelFactory.newEngagement();
+    engagement.setModelRoot(modelRoot);
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
+    for (int a = 0; a < 3; a++) {
+      Application application = modelFactory.newApplication();
+      application.setEngagement(engagement);
+      for (int c = 0; c < 30; c++) {
+        ApplicationComponent ac = modelFactory.newApplicationComponent();
+        ac.setApplication(application);
+        ac.setPackageUrl(new PackageURL("pkg:maven/somegroup/artifact" + c + "@" + (a % 2) + ".0"));
+        RawLicense rawLicense = modelFactory.newRawLicense();
+        rawLicense.setApplicationComponent(ac);
+        rawLicense.setDeclaredLicense("from reader");
+        applicationComponents.add(ac);
+      }
+    }
+
+    ComponentInfoInventoryProcessor processor = new ComponentInfoInventoryProcessor();
+    processor.setModelFactory(modelFactory);
+    processor.setComponentInfoAdapters(new ComponentInfoAdapter[] { adapter });
+    processor.setCurationDataSelector("");
+    processor.setParallelism(parallelism);
+    processor.processInventory(modelRoot);
+    return applicationComponents;
+  }
+
+  private ComponentInfo createComponentInfo(PackageURL packageUrl)
+      throws InterruptedException, MalformedPackageURLException {
+
+    // vary the duration of the lookup to provoke out of order completion
+    Thread.sleep(Math.abs(packageUrl.hashCode()) % 5);
+    DefaultComponentInfoImpl componentInfo = new DefaultComponentInfoImpl(packageUrl, "some-status");
+    if (packageUrl.getName().endsWith("3")) {
+      // no data available
+      return componentInfo;
+    }
+    DefaultComponentInfoDataImpl componentInfoData = new DefaultComponentInfoDataImpl();
+    componentInfoData.setHomepageUrl("https://" + packageUrl.getName() + "/" + packageUrl.getVersion());
+    for (int i = 0; i < 3; i++) {
+      DefaultLicenseInfoImpl licenseInfo = new DefaultLicenseInfoImpl();
+      licenseInfo.setSpdxId("License-" + packageUrl.getVersion() + "-" + i);
+      componentInfoData.addLicense(licenseInfo);
+    }
+    componentInfo.setComponentInfoData(componentInfoData);
+    return componentInfo;
+  }
+
 }
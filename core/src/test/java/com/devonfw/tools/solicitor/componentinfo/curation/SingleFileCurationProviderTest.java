@@ -3,8 +3,15 @@ package com.devonfw.tools.solicitor.componentinfo.curation;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.devonfw.tools.solicitor.common.PackageURLHelper;
@@ -104,4 +111,44 @@ class SingleFileCurationProviderTest {
     assertEquals("some/path/1", result.getLicenseCurations().get(1).getPath());
   }
 
+  /**
+   * Test that the index of curations is rebuilt if the curations file is changed.
+   *
+   * @param tempDir temporary directory for the curations file
+   * @throws IOException
+   * @throws ComponentInfoAdapterException
+   * @throws CurationInvalidException
+   * @throws SolicitorMalformedPackageURLException
+   */
+  @Test
+  void testFindCurationsAfterFileModification(@TempDir Path tempDir) throws IOException,
+      ComponentInfoAdapterException, CurationInvalidException, SolicitorMalformedPackageURLException {
+
+    File curationsFile = tempDir.resolve("curations.yaml").toFile();
+    Files.writeString(curationsFile.toPath(), curationsYaml("first note"), StandardCharsets.UTF_8);
+    curationsFile.setLastModified(1000000L);
+    this.objectUnderTest.setCurationsFileName(curationsFile.getPath());
+
+    ComponentInfoCuration result;
+    result = this.objectUnderTest.findCurations(
+        PackageURLHelper.fromString("pkg:maven/somenamespace/somecomponent@2.3.4"),
+        new SelectorCurationDataHandle(null));
+    assertEquals("first note", result.getNote());
+
+    Files.writeString(curationsFile.toPath(), curationsYaml("second note"), StandardCharsets.UTF_8);
+    curationsFile.setLastModified(2000000L);
+
+    result = this.objectUnderTest.findCurations(
+        PackageURLHelper.fromString("pkg:maven/somenamespace/somecomponent@2.3.4"),
+        new SelectorCurationDataHandle(null));
+    assertEquals("second note", result.getNote());
+  }
+
+  private static String curationsYaml(String note) {
+
+    return "artifacts:\n" //
+        + "- name: \"pkg/maven/somenamespace/somecomponent/2.3.4\"\n" //
+        + "  note: \"" + note + "\"\n";
+  }
+
 }
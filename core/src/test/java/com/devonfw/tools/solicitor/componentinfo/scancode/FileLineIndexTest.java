@@ -0,0 +1,73 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link FileLineIndex}.
+ */
+class FileLineIndexTest {
+
+  /**
+   * Test that reading line ranges gives the same result as {@link MultilineHelper#possiblyExtractLines(String, String)}
+   * for various inputs including edge cases like empty files and trailing empty lines.
+   *
+   * @param tempDir temporary directory
+   * @throws IOException if something goes wrong
+   */
+  @Test
+  void testSameResultAsMultilineHelper(@TempDir Path tempDir) throws IOException {
+
+    String[] inputs = { "", "\n", "\n\n", "a", "a\n", "a\nb", "a\n\nb\n\n\n", "\nfirst\r\nsecond\r\n\n  \n",
+    "Copyright (c) 2023\n\nLicensed under the Apache License\nVersion 2.0\n" };
+    File file = tempDir.resolve("LICENSE").toFile();
+    for (String input : inputs) {
+      FileUtils.writeStringToFile(file, input, Charset.defaultCharset());
+      FileLineIndex index = FileLineIndex.build(file);
+      for (int start = 1; start <= 8; start++) {
+        for (int end = start; end <= 8; end++) {
+          String lineInfo = "#L" + start + "-L" + end;
+          assertEquals(MultilineHelper.possiblyExtractLines(input, lineInfo), index.readLines(start, end),
+              "input '" + input + "', " + lineInfo);
+        }
+      }
+    }
+  }
+
+  /**
+   * Test reading lines from a larger file and the detection of changes.
+   *
+   * @param tempDir temporary directory
+   * @throws IOException if something goes wrong
+   */
+  @Test
+  void testLargeFileAndUpToDate(@TempDir Path tempDir) throws IOException {
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 1; i <= 10000; i++) {
+      sb.append("line ").append(i).append('\n');
+    }
+    File file = tempDir.resolve("large.txt").toFile();
+    FileUtils.writeStringToFile(file, sb.toString(), Charset.defaultCharset());
+
+    FileLineIndex index = FileLineIndex.build(file);
+    assertEquals(10000, index.getLineCount());
+    assertEquals("line 5000\nline 5001\n", index.readLines(5000, 5001));
+    assertEquals("line 10000\n", index.readLines(10000, 20000));
+    assertTrue(index.isUpToDate());
+
+    FileUtils.writeStringToFile(file, "more\n", Charset.defaultCharset(), true);
+    assertFalse(index.isUpToDate());
+  }
+
+}
@@ -18,7 +18,6 @@ import com.devonfw.tools.solicitor.componentinfo.curation.SingleFileCurationProv
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * This class contains JUnit test methods for the {@link FilteredScancodeV31ComponentInfoProvider} class.
@@ -77,7 +76,7 @@ public class FilteredScancodeV31ComponentInfoProviderTest {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV31ComponentInfoProvider.getComponentInfo(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"),
@@ -116,7 +115,7 @@ public class FilteredScancodeV31ComponentInfoProviderTest {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     // when
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV31ComponentInfoProvider.getComponentInfo(
@@ -156,7 +155,7 @@ public class FilteredScancodeV31ComponentInfoProviderTest {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     // when
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV31ComponentInfoProvider.getComponentInfo(
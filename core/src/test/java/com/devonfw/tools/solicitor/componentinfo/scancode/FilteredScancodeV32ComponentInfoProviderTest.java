@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.InputStream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -20,6 +22,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.packageurl.PackageURL;
 
 /**
  * This class contains JUnit test methods for the {@link FilteredScancodeV31ComponentInfoProvider} class.
@@ -77,7 +82,7 @@ public class FilteredScancodeV32ComponentInfoProviderTest {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"),
@@ -93,6 +98,86 @@ public class FilteredScancodeV32ComponentInfoProviderTest {
     assertEquals("Copyright 2023 devonfw", scancodeComponentInfo.getComponentInfoData().getCopyrights().toArray()[0]);
   }
 
+  /**
+   * Test that mapping the scancode data gives the same result regardless if the <code>files</code> array is streamed
+   * from the raw data or taken from a completely parsed JSON tree.
+   *
+   * @throws Exception if something goes wrong
+   */
+  @Test
+  public void testGetComponentInfoStreamedEqualsFullTree() throws Exception {
+
+    // given
+    PackageURL packageUrl = PackageURLHelper
+        .fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0");
+    ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(packageUrl);
+    JsonNode fullScancodeJson;
+    try (InputStream is = rawScancodeData.openRawScancodeResult()) {
+      fullScancodeJson = new ObjectMapper().readTree(is);
+    }
+
+    // when
+    ComponentInfo streamed = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(packageUrl,
+        new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData,
+        ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData));
+    ComponentInfo fromTree = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(packageUrl,
+        new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, fullScancodeJson);
+
+    // then
+    assertEquals(fromTree.getDataStatus(), streamed.getDataStatus());
+    assertArrayEquals(fromTree.getComponentInfoData().getCopyrights().toArray(),
+        streamed.getComponentInfoData().getCopyrights().toArray());
+    assertEquals(fromTree.getComponentInfoData().getNoticeFileUrl(),
+        streamed.getComponentInfoData().getNoticeFileUrl());
+    assertEquals(fromTree.getComponentInfoData().getLicenses().size(),
+        streamed.getComponentInfoData().getLicenses().size());
+    assertEquals(2, streamed.getComponentInfoData().getLicenses().size());
+  }
+
+  /**
+   * Test the special handling of Classpath-exception-2.0: the exception is merged into the (single) GPL license of the
+   * file. Matches which belong to other files are considered for this but are not output themselves.
+   *
+   * @throws Exception if something goes wrong
+   */
+  @Test
+  public void testGetComponentInfoWithClasspathException() throws Exception {
+
+    // given
+    this.singleFileCurationProvider.setCurationsFileName("src/test/resources/scancodefileadapter/nonexisting.yaml");
+    PackageURL packageUrl = PackageURLHelper
+        .fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0");
+    ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(packageUrl);
+    JsonNode scancodeJson;
+    try (InputStream is = rawScancodeData.openRawScancodeResult()) {
+      scancodeJson = new ObjectMapper().readTree(is);
+    }
+    for (JsonNode file : scancodeJson.get("files")) {
+      for (JsonNode ld : file.get("license_detections")) {
+        for (JsonNode ma : ld.get("matches")) {
+          ((ObjectNode) ma).put("spdx_license_expression", "GPL-2.0-only");
+        }
+        ArrayNode matches = (ArrayNode) ld.get("matches");
+        ObjectNode exception = matches.get(0).deepCopy();
+        exception.put("spdx_license_expression", "Classpath-exception-2.0");
+        matches.add(exception);
+        ObjectNode foreign = matches.get(0).deepCopy();
+        foreign.put("spdx_license_expression", "MIT");
+        foreign.put("from_file", "sources/some/other/file");
+        matches.add(foreign);
+      }
+    }
+
+    // when
+    ComponentInfo componentInfo = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(packageUrl,
+        new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
+
+    // then
+    assertEquals(1, componentInfo.getComponentInfoData().getLicenses().size());
+    assertEquals("GPL-2.0-only WITH Classpath-exception-2.0",
+        componentInfo.getComponentInfoData().getLicenses().iterator().next().getSpdxid());
+  }
+
   /**
    * Test the
    * {@link FilteredScancodeV31ComponentInfoProvider#getComponentInfo(String, String, ScancodeRawComponentInfo, JsonNode)}
@@ -116,7 +201,7 @@ public class FilteredScancodeV32ComponentInfoProviderTest {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     // when
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(
@@ -156,7 +241,7 @@ public class FilteredScancodeV32ComponentInfoProviderTest {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider.readScancodeData(
         PackageURLHelper.fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0"));
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     // when
     ComponentInfo scancodeComponentInfo = this.filteredScancodeV32ComponentInfoProvider.getComponentInfo(
@@ -124,7 +124,7 @@ public class MultiversionFilteredScancodeComponentInfoProviderTest {
     ScancodeRawComponentInfo rawScancodeData = new ScancodeRawComponentInfo();
     rawScancodeData.rawScancodeResult = jsonData;
 
-    // JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    // JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     when(this.rawComponentInfoProvider.readScancodeData(packageUrl)).thenReturn(rawScancodeData);
     when(this.filteredScancodeV32Provider.getComponentInfo(eq(packageUrl), eq(curationDataHandle), any(), any()))
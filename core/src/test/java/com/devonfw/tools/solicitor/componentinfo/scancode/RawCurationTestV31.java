@@ -22,7 +22,6 @@ import com.devonfw.tools.solicitor.componentinfo.curation.SingleFileCurationProv
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.packageurl.PackageURL;
 
 /**
@@ -83,7 +82,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -116,7 +115,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -148,7 +147,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -177,7 +176,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -208,7 +207,7 @@ public class RawCurationTestV31 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -239,7 +238,7 @@ public class RawCurationTestV31 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -270,7 +269,7 @@ public class RawCurationTestV31 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -313,7 +312,7 @@ public class RawCurationTestV31 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -357,7 +356,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -400,7 +399,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -443,7 +442,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -486,7 +485,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -519,7 +518,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -553,7 +552,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -589,7 +588,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -625,7 +624,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -658,7 +657,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -691,7 +690,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -727,7 +726,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -763,7 +762,7 @@ public class RawCurationTestV31 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
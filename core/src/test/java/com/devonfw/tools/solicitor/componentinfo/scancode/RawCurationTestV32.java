@@ -22,7 +22,6 @@ import com.devonfw.tools.solicitor.componentinfo.curation.SingleFileCurationProv
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.packageurl.PackageURL;
 
 /**
@@ -82,7 +81,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -115,7 +114,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -147,7 +146,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -176,7 +175,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -207,7 +206,7 @@ public class RawCurationTestV32 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -238,7 +237,7 @@ public class RawCurationTestV32 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -269,7 +268,7 @@ public class RawCurationTestV32 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -312,7 +311,7 @@ public class RawCurationTestV32 {
 
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -356,7 +355,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -399,7 +398,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -442,7 +441,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -485,7 +484,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -518,7 +517,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -552,7 +551,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -588,7 +587,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -624,7 +623,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -657,7 +656,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -690,7 +689,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -726,7 +725,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
@@ -762,7 +761,7 @@ public class RawCurationTestV32 {
     // when
     ScancodeRawComponentInfo rawScancodeData = this.fileScancodeRawComponentInfoProvider
         .readScancodeData(this.testPackageURL);
-    JsonNode scancodeJson = new ObjectMapper().readTree(rawScancodeData.rawScancodeResult);
+    JsonNode scancodeJson = ScancodeJsonStreamParser.parseWithoutFiles(rawScancodeData);
 
     ComponentInfo scancodeComponentInfo = this.filteredScancodeComponentInfoProvider.getComponentInfo(
         this.testPackageURL, new SelectorCurationDataHandle("someCurationSelector"), rawScancodeData, scancodeJson);
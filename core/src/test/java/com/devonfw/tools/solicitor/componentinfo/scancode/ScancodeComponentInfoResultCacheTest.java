@@ -0,0 +1,161 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.devonfw.tools.solicitor.common.PackageURLHelper;
+import com.devonfw.tools.solicitor.common.packageurl.AllKindsPackageURLHandler;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
+import com.devonfw.tools.solicitor.componentinfo.LicenseInfo;
+import com.devonfw.tools.solicitor.componentinfo.SelectorCurationDataHandle;
+import com.devonfw.tools.solicitor.componentinfo.curation.ComponentInfoCuratorImpl;
+import com.devonfw.tools.solicitor.componentinfo.curation.SingleFileCurationProvider;
+import com.github.packageurl.PackageURL;
+
+/**
+ * Tests for {@link ScancodeComponentInfoResultCache} in combination with the {@link ScancodeComponentInfoAdapter}.
+ */
+class ScancodeComponentInfoResultCacheTest {
+
+  private static final String PACKAGE_PATH = "pkg/maven/com/devonfw/tools/test-project-for-deep-license-scan/0.1.0";
+
+  private PackageURL packageUrl;
+
+  private File packageDirectory;
+
+  private SingleFileCurationProvider curationProvider;
+
+  private ScancodeComponentInfoResultCache resultCache;
+
+  private ScancodeComponentInfoAdapter adapter;
+
+  @BeforeEach
+  void setup(@TempDir Path tempDir) throws Exception {
+
+    this.packageUrl = PackageURLHelper
+        .fromString("pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0");
+    AllKindsPackageURLHandler packageURLHandler = Mockito.mock(AllKindsPackageURLHandler.class);
+    Mockito.when(packageURLHandler.pathFor(this.packageUrl)).thenReturn(PACKAGE_PATH);
+
+    // work on a copy as the cache file is written into the package directory
+    this.packageDirectory = tempDir.resolve(PACKAGE_PATH).toFile();
+    FileUtils.copyDirectory(new File("src/test/resources/scancodefileadapter/Source/repo", PACKAGE_PATH),
+        this.packageDirectory);
+
+    FileScancodeRawComponentInfoProvider rawProvider = new FileScancodeRawComponentInfoProvider(packageURLHandler);
+    rawProvider.setRepoBasePath(tempDir.toString());
+    this.curationProvider = new SingleFileCurationProvider(packageURLHandler);
+    this.curationProvider.setCurationsFileName("src/test/resources/scancodefileadapter/curations.yaml");
+
+    FilteredScancodeV32ComponentInfoProvider filtered32 = new FilteredScancodeV32ComponentInfoProvider(rawProvider,
+        this.curationProvider);
+    filtered32.setMinLicensefileNumberOfLines(5);
+    filtered32.setMinLicenseScore(90.0);
+    FilteredScancodeV31ComponentInfoProvider filtered31 = new FilteredScancodeV31ComponentInfoProvider(rawProvider,
+        this.curationProvider);
+    filtered31.setMinLicensefileNumberOfLines(5);
+    filtered31.setMinLicenseScore(90.0);
+    MultiversionFilteredScancodeComponentInfoProvider multiversion = new MultiversionFilteredScancodeComponentInfoProvider(
+        new FilteredScancodeVersionComponentInfoProvider[] { filtered32, filtered31 }, rawProvider);
+
+    this.resultCache = new ScancodeComponentInfoResultCache(rawProvider, this.curationProvider);
+    this.resultCache.setMinLicensefileNumberOfLines(5);
+    this.resultCache.setMinLicenseScore(90.0);
+    this.resultCache.setEnabled(true);
+
+    this.adapter = new ScancodeComponentInfoAdapter(multiversion,
+        new ComponentInfoCuratorImpl(this.curationProvider, rawProvider));
+    this.adapter.setFeatureFlag(true);
+    this.adapter.setResultCache(this.resultCache);
+  }
+
+  /**
+   * Test that the result is written to the cache and taken from there as long as the inputs do not change.
+   *
+   * @throws Exception if something goes wrong
+   */
+  @Test
+  void testResultIsCached() throws Exception {
+
+    ComponentInfo first = this.adapter.getComponentInfo(this.packageUrl, new SelectorCurationDataHandle(null));
+    File cacheFile = new File(this.packageDirectory, ScancodeComponentInfoResultCache.CACHE_FILE_NAME);
+    assertTrue(cacheFile.exists());
+
+    ComponentInfo second = this.adapter.getComponentInfo(this.packageUrl, new SelectorCurationDataHandle(null));
+    assertNotNull(second.getComponentInfoData());
+    assertEquals(this.packageUrl, second.getPackageUrl());
+    assertEquals(first.getDataStatus(), second.getDataStatus());
+    assertEquals(first.getTraceabilityNotes(), second.getTraceabilityNotes());
+    assertEquals(new ArrayList<>(first.getComponentInfoData().getCopyrights()),
+        new ArrayList<>(second.getComponentInfoData().getCopyrights()));
+    assertEquals(first.getComponentInfoData().getNoticeFileContent(),
+        second.getComponentInfoData().getNoticeFileContent());
+    assertEquals(first.getComponentInfoData().getLicenses().size(), second.getComponentInfoData().getLicenses().size());
+    LicenseInfo firstLicense = first.getComponentInfoData().getLicenses().iterator().next();
+    LicenseInfo secondLicense = second.getComponentInfoData().getLicenses().iterator().next();
+    assertEquals(firstLicense.getSpdxid(), secondLicense.getSpdxid());
+    assertEquals(firstLicense.getLicenseUrl(), secondLicense.getLicenseUrl());
+    assertEquals(firstLicense.getGivenLicenseText(), secondLicense.getGivenLicenseText());
+
+    // prove that the cache is used by manipulating the cached data
+    String content = FileUtils.readFileToString(cacheFile, StandardCharsets.UTF_8);
+    FileUtils.writeStringToFile(cacheFile, content.replace(first.getDataStatus(), "FROM_CACHE"),
+        StandardCharsets.UTF_8);
+    ComponentInfo third = this.adapter.getComponentInfo(this.packageUrl, new SelectorCurationDataHandle(null));
+    assertEquals("FROM_CACHE", third.getDataStatus());
+  }
+
+  /**
+   * Test that the cache entry is not taken if any of the inputs changed.
+   *
+   * @throws Exception if something goes wrong
+   */
+  @Test
+  void testCacheInvalidatedOnChangedInputs() throws Exception {
+
+    SelectorCurationDataHandle handle = new SelectorCurationDataHandle(null);
+    String digest = this.resultCache.inputDigest(this.packageUrl, handle);
+
+    this.resultCache.setMinLicenseScore(80.0);
+    String digestOtherScore = this.resultCache.inputDigest(this.packageUrl, handle);
+    assertNotEquals(digest, digestOtherScore);
+    this.resultCache.setMinLicenseScore(90.0);
+    assertEquals(digest, this.resultCache.inputDigest(this.packageUrl, handle));
+
+    this.curationProvider.setCurationsFileName("src/test/resources/scancodefileadapter/nonexisting.yaml");
+    assertNotEquals(digest, this.resultCache.inputDigest(this.packageUrl, handle));
+    this.curationProvider.setCurationsFileName("src/test/resources/scancodefileadapter/curations.yaml");
+
+    File scancodeFile = new File(this.packageDirectory, "scancode.json");
+    FileUtils.writeStringToFile(scancodeFile, "\n", StandardCharsets.UTF_8, true);
+    assertNotEquals(digest, this.resultCache.inputDigest(this.packageUrl, handle));
+  }
+
+  /**
+   * Test that nothing is cached if the cache is not enabled.
+   *
+   * @throws Exception if something goes wrong
+   */
+  @Test
+  void testNotEnabled() throws Exception {
+
+    this.resultCache.setEnabled(false);
+    this.adapter.getComponentInfo(this.packageUrl, new SelectorCurationDataHandle(null));
+    assertFalse(new File(this.packageDirectory, ScancodeComponentInfoResultCache.CACHE_FILE_NAME).exists());
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.componentinfo.scancode.ScancodeComponentInfo.ScancodeComponentInfoData;
+import com.devonfw.tools.solicitor.componentinfo.scancode.ScancodeComponentInfo.ScancodeLicenseInfo;
+
+/**
+ * Tests for {@link ScancodeComponentInfo}.
+ */
+class ScancodeComponentInfoTest {
+
+  private static final String DEFAULT_URL = "https://scancode-licensedb.aboutcode.org/apache-2.0";
+
+  private ScancodeComponentInfoData data;
+
+  private List<String> retrieved;
+
+  @BeforeEach
+  void setup() {
+
+    this.data = new ScancodeComponentInfo(90.0, 5).getComponentInfoData();
+    this.retrieved = new ArrayList<>();
+  }
+
+  /**
+   * Test that only the license text of the finding with the best file score is retrieved.
+   */
+  @Test
+  void testOnlyWinningLicenseTextIsRetrieved() {
+
+    addLicense(100.0, "pkgcontent:/header.java#L1-L2", "header", 1);
+    addLicense(100.0, "pkgcontent:/LICENSE#L1-L20", "long", 19);
+    addLicense(100.0, "pkgcontent:/README#L1-L8", "medium", 7);
+    addLicense(100.0, "pkgcontent:/OTHER#L1-L20", "same score, later", 19);
+    assertTrue(this.retrieved.isEmpty());
+
+    this.data.resolveLicenseTexts();
+    ScancodeLicenseInfo licenseInfo = this.data.getLicenses().iterator().next();
+    assertEquals("pkgcontent:/LICENSE#L1-L20", licenseInfo.getLicenseUrl());
+    assertEquals("long", licenseInfo.getGivenLicenseText());
+    assertEquals(19, licenseInfo.getLicenseFileScore());
+    assertEquals(List.of("pkgcontent:/LICENSE#L1-L20"), this.retrieved);
+  }
+
+  /**
+   * Test that the next best finding is taken if the license text of the best finding is empty.
+   */
+  @Test
+  void testFallbackIfLicenseTextEmpty() {
+
+    addLicense(100.0, "pkgcontent:/README#L1-L8", "medium", 7);
+    addLicense(100.0, "pkgcontent:/LICENSE#L1-L20", "", 19);
+
+    ScancodeLicenseInfo licenseInfo = this.data.getLicenses().iterator().next();
+    assertEquals("pkgcontent:/README#L1-L8", licenseInfo.getLicenseUrl());
+    assertEquals("medium", licenseInfo.getGivenLicenseText());
+    assertEquals(7, licenseInfo.getLicenseFileScore());
+    assertEquals(List.of("pkgcontent:/LICENSE#L1-L20", "pkgcontent:/README#L1-L8"), this.retrieved);
+
+    // findings added after resolving still compete with the resolved text
+    addLicense(100.0, "pkgcontent:/COPYING#L1-L30", "longest", 29);
+    assertEquals("longest", licenseInfo.getGivenLicenseText());
+    assertEquals("pkgcontent:/COPYING#L1-L30", licenseInfo.getLicenseUrl());
+  }
+
+  /**
+   * Test that the default URL is taken and no text is retrieved if no finding exceeds the required number of lines and
+   * that findings below the minimum score do not create a license entry.
+   */
+  @Test
+  void testDefaultUrlAndMinimumScore() {
+
+    addLicense(80.0, "pkgcontent:/LICENSE#L1-L20", "low score", 19);
+    assertTrue(this.data.getLicenses().isEmpty());
+
+    addLicense(100.0, "pkgcontent:/header.java#L1-L2", "header", 1);
+    addLicense(80.0, "pkgcontent:/other.java#L1-L3", "header", 2);
+
+    ScancodeLicenseInfo licenseInfo = this.data.getLicenses().iterator().next();
+    assertEquals(DEFAULT_URL, licenseInfo.getLicenseUrl());
+    assertNull(licenseInfo.getGivenLicenseText());
+    assertEquals(0, licenseInfo.getLicenseFileScore());
+    assertEquals(100.0, licenseInfo.getLicenseScore());
+    assertTrue(this.retrieved.isEmpty());
+  }
+
+  private void addLicense(double score, String url, String text, int fileScore) {
+
+    Supplier<String> supplier = () -> {
+      this.retrieved.add(url);
+      return text;
+    };
+    this.data.addLicense("Apache-2.0", "Apache-2.0", DEFAULT_URL, score, url, supplier, fileScore);
+  }
+
+}
@@ -0,0 +1,65 @@
+package com.devonfw.tools.solicitor.licensetexts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+import com.devonfw.tools.solicitor.common.content.WeightedLruCache;
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+
+/**
+ * Tests the chain of {@link com.devonfw.tools.solicitor.common.content.ContentProvider}s for {@link WebContent} as
+ * configured by {@link WebContentConfiguration}.
+ */
+@SpringBootTest(properties = { "webcontent.skipdownload=true", "webcontent.memory-cache.max-bytes=100000" })
+class WebContentConfigurationTest {
+
+  // both texts are about 39 KB and stored in the classpath cache (test resources)
+  private static final String LARGE_URL_1 = "http://glassfish.java.net/public/CDDL+GPL_1_1.html";
+
+  private static final String LARGE_URL_2 = "http://oss.oracle.com/licenses/CDDL+GPL-1.1";
+
+  private static final String UNKNOWN_URL = "file:does/not/exist/LICENSE";
+
+  @Autowired
+  private InMemoryMapContentProvider<WebContent> inMemoryMapWebContentProvider;
+
+  /**
+   * Test that the in memory cache in front of the chain is sized from the configuration, caches found and not found
+   * content and evicts least recently used content which is then read from the classpath again.
+   */
+  @Test
+  void testInMemoryCacheInFrontOfChain() {
+
+    WeightedLruCache<String, WebContent> cache = this.inMemoryMapWebContentProvider.getMemoryCache();
+    assertEquals(100000, cache.getMaxWeight());
+    long hits = cache.getHitCount();
+    long misses = cache.getMissCount();
+    long evictions = cache.getEvictionCount();
+
+    WebContent first = this.inMemoryMapWebContentProvider.getContentForUri(LARGE_URL_1);
+    assertNotNull(first.getContent());
+    assertSame(first, this.inMemoryMapWebContentProvider.getContentForUri(LARGE_URL_1));
+    assertNull(this.inMemoryMapWebContentProvider.getContentForUri(UNKNOWN_URL).getContent());
+    assertNull(this.inMemoryMapWebContentProvider.getContentForUri(UNKNOWN_URL).getContent());
+    assertEquals(hits + 2, cache.getHitCount());
+    assertEquals(misses + 2, cache.getMissCount());
+
+    // both large texts do not fit into the cache together
+    assertNotNull(this.inMemoryMapWebContentProvider.getContentForUri(LARGE_URL_2).getContent());
+    assertTrue(cache.getEvictionCount() > evictions);
+    assertTrue(cache.getCurrentWeight() <= cache.getMaxWeight());
+
+    WebContent reloaded = this.inMemoryMapWebContentProvider.getContentForUri(LARGE_URL_1);
+    assertEquals(first.getContent(), reloaded.getContent());
+    assertEquals(misses + 4, cache.getMissCount());
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.devonfw.tools.solicitor.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link RunProfileWriter} and the phase measurement via {@link LifecycleListenerHolder}.
+ */
+@SpringBootTest
+class RunProfileWriterTest {
+
+  @Autowired
+  private LifecycleListenerHolder lifecycleListenerHolder;
+
+  @Autowired
+  private RunProfileWriter runProfileWriter;
+
+  @AfterEach
+  void deactivate() {
+
+    this.runProfileWriter.setRunProfileFile("");
+  }
+
+  /**
+   * Test that the metrics of all finished phases are written to the run profile.
+   *
+   * @param tempDir temporary directory
+   * @throws IOException if the run profile could not be read
+   */
+  @Test
+  void testRunProfileIsWritten(@TempDir Path tempDir) throws IOException {
+
+    File profileFile = tempDir.resolve("profile.json").toFile();
+    this.runProfileWriter.setRunProfileFile(profileFile.getPath());
+
+    this.lifecycleListenerHolder.modelRootInitialized(null);
+    PhaseMeasurement measurement = this.lifecycleListenerHolder.startPhase(PhaseType.RULE_GROUP, "SomeRuleGroup");
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append(i);
+    }
+    PhaseMetrics metrics = measurement.finish(sb.length());
+    this.lifecycleListenerHolder.startPhase(PhaseType.WRITER, "some/report.xlsx").finish(42);
+    this.lifecycleListenerHolder.endOfMainProcessing(null);
+
+    assertEquals(PhaseType.RULE_GROUP, metrics.getType());
+    assertEquals(Thread.currentThread().getName(), metrics.getThread());
+    assertTrue(metrics.getWallTimeMillis() >= 0);
+    assertTrue(metrics.getAllocatedBytes() != 0);
+
+    JsonNode profile = new ObjectMapper().readTree(profileFile);
+    assertTrue(profile.get("wallTimeMillis").asLong() >= 0);
+    assertTrue(profile.get("peakHeapBytes").asLong() > 0);
+    JsonNode phases = profile.get("phases");
+    assertEquals(2, phases.size());
+    assertEquals("RULE_GROUP", phases.get(0).get("type").asText());
+    assertEquals("SomeRuleGroup", phases.get(0).get("name").asText());
+    assertEquals(sb.length(), phases.get(0).get("objectCount").asLong());
+    assertEquals("WRITER", phases.get(1).get("type").asText());
+    assertEquals(42, phases.get(1).get("objectCount").asLong());
+  }
+
+  /**
+   * Test that no run profile is written if not configured.
+   *
+   * @param tempDir temporary directory
+   */
+  @Test
+  void testNoRunProfileIfInactive(@TempDir Path tempDir) {
+
+    this.lifecycleListenerHolder.modelRootInitialized(null);
+    this.lifecycleListenerHolder.startPhase(PhaseType.READER, "some reader").finish(1);
+    this.lifecycleListenerHolder.endOfMainProcessing(null);
+
+    assertFalse(this.runProfileWriter.isActive());
+    assertEquals(0, tempDir.toFile().list().length);
+  }
+
+}
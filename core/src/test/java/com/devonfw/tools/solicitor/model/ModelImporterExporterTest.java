@@ -1,15 +1,24 @@
 package com.devonfw.tools.solicitor.model;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.TextPoolImpl;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
 import com.devonfw.tools.solicitor.model.masterdata.Application;
 import com.devonfw.tools.solicitor.model.masterdata.Engagement;
@@ -154,4 +163,55 @@ public class ModelImporterExporterTest {
     doAssertions(readModelRoot);
   }
 
+  /**
+   * Test method for
+   * {@link com.devonfw.tools.solicitor.model.ModelImporterExporter#saveModel(com.devonfw.tools.solicitor.model.ModelRoot, java.lang.String)}
+   * using the binary Smile format.
+   *
+   * @param tempDir temporary directory
+   * @throws IOException in case that the saved file could not be read
+   */
+  @Test
+  public void testSaveModelSmile(@TempDir Path tempDir) throws IOException {
+
+    ModelRootImpl mr = this.mie.loadModel("src/test/resources/models/model_version_8.json");
+    String jsonFileName = tempDir.resolve("model.json").toString();
+    String smileFileName = tempDir.resolve("model.smile").toString();
+
+    this.mie.saveModel(mr, jsonFileName);
+    this.mie.saveModel(mr, smileFileName);
+    byte[] smileContent = Files.readAllBytes(Paths.get(smileFileName));
+    Assertions.assertEquals(':', smileContent[0]);
+    Assertions.assertEquals(')', smileContent[1]);
+    Assertions.assertTrue(smileContent.length < Files.size(Paths.get(jsonFileName)));
+
+    ModelRootImpl readModelRoot = this.mie.loadModel(smileFileName);
+    doAssertions(readModelRoot);
+    Assertions.assertEquals(((TextPoolImpl) mr.getTextPool()).getDataMap(),
+        ((TextPoolImpl) readModelRoot.getTextPool()).getDataMap());
+  }
+
+  /**
+   * Test method for
+   * {@link com.devonfw.tools.solicitor.model.ModelImporterExporter#saveModel(com.devonfw.tools.solicitor.model.ModelRoot, java.lang.String)}
+   * using gzip compression for JSON and Smile.
+   *
+   * @param tempDir temporary directory
+   * @throws IOException in case that the saved file could not be read
+   */
+  @Test
+  public void testSaveModelGzip(@TempDir Path tempDir) throws IOException {
+
+    ModelRoot mr = this.mie.loadModel("src/test/resources/models/model_version_8.json");
+
+    for (String name : new String[] { "model.json.gz", "model.smile.gz" }) {
+      String fileName = tempDir.resolve(name).toString();
+      this.mie.saveModel(mr, fileName);
+      try (InputStream in = new GZIPInputStream(new FileInputStream(fileName))) {
+        Assertions.assertTrue(in.read() >= 0);
+      }
+      doAssertions(this.mie.loadModel(fileName));
+    }
+  }
+
 }
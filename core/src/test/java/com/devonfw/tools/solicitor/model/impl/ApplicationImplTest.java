@@ -0,0 +1,72 @@
+package com.devonfw.tools.solicitor.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+
+/**
+ * This class contains JUnit test methods for the {@link ApplicationImpl} class.
+ */
+class ApplicationImplTest {
+
+  /**
+   * Tests that {@link ApplicationComponent}s might be created and added to {@link ApplicationImpl}s concurrently: all
+   * ids need to be unique and the order of the components within each application needs to be retained.
+   *
+   * @throws Exception if anything goes wrong
+   */
+  @Test
+  public void testConcurrentAddApplicationComponent() throws Exception {
+
+    int applicationCount = 8;
+    int componentCount = 5000;
+    List<ApplicationImpl> applications = new ArrayList<>();
+    List<List<ApplicationComponent>> expected = new ArrayList<>();
+    for (int i = 0; i < applicationCount; i++) {
+      applications.add(new ApplicationImpl());
+      expected.add(new ArrayList<>());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(applicationCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < applicationCount; i++) {
+        ApplicationImpl application = applications.get(i);
+        List<ApplicationComponent> created = expected.get(i);
+        futures.add(executor.submit(() -> {
+          for (int c = 0; c < componentCount; c++) {
+            ApplicationComponentImpl ac = new ApplicationComponentImpl();
+            ac.setApplication(application);
+            created.add(ac);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Set<String> ids = new HashSet<>();
+    for (int i = 0; i < applicationCount; i++) {
+      List<ApplicationComponent> actual = applications.get(i).getApplicationComponents();
+      Assertions.assertEquals(expected.get(i), actual);
+      for (ApplicationComponent ac : actual) {
+        Assertions.assertTrue(ids.add(((AbstractModelObject) ac).getId()));
+      }
+    }
+    Assertions.assertEquals(applicationCount * componentCount, ids.size());
+  }
+
+}
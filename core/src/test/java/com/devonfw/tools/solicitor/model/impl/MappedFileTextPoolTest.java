@@ -0,0 +1,102 @@
+package com.devonfw.tools.solicitor.model.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedFileTextPool} and {@link MappedFileTextStore}.
+ */
+class MappedFileTextPoolTest {
+
+  @TempDir
+  Path tempDir;
+
+  private MappedFileTextStore store;
+
+  @BeforeEach
+  void setUp() throws IOException {
+
+    this.store = new MappedFileTextStore(this.tempDir, 16);
+  }
+
+  @Test
+  void testStoreAndRetrieveNull() {
+
+    TextPool pool = new MappedFileTextPool(this.store);
+    assertNull(pool.store(null));
+
+    assertNull(pool.retrieve(null));
+    assertNull(pool.retrieveSanitized(null));
+  }
+
+  @Test
+  void testThrowExceptionForUnknownKey() {
+
+    TextPool pool = new MappedFileTextPool(this.store);
+    assertThrows(NoSuchElementException.class, () -> pool.retrieve("foo"));
+  }
+
+  @Test
+  void testStoreAndRetrieveDataAcrossSegments() {
+
+    TextPool pool = new MappedFileTextPool(this.store);
+    String keyAbc = pool.store("abc");
+    String keyUmlauts = pool.store("äöü - text in second segment");
+    String keyEmpty = pool.store("");
+    assertEquals("abc", pool.retrieve(keyAbc));
+    assertEquals("äöü - text in second segment", pool.retrieve(keyUmlauts));
+    assertEquals("", pool.retrieve(keyEmpty));
+    assertEquals(new TextPoolImpl().store("abc"), keyAbc);
+  }
+
+  @Test
+  void testSharedStoreKeepsPoolsSeparate() {
+
+    MappedFileTextPool pool1 = new MappedFileTextPool(this.store);
+    MappedFileTextPool pool2 = new MappedFileTextPool(this.store);
+    String keyShared = pool1.store("shared");
+    pool2.store("shared");
+    String keyOnly1 = pool1.store("only in pool 1");
+
+    assertEquals(2, this.store.size());
+    assertThrows(NoSuchElementException.class, () -> pool2.retrieve(keyOnly1));
+
+    Map<String, String> dataMap = pool2.getDataMap();
+    assertEquals(1, dataMap.size());
+    assertEquals("shared", dataMap.get(keyShared));
+    assertEquals(2, pool1.getDataMap().size());
+  }
+
+  @Test
+  void testRetrieveSanitized() {
+
+    TextPool pool = new MappedFileTextPool(this.store);
+    StringBuilder sb = new StringBuilder("<HTML>");
+    while (sb.length() < 30000) {
+      sb.append("some content ");
+    }
+    sb.append("</HTML>");
+    String keyHtml = pool.store(sb.toString());
+    String keyText = pool.store("plain text");
+
+    String sanitized = pool.retrieveSanitized(keyHtml);
+    assertTrue(sanitized.startsWith("### Large HTML content"));
+    assertSame(sanitized, pool.retrieveSanitized(keyHtml));
+    assertEquals(sb.toString(), pool.retrieve(keyHtml));
+    assertEquals("plain text", pool.retrieveSanitized(keyText));
+    assertEquals("plain text", pool.retrieveSanitized(keyText));
+  }
+
+}
@@ -3,6 +3,7 @@ package com.devonfw.tools.solicitor.model.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.NoSuchElementException;
 
@@ -39,4 +40,22 @@ class TextPoolImplTest {
     assertEquals("def", pool.retrieve(keyDef));
   }
 
+  @Test
+  void testRetrieveSanitized() {
+
+    TextPool pool = new TextPoolImpl();
+    StringBuilder sb = new StringBuilder("<html>");
+    while (sb.length() < 30000) {
+      sb.append("some content ");
+    }
+    sb.append("</html>");
+    String keyHtml = pool.store(sb.toString());
+    String keyText = pool.store("plain text");
+
+    assertTrue(pool.retrieveSanitized(keyHtml).startsWith("### Large HTML content"));
+    assertEquals(sb.toString(), pool.retrieve(keyHtml));
+    assertEquals("plain text", pool.retrieveSanitized(keyText));
+    assertNull(pool.retrieveSanitized(null));
+  }
+
 }
@@ -314,4 +314,55 @@ public class CyclonedxReaderTests {
     assertEquals("otherVersion", application.getApplicationComponents().get(0).getVersion());
   }
 
+  /**
+   * Test the {@link CyclonedxReader#readInventory()} method with an SBOM containing nested components. By default only
+   * the top level components are read.
+   */
+  @Test
+  public void readNestedFileWithoutNestedComponents() {
+
+    Application application = this.modelFactory.newApplication();
+    this.cdxr.setModelFactory(this.modelFactory);
+    this.cdxr.setInputStreamFactory(new FileInputStreamFactory());
+    this.cdxr.readInventory("npm", "src/test/resources/cyclonedx_nested.json", application,
+        UsagePattern.DYNAMIC_LINKING, false, null, null);
+
+    assertEquals(2, application.getApplicationComponents().size());
+    ApplicationComponent parent = application.getApplicationComponents().get(0);
+    assertEquals("parent", parent.getArtifactId());
+    assertEquals(2, parent.getRawLicenses().size());
+    assertEquals("Apache-2.0 OR MIT", parent.getRawLicenses().get(0).getDeclaredLicense());
+    assertNull(parent.getRawLicenses().get(0).getLicenseUrl());
+    assertEquals("Some License", parent.getRawLicenses().get(1).getDeclaredLicense());
+    assertEquals("https://some.url/license", parent.getRawLicenses().get(1).getLicenseUrl());
+    ApplicationComponent sibling = application.getApplicationComponents().get(1);
+    assertEquals("sibling", sibling.getArtifactId());
+    assertEquals(1, sibling.getRawLicenses().size());
+    assertNull(sibling.getRawLicenses().get(0).getDeclaredLicense());
+  }
+
+  /**
+   * Test the {@link CyclonedxReader#readInventory()} method with an SBOM containing nested components and
+   * configuration parameter "includeNestedComponents" set. Nested components directly follow their parent.
+   */
+  @Test
+  public void readNestedFileWithNestedComponents() {
+
+    Application application = this.modelFactory.newApplication();
+    Map<String, String> configuration = new HashMap<>();
+    configuration.put("includeNestedComponents", "true");
+    this.cdxr.setModelFactory(this.modelFactory);
+    this.cdxr.setInputStreamFactory(new FileInputStreamFactory());
+    this.cdxr.readInventory("npm", "src/test/resources/cyclonedx_nested.json", application,
+        UsagePattern.DYNAMIC_LINKING, false, null, configuration);
+
+    assertEquals(4, application.getApplicationComponents().size());
+    assertEquals("parent", application.getApplicationComponents().get(0).getArtifactId());
+    assertEquals("child", application.getApplicationComponents().get(1).getArtifactId());
+    assertEquals("MIT", application.getApplicationComponents().get(1).getRawLicenses().get(0).getDeclaredLicense());
+    assertEquals("grandchild", application.getApplicationComponents().get(2).getArtifactId());
+    assertEquals("pkg:npm/grandchild@3.0.0", application.getApplicationComponents().get(2).getPackageUrl().toString());
+    assertEquals("sibling", application.getApplicationComponents().get(3).getArtifactId());
+  }
+
 }
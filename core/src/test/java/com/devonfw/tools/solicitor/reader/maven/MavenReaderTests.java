@@ -134,4 +134,64 @@ public class MavenReaderTests {
     }
 
   }
+
+  /**
+   * Tests that the streaming mode results in the same model as the standard mode.
+   */
+  @Test
+  public void testStreamingModeResultsInSameModel() {
+
+    ModelFactory modelFactory = new ModelFactoryImpl();
+
+    Application expected = modelFactory.newApplication();
+    MavenReader mr = new MavenReader();
+    mr.setModelFactory(modelFactory);
+    mr.setInputStreamFactory(new FileInputStreamFactory());
+    mr.readInventory("maven", "src/test/resources/licenses_sample.xml", expected, UsagePattern.DYNAMIC_LINKING, false,
+        null, null);
+
+    Application actual = modelFactory.newApplication();
+    mr.setStreaming(true);
+    mr.readInventory("maven", "src/test/resources/licenses_sample.xml", actual, UsagePattern.DYNAMIC_LINKING, false,
+        null, null);
+
+    assertEquals(95, actual.getApplicationComponents().size());
+    for (int i = 0; i < expected.getApplicationComponents().size(); i++) {
+      ApplicationComponent e = expected.getApplicationComponents().get(i);
+      ApplicationComponent a = actual.getApplicationComponents().get(i);
+      assertEquals(e.getGroupId(), a.getGroupId());
+      assertEquals(e.getArtifactId(), a.getArtifactId());
+      assertEquals(e.getVersion(), a.getVersion());
+      assertEquals(e.getPackageUrl(), a.getPackageUrl());
+      assertEquals(e.getRawLicenses().size(), a.getRawLicenses().size());
+      for (int j = 0; j < e.getRawLicenses().size(); j++) {
+        assertEquals(e.getRawLicenses().get(j).getDeclaredLicense(), a.getRawLicenses().get(j).getDeclaredLicense());
+        assertEquals(e.getRawLicenses().get(j).getLicenseUrl(), a.getRawLicenses().get(j).getLicenseUrl());
+      }
+    }
+  }
+
+  /**
+   * Tests if the MavenReader in streaming mode also rejects XML with DOCTYPE declaration.
+   */
+  @Test
+  public void testStreamingModeProtectionAgainstXxe() {
+
+    ModelFactory modelFactory = new ModelFactoryImpl();
+
+    Application application = modelFactory.newApplication();
+    MavenReader mr = new MavenReader();
+    mr.setModelFactory(modelFactory);
+    mr.setInputStreamFactory(new FileInputStreamFactory());
+    mr.setStreaming(true);
+
+    try {
+      mr.readInventory("maven", "src/test/resources/licenses_sample_with_doctype.xml", application,
+          UsagePattern.DYNAMIC_LINKING, false, null, null);
+      fail("Expected exception was not thrown");
+    } catch (SolicitorRuntimeException e) {
+      assertTrue(e.getCause().getMessage().contains("DOCTYPE is disallowed"));
+    }
+    assertEquals(0, application.getApplicationComponents().size());
+  }
 }
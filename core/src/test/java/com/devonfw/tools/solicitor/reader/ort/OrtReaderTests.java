@@ -6,6 +6,7 @@ package com.devonfw.tools.solicitor.reader.ort;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
@@ -147,4 +148,41 @@ public class OrtReaderTests {
     assertTrue(found);
   }
 
+  @Test
+  public void readYamlFile() {
+
+    ModelFactory modelFactory = new ModelFactoryImpl();
+
+    Application application = modelFactory.newApplication();
+    OrtReader pr = new OrtReader();
+    pr.setModelFactory(modelFactory);
+    pr.setInputStreamFactory(new FileInputStreamFactory());
+    pr.readInventory("ort", "src/test/resources/analyzer-result.yml", application, UsagePattern.DYNAMIC_LINKING, false,
+        null, null);
+
+    List<ApplicationComponent> lapc = application.getApplicationComponents();
+    assertEquals(2, lapc.size());
+
+    // package data wrapped in "package" object
+    ApplicationComponent ap = lapc.get(0);
+    assertEquals("testGroupId", ap.getGroupId());
+    assertEquals("testArtifactId", ap.getArtifactId());
+    assertEquals("testVersion", ap.getVersion());
+    assertEquals("pkg:maven/testGroupId/testArtifactId@testVersion", ap.getPackageUrl().toString());
+    assertEquals("https://test.com/test", ap.getOssHomepage());
+    assertEquals("https://github.com/testproject.git", ap.getSourceRepoUrl());
+    assertEquals(2, ap.getRawLicenses().size());
+    assertEquals("Apache License, Version 2.0", ap.getRawLicenses().get(0).getDeclaredLicense());
+    assertEquals("MIT", ap.getRawLicenses().get(1).getDeclaredLicense());
+
+    // package data given directly (newer ORT versions)
+    ap = lapc.get(1);
+    assertEquals("", ap.getGroupId());
+    assertEquals("otherArtifactId", ap.getArtifactId());
+    assertEquals("1.0.0", ap.getVersion());
+    assertEquals("pkg:npm/otherArtifactId@1.0.0", ap.getPackageUrl().toString());
+    assertEquals(1, ap.getRawLicenses().size());
+    assertNull(ap.getRawLicenses().get(0).getDeclaredLicense());
+  }
+
 }
@@ -0,0 +1,169 @@
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.KieModule;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.FileInputStreamFactory;
+import com.devonfw.tools.solicitor.config.RuleConfig;
+
+/**
+ * This class contains JUnit test methods for the {@link KieModuleCache} class.
+ */
+class KieModuleCacheTest {
+
+  private static final String RULE_GROUP = "TestGroup";
+
+  @TempDir
+  Path tempDir;
+
+  private KieModuleCache cache;
+
+  private Path cacheDir;
+
+  private Path ruleFile;
+
+  private Path templateFile;
+
+  private RuleConfig ruleConfig;
+
+  /**
+   * Creates the {@link KieModuleCache} to test and the rule and template files referenced by the {@link RuleConfig}.
+   *
+   * @throws IOException if the files could not be written
+   */
+  @BeforeEach
+  public void setUp() throws IOException {
+
+    this.cacheDir = this.tempDir.resolve("cache");
+    this.ruleFile = this.tempDir.resolve("rules.xls");
+    this.templateFile = this.tempDir.resolve("template.drl");
+    Files.write(this.ruleFile, "rules v1".getBytes(StandardCharsets.UTF_8));
+    Files.write(this.templateFile, "template v1".getBytes(StandardCharsets.UTF_8));
+
+    SolicitorVersion solicitorVersion = new SolicitorVersion();
+    solicitorVersion.setVersion("1.0.0");
+
+    this.cache = new KieModuleCache();
+    ReflectionTestUtils.setField(this.cache, "inputStreamFactory", new FileInputStreamFactory());
+    ReflectionTestUtils.setField(this.cache, "solicitorVersion", solicitorVersion);
+    this.cache.setCacheDir(this.cacheDir.toString());
+
+    this.ruleConfig = new RuleConfig();
+    this.ruleConfig.setRuleGroup(RULE_GROUP);
+    this.ruleConfig.setType("dt");
+    this.ruleConfig.setRuleSource(this.ruleFile.toString());
+    this.ruleConfig.setTemplateSource(this.templateFile.toString());
+  }
+
+  /**
+   * Tests that a cache miss is reported as <code>null</code> and that a stored module is found afterwards.
+   */
+  @Test
+  public void testMissStoreHit() {
+
+    String key = this.cache.determineKey(this.ruleConfig);
+
+    Assertions.assertNull(this.cache.load(key, RULE_GROUP));
+
+    KieModule built = buildKieModule(key);
+    this.cache.store(key, built, RULE_GROUP);
+    Assertions.assertTrue(cacheFile(key).isFile());
+
+    KieModule loaded = this.cache.load(key, RULE_GROUP);
+    Assertions.assertNotNull(loaded);
+    Assertions.assertEquals(built.getReleaseId(), loaded.getReleaseId());
+    Assertions.assertNotNull(KieServices.Factory.get().newKieContainer(loaded.getReleaseId()).newKieSession());
+  }
+
+  /**
+   * Tests that the key is stable for unchanged input and changes if the content of the rule source or the template
+   * source changes.
+   *
+   * @throws IOException if the files could not be written
+   */
+  @Test
+  public void testKeyChangesWithContent() throws IOException {
+
+    String key1 = this.cache.determineKey(this.ruleConfig);
+    Assertions.assertEquals(key1, this.cache.determineKey(this.ruleConfig));
+
+    Files.write(this.ruleFile, "rules v2".getBytes(StandardCharsets.UTF_8));
+    String key2 = this.cache.determineKey(this.ruleConfig);
+    Assertions.assertNotEquals(key1, key2);
+
+    Files.write(this.templateFile, "template v2".getBytes(StandardCharsets.UTF_8));
+    String key3 = this.cache.determineKey(this.ruleConfig);
+    Assertions.assertNotEquals(key1, key3);
+    Assertions.assertNotEquals(key2, key3);
+  }
+
+  /**
+   * Tests that a corrupt cache file does not abort processing: the entry is deleted and <code>null</code> is returned
+   * so that the rules are compiled again. A subsequently stored module is found again.
+   *
+   * @throws IOException if the corrupt file could not be written
+   */
+  @Test
+  public void testCorruptCacheFileFallsBackToCompilation() throws IOException {
+
+    String key = this.cache.determineKey(this.ruleConfig);
+    Files.createDirectories(this.cacheDir);
+    Files.write(cacheFile(key).toPath(), "this is not a jar".getBytes(StandardCharsets.UTF_8));
+
+    Assertions.assertNull(this.cache.load(key, RULE_GROUP));
+    Assertions.assertFalse(cacheFile(key).exists());
+
+    this.cache.store(key, buildKieModule(key), RULE_GROUP);
+    Assertions.assertNotNull(this.cache.load(key, RULE_GROUP));
+  }
+
+  /**
+   * Tests that an inactive cache neither returns nor stores anything.
+   */
+  @Test
+  public void testInactiveCache() {
+
+    this.cache.setCacheDir("");
+    Assertions.assertFalse(this.cache.isActive());
+
+    String key = this.cache.determineKey(this.ruleConfig);
+    this.cache.store(key, buildKieModule(key), RULE_GROUP);
+    Assertions.assertFalse(Files.exists(this.cacheDir));
+    Assertions.assertNull(this.cache.load(key, RULE_GROUP));
+  }
+
+  private File cacheFile(String key) {
+
+    return this.cacheDir.resolve(key + ".jar").toFile();
+  }
+
+  private KieModule buildKieModule(String key) {
+
+    KieServices ks = KieServices.Factory.get();
+    KieFileSystem kfs = ks.newKieFileSystem();
+    ReleaseId rid = ks.newReleaseId("com.devonfw.tools", "solicitor-test", "0.0.0-" + key);
+    kfs.generateAndWritePomXML(rid);
+    kfs.write("src/main/resources/com/devonfw/tools/solicitor/rules/test.drl",
+        "package com.devonfw.tools.solicitor.rules\n\nrule \"Test\"\nwhen\nthen\nend\n");
+    KieBuilder kb = ks.newKieBuilder(kfs).buildAll();
+    Assertions.assertFalse(kb.getResults().hasMessages(Message.Level.ERROR), kb.getResults().toString());
+    return kb.getKieModule();
+  }
+
+}
@@ -3,7 +3,9 @@
  */
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -52,4 +54,36 @@ public class ModelHelperTest {
 
   }
 
+  /**
+   * Test that {@link ModelHelper#match(String, String)} takes repeatedly used conditions from the cache.
+   */
+  @Test
+  public void testMatchUsesConditionCache() {
+
+    String condition = "NOT:RANGE:[7.0,8.0)";
+    assertTrue(ModelHelper.match("6.5", condition));
+    long hits = ModelHelper.getConditionCacheHits();
+    long misses = ModelHelper.getConditionCacheMisses();
+    assertFalse(ModelHelper.match("7.1", condition));
+    assertTrue(ModelHelper.match("8.0", condition));
+    assertEquals(hits + 2, ModelHelper.getConditionCacheHits());
+    assertEquals(misses, ModelHelper.getConditionCacheMisses());
+  }
+
+  /**
+   * Test that invalid conditions only fail when being evaluated with non <code>null</code> input - also if taken from
+   * the cache.
+   */
+  @Test
+  public void testMatchInvalidConditions() {
+
+    assertThrows(IllegalArgumentException.class, () -> ModelHelper.match("abc", "REGEX:abc"));
+    assertThrows(IllegalArgumentException.class, () -> ModelHelper.match("abc", "REGEX:abc"));
+    assertTrue(ModelHelper.match(null, "NOT:REGEX:abc"));
+    assertThrows(RuntimeException.class, () -> ModelHelper.match("abc", "a[(REGEX)"));
+    assertFalse(ModelHelper.match(null, "a[(REGEX)"));
+    assertThrows(RuntimeException.class, () -> ModelHelper.match("1.0", "RANGE:[1.0"));
+    assertTrue(ModelHelper.match(null, "NOT:RANGE:[1.0"));
+  }
+
 }
@@ -0,0 +1,379 @@
+package com.devonfw.tools.solicitor.writer;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.SolicitorSetup;
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.config.WriterConfig;
+import com.devonfw.tools.solicitor.lifecycle.LifecycleListenerHolder;
+import com.devonfw.tools.solicitor.model.ModelFactory;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+import com.devonfw.tools.solicitor.writer.data.DataTableDiffer;
+import com.devonfw.tools.solicitor.writer.data.DataTableField;
+import com.devonfw.tools.solicitor.writer.data.DataTableRow;
+
+/**
+ * Tests of {@link WriterFacadeImpl} and the reporting database as given by {@link ResultDatabaseFactory}.
+ */
+@SpringBootTest
+class WriterFacadeImplTest {
+
+  private static final String SQL_APPLICATIONS = "classpath:com/devonfw/tools/solicitor/sql/allden_applications.sql";
+
+  private static final String SQL_COMPONENTS = //
+      "classpath:com/devonfw/tools/solicitor/sql/allden_applicationcomponents.sql";
+
+  private static final String SQL_MODELROOT = "classpath:com/devonfw/tools/solicitor/sql/modelroot.sql";
+
+  private static final List<String> REPORTING_GROUPS = Arrays.asList(ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME,
+      "groupA", "groupB");
+
+  @Autowired
+  private ResultDatabaseFactory resultDatabaseFactory;
+
+  @Autowired
+  private DataTableDiffer dataTableDiffer;
+
+  @Autowired
+  private ModelFactory modelFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * A {@link Writer} which just records the data tables it was called with.
+   */
+  private static class RecordingWriter implements Writer {
+
+    private final Map<String, Map<String, DataTable>> reports = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean accept(String type) {
+
+      return "recording".equals(type);
+    }
+
+    @Override
+    public void writeReport(WriterConfig config, String target, Map<String, DataTable> dataTables) {
+
+      Assertions.assertNull(this.reports.put(target, new HashMap<>(dataTables)), "report written twice: " + target);
+    }
+  }
+
+  /**
+   * Tests that the model (and the old model) is loaded into the database only once, independent of the number of
+   * writers and reporting groups.
+   */
+  @Test
+  public void testModelIsLoadedOnlyOnce() {
+
+    ResultDatabaseFactory spy = Mockito.spy(this.resultDatabaseFactory);
+    RecordingWriter recordingWriter = new RecordingWriter();
+    WriterFacadeImpl writerFacade = createWriterFacade(spy, recordingWriter, 1);
+
+    writerFacade.writeResult(createModel(false), createModel(true));
+
+    Mockito.verify(spy, Mockito.times(1)).initDataModel(ArgumentMatchers.any());
+    Mockito.verify(spy, Mockito.times(1)).initOldDataModel(ArgumentMatchers.any());
+    // 3 reporting groups for the first writer, 1 for the second
+    Assertions.assertEquals(4, recordingWriter.reports.size());
+  }
+
+  /**
+   * Tests that filtering the reporting groups in SQL on the once loaded model yields the same data tables as reloading
+   * the model (and the old model) for each combination of writer and reporting group.
+   */
+  @Test
+  public void testDataTablesEqualReloadPerReportingGroup() {
+
+    ModelRoot modelRoot = createModel(false);
+    ModelRoot oldModelRoot = createModel(true);
+    List<WriterConfig> writerConfigs = createWriterConfigs();
+
+    // expected result: reload the models for each writer and reporting group
+    Map<String, Map<String, DataTable>> expected = new HashMap<>();
+    for (WriterConfig writerConfig : writerConfigs) {
+      List<String> groups = writerConfig.isEnableReportingGroups() ? REPORTING_GROUPS
+          : Arrays.asList(ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+      for (String reportingGroup : groups) {
+        Map<String, DataTable> tables = new HashMap<>();
+        modelRoot.setReportingGroup(reportingGroup);
+        this.resultDatabaseFactory.initDataModel(modelRoot);
+        for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
+          tables.put(table.getKey(), this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup));
+        }
+        modelRoot.setReportingGroup(null);
+        oldModelRoot.setReportingGroup(reportingGroup);
+        this.resultDatabaseFactory.initDataModel(oldModelRoot);
+        for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
+          DataTable oldTable = this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup);
+          tables.put(table.getKey(), this.dataTableDiffer.diff(tables.get(table.getKey()), oldTable,
+              writerConfig.isIncludeDeletesRowsInDelta()));
+        }
+        oldModelRoot.setReportingGroup(null);
+        expected.put(ReportingGroupHandler.expandReportingGroupInFileName(writerConfig.getTarget(), reportingGroup),
+            tables);
+      }
+    }
+
+    RecordingWriter recordingWriter = new RecordingWriter();
+    createWriterFacade(this.resultDatabaseFactory, recordingWriter, 1).writeResult(modelRoot, oldModelRoot);
+
+    assertReportsEqual(expected, recordingWriter.reports);
+    // the reporting group needs to be visible within the data; make sure the test data is not trivial
+    DataTable modelRootTable = recordingWriter.reports.get("out/groupA/report.txt").get("MODELROOT");
+    Assertions.assertEquals("groupA", modelRootTable.getDataRow(0).get("reportingGroup").getValue());
+    Assertions.assertEquals(9, recordingWriter.reports.get("out/groupA/report.txt").get("COMPONENTS").size());
+    Assertions.assertEquals(7, recordingWriter.reports.get("out/groupB/report.txt").get("COMPONENTS").size());
+  }
+
+  /**
+   * Tests that running the writers concurrently yields the same results as running them sequentially.
+   */
+  @Test
+  public void testParallelWritersEqualSequential() {
+
+    ModelRoot modelRoot = createModel(false);
+    ModelRoot oldModelRoot = createModel(true);
+
+    RecordingWriter sequentialWriter = new RecordingWriter();
+    createWriterFacade(this.resultDatabaseFactory, sequentialWriter, 1).writeResult(modelRoot, oldModelRoot);
+    RecordingWriter parallelWriter = new RecordingWriter();
+    createWriterFacade(this.resultDatabaseFactory, parallelWriter, 4).writeResult(modelRoot, oldModelRoot);
+
+    Assertions.assertEquals(4, sequentialWriter.reports.size());
+    assertReportsEqual(sequentialWriter.reports, parallelWriter.reports);
+  }
+
+  /**
+   * Tests that the session local copy of the model root table which holds the requested reporting group is neither
+   * visible to concurrent queries nor remains on the connections afterwards.
+   *
+   * @throws Exception if anything goes wrong
+   */
+  @Test
+  public void testTemporaryTablesDoNotLeak() throws Exception {
+
+    this.resultDatabaseFactory.initDataModel(createModel(false));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        String reportingGroup = REPORTING_GROUPS.get(i % REPORTING_GROUPS.size());
+        futures.add(executor.submit(() -> {
+          DataTable table = this.resultDatabaseFactory.getDataTable(SQL_MODELROOT, reportingGroup);
+          Assertions.assertEquals(reportingGroup, table.getDataRow(0).get("reportingGroup").getValue());
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // the shared table is unchanged
+    Assertions.assertNull(
+        this.jdbcTemplate.queryForObject("SELECT \"reportingGroup\" FROM PUBLIC.MODELROOT", String.class));
+
+    // no connection of the pool still holds the temporary table or a modified schema
+    DataSource dataSource = this.jdbcTemplate.getDataSource();
+    List<Connection> connections = new ArrayList<>();
+    try {
+      for (int i = 0; i < 4; i++) {
+        connections.add(dataSource.getConnection());
+      }
+      for (Connection connection : connections) {
+        JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        Assertions.assertThrows(DataAccessException.class,
+            () -> template.queryForList("SELECT * FROM SESSION.MODELROOT"));
+        Assertions.assertNull(template.queryForObject("SELECT \"reportingGroup\" FROM MODELROOT", String.class));
+      }
+    } finally {
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    }
+  }
+
+  /**
+   * Tests that the indexes on the fields declared as indexed and on the parent columns are created and that the
+   * reports are the same if creating the indexes on the fields is deactivated.
+   */
+  @Test
+  public void testIndexesAreCreated() {
+
+    ModelRoot modelRoot = createModel(false);
+    this.resultDatabaseFactory.initDataModel(modelRoot);
+    Assertions.assertEquals(List.of("IDX_APPLICATION_APPLICATIONNAME", "IDX_APPLICATION_PARENT"),
+        indexNames("APPLICATION"));
+    Assertions.assertEquals(List.of("IDX_APPLICATIONCOMPONENT_ARTIFACTID", "IDX_APPLICATIONCOMPONENT_GROUPID",
+        "IDX_APPLICATIONCOMPONENT_PARENT", "IDX_APPLICATIONCOMPONENT_USAGEPATTERN", "IDX_APPLICATIONCOMPONENT_VERSION"),
+        indexNames("APPLICATIONCOMPONENT"));
+    DataTable withIndexes = this.resultDatabaseFactory.getDataTable(SQL_COMPONENTS,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+
+    try {
+      this.resultDatabaseFactory.setCreateIndexes(false);
+      this.resultDatabaseFactory.initDataModel(modelRoot);
+      Assertions.assertEquals(List.of("IDX_APPLICATION_PARENT"), indexNames("APPLICATION"));
+      Assertions.assertEquals(List.of("IDX_APPLICATIONCOMPONENT_PARENT"), indexNames("APPLICATIONCOMPONENT"));
+      assertTableEquals("COMPONENTS", withIndexes, this.resultDatabaseFactory.getDataTable(SQL_COMPONENTS,
+          ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME));
+    } finally {
+      this.resultDatabaseFactory.setCreateIndexes(true);
+    }
+  }
+
+  private List<String> indexNames(String tableName) {
+
+    return this.jdbcTemplate.queryForList(
+        "SELECT DISTINCT INDEX_NAME FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO WHERE TABLE_SCHEM = 'PUBLIC' "
+            + "AND TABLE_NAME = ? AND INDEX_NAME LIKE 'IDX\\_%' ESCAPE '\\' ORDER BY INDEX_NAME",
+        String.class, tableName);
+  }
+
+  private WriterFacadeImpl createWriterFacade(ResultDatabaseFactory rdf, Writer writer, int parallelism) {
+
+    SolicitorSetup solicitorSetup = new SolicitorSetup();
+    solicitorSetup.setWriterSetups(createWriterConfigs());
+    solicitorSetup.setReportingGroups(REPORTING_GROUPS);
+    WriterFactory writerFactory = new WriterFactory();
+    ReflectionTestUtils.setField(writerFactory, "writers", new Writer[] { writer });
+
+    WriterFacadeImpl writerFacade = new WriterFacadeImpl();
+    ReflectionTestUtils.setField(writerFacade, "solicitorSetup", solicitorSetup);
+    ReflectionTestUtils.setField(writerFacade, "resultDatabaseFactory", rdf);
+    ReflectionTestUtils.setField(writerFacade, "writerFactory", writerFactory);
+    ReflectionTestUtils.setField(writerFacade, "dataTableDiffer", this.dataTableDiffer);
+    ReflectionTestUtils.setField(writerFacade, "reportingGroupHandler", new ReportingGroupHandler());
+    ReflectionTestUtils.setField(writerFacade, "lifecycleListenerHolder", new LifecycleListenerHolder());
+    writerFacade.setParallelism(parallelism);
+    return writerFacade;
+  }
+
+  private List<WriterConfig> createWriterConfigs() {
+
+    Map<String, String> tables = new HashMap<>();
+    tables.put("APPLICATIONS", SQL_APPLICATIONS);
+    tables.put("COMPONENTS", SQL_COMPONENTS);
+    tables.put("MODELROOT", SQL_MODELROOT);
+    WriterConfig perGroup = new WriterConfig();
+    perGroup.setType("recording");
+    perGroup.setTarget("out${/reportingGroup}/report.txt");
+    perGroup.setEnableReportingGroups(true);
+    perGroup.setDataTables(tables);
+
+    WriterConfig single = new WriterConfig();
+    single.setType("recording");
+    single.setTarget("out/single.txt");
+    single.setEnableReportingGroups(false);
+    single.setIncludeDeletedRowsInDelta(true);
+    single.setDataTables(tables);
+    return Arrays.asList(perGroup, single);
+  }
+
+  /**
+   * Creates a model with three applications in different reporting groups.
+   *
+   * @param old if <code>true</code> a variant of the model is created which differs in some components
+   * @return the model
+   */
+  private ModelRoot createModel(boolean old) {
+
+    ModelRoot modelRoot = this.modelFactory.newModelRoot();
+    Engagement engagement = this.modelFactory.newEngagement();
+    engagement.setEngagementName("Engagement");
+    engagement.setEngagementType(EngagementType.INTERN);
+    engagement.setGoToMarketModel(GoToMarketModel.LICENSE);
+    engagement.setModelRoot(modelRoot);
+    createApplication(engagement, "app1", "#default#groupA#", old ? 3 : 4, old);
+    createApplication(engagement, "app2", "#default#groupB#", 2, old);
+    createApplication(engagement, "app3", "#default#groupA#groupB#", 5, old);
+    return modelRoot;
+  }
+
+  private void createApplication(Engagement engagement, String name, String reportingGroups, int componentCount,
+      boolean old) {
+
+    Application application = this.modelFactory.newApplication();
+    application.setName(name);
+    application.setReportingGroups(reportingGroups);
+    application.setEngagement(engagement);
+    for (int i = 0; i < componentCount; i++) {
+      ApplicationComponent ac = this.modelFactory.newApplicationComponent();
+      ac.setGroupId("org.example");
+      ac.setArtifactId(name + "-lib" + i);
+      ac.setVersion(old && i == 0 ? "0.9.0" : "1.0.0");
+      ac.setUsagePattern(UsagePattern.DYNAMIC_LINKING);
+      ac.setApplication(application);
+    }
+  }
+
+  private static void assertReportsEqual(Map<String, Map<String, DataTable>> expected,
+      Map<String, Map<String, DataTable>> actual) {
+
+    Assertions.assertEquals(expected.keySet(), actual.keySet());
+    for (Map.Entry<String, Map<String, DataTable>> report : expected.entrySet()) {
+      Map<String, DataTable> actualTables = actual.get(report.getKey());
+      Assertions.assertEquals(report.getValue().keySet(), actualTables.keySet());
+      for (Map.Entry<String, DataTable> table : report.getValue().entrySet()) {
+        assertTableEquals(report.getKey() + "/" + table.getKey(), table.getValue(), actualTables.get(table.getKey()));
+      }
+    }
+  }
+
+  private static void assertTableEquals(String name, DataTable expected, DataTable actual) {
+
+    Assertions.assertArrayEquals(expected.getHeadRow(), actual.getHeadRow(), name);
+    Assertions.assertEquals(expected.size(), actual.size(), name);
+    Iterator<DataTableRow> actualRows = actual.iterator();
+    int rowNum = 0;
+    for (DataTableRow expectedRow : expected) {
+      DataTableRow actualRow = actualRows.next();
+      String rowName = name + " row " + rowNum++;
+      Assertions.assertEquals(expectedRow.getRowDiffStatus(), actualRow.getRowDiffStatus(), rowName);
+      for (int i = 0; i < expectedRow.getSize(); i++) {
+        DataTableField expectedField = expectedRow.getValueByIndex(i);
+        DataTableField actualField = actualRow.getValueByIndex(i);
+        String fieldName = rowName + " field " + expected.getHeadRow()[i];
+        Assertions.assertTrue(Objects.equals(expectedField.getValue(), actualField.getValue()), fieldName);
+        Assertions.assertTrue(Objects.equals(expectedField.getOldValue(), actualField.getOldValue()), fieldName);
+        Assertions.assertEquals(expectedField.getDiffStatus(), actualField.getDiffStatus(), fieldName);
+      }
+    }
+  }
+
+}
@@ -1,8 +1,11 @@
 package com.devonfw.tools.solicitor.writer.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -425,4 +428,38 @@ class DataTableDifferImplTest {
     assertEquals(null, diff.getDataRow(0).get("VALUE").getOldValue());
 
   }
+
+  /**
+   * Test method {@link DataTableDifferImpl#diff(DataTable, DataTable, boolean)} with large tables. Correlation must not
+   * degrade to quadratic runtime and must keep the first-match semantics for duplicate correlation keys.
+   */
+  @Test
+  void testDiffLargeTables() {
+
+    int size = 30000;
+    DataTableImpl oldTable = new DataTableImpl(new String[] { "CORR_KEY_0", "CORR_KEY_1", "VALUE" });
+    DataTableImpl newTable = new DataTableImpl(new String[] { "CORR_KEY_0", "CORR_KEY_1", "VALUE" });
+    for (int i = 0; i < size; i++) {
+      // pairs of rows share the same secondary correlation key
+      oldTable.addRow(new DataTableField[] { //
+      new DataTableFieldImpl("old_" + i), //
+      new DataTableFieldImpl("key_" + (i / 2)), //
+      new DataTableFieldImpl("value_" + i) });
+      // every third row of the new table correlates via the primary key, all others only via the secondary key
+      newTable.addRow(new DataTableField[] { //
+      new DataTableFieldImpl(i % 3 == 0 ? "old_" + i : "new_" + i), //
+      new DataTableFieldImpl("key_" + (i / 2)), //
+      new DataTableFieldImpl(i % 5 == 0 ? "changed_" + i : "value_" + i) });
+    }
+
+    DataTable diff = assertTimeout(Duration.ofSeconds(10), () -> this.differ.diff(newTable, oldTable, true));
+
+    assertEquals(size, diff.size());
+    for (int i = 0; i < size; i++) {
+      DataTableRow row = diff.getDataRow(i);
+      assertEquals(i % 5 == 0 ? RowDiffStatus.CHANGED : RowDiffStatus.UNCHANGED, row.getRowDiffStatus());
+      assertEquals("value_" + i, row.get("VALUE").getOldValue());
+    }
+  }
+
 }
@@ -0,0 +1,191 @@
+package com.devonfw.tools.solicitor.writer.xls;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.ComparisonOperator;
+import org.apache.poi.ss.usermodel.ConditionalFormattingRule;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DataValidationConstraint;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.PatternFormatting;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.SheetConditionalFormatting;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFDataValidation;
+import org.apache.poi.xssf.usermodel.XSSFDataValidationHelper;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.common.FileInputStreamFactory;
+import com.devonfw.tools.solicitor.config.WriterConfig;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+import com.devonfw.tools.solicitor.writer.data.DataTableField;
+import com.devonfw.tools.solicitor.writer.data.DataTableFieldImpl;
+import com.devonfw.tools.solicitor.writer.data.DataTableImpl;
+
+/**
+ * This class contains JUnit test methods for the {@link ExcelWriter} class.
+ */
+class ExcelWriterTest {
+
+  private static final String MARKER = "_row_to_be_deleted_";
+
+  @TempDir
+  Path tempDir;
+
+  private ExcelWriter excelWriter;
+
+  private Path template;
+
+  /**
+   * Creates the {@link ExcelWriter} and a template with two tables on the same sheet. Each table consists of a template
+   * row which is followed by a marker row which is to be deleted. Both template rows are covered by conditional
+   * formatting, the first template row additionally by a data validation.
+   *
+   * <pre>
+   * 0: Name        | License
+   * 1: #A#$NAME$   | $LICENSE$      (conditional formatting, data validation)
+   * 2: _row_to_be_deleted_
+   * 3: Between
+   * 4: #B#$NAME$   | $LICENSE$      (conditional formatting)
+   * 5: _row_to_be_deleted_
+   * 6: Footer
+   * </pre>
+   *
+   * @throws IOException if the template could not be written
+   */
+  @BeforeEach
+  public void setUp() throws IOException {
+
+    this.excelWriter = new ExcelWriter();
+    ReflectionTestUtils.setField(this.excelWriter, "inputStreamFactory", new FileInputStreamFactory());
+
+    this.template = this.tempDir.resolve("template.xlsx");
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      XSSFSheet sheet = wb.createSheet("Report");
+      createRow(sheet, 0, "Name", "License");
+      createRow(sheet, 1, "#A#$NAME$", "$LICENSE$");
+      createRow(sheet, 2, MARKER);
+      createRow(sheet, 3, "Between");
+      createRow(sheet, 4, "#B#$NAME$", "$LICENSE$");
+      createRow(sheet, 5, MARKER);
+      createRow(sheet, 6, "Footer");
+
+      SheetConditionalFormatting scf = sheet.getSheetConditionalFormatting();
+      ConditionalFormattingRule rule = scf.createConditionalFormattingRule(ComparisonOperator.EQUAL, "\"MIT\"");
+      PatternFormatting fill = rule.createPatternFormatting();
+      fill.setFillBackgroundColor(IndexedColors.LIGHT_GREEN.index);
+      fill.setFillPattern(PatternFormatting.SOLID_FOREGROUND);
+      scf.addConditionalFormatting(new CellRangeAddress[] { CellRangeAddress.valueOf("B2:B2") }, rule);
+      scf.addConditionalFormatting(new CellRangeAddress[] { CellRangeAddress.valueOf("B5:B5") }, rule);
+
+      XSSFDataValidationHelper helper = new XSSFDataValidationHelper(sheet);
+      DataValidationConstraint constraint = helper
+          .createExplicitListConstraint(new String[] { "MIT", "Apache-2.0", "EPL-2.0" });
+      sheet.addValidationData(helper.createValidation(constraint, new CellRangeAddressList(1, 1, 1, 1)));
+
+      try (OutputStream os = new FileOutputStream(this.template.toFile())) {
+        wb.write(os);
+      }
+    }
+  }
+
+  /**
+   * Tests that all tables of a multi table template are expanded, that conditional formatting and data validation
+   * regions cover all expanded rows and that the marker rows are removed.
+   *
+   * @throws IOException if the report could not be read
+   */
+  @Test
+  public void testWriteReportMultipleTables() throws IOException {
+
+    Map<String, DataTable> dataTables = new HashMap<>();
+    dataTables.put("A", createTable(new String[][] { { "a1", "MIT" }, { "a2", "Apache-2.0" }, { "a3", "EPL-2.0" } }));
+    dataTables.put("B", createTable(new String[][] { { "b1", "MIT" }, { "b2", "BSD-3-Clause" } }));
+
+    WriterConfig config = new WriterConfig();
+    config.setType("xls");
+    config.setTemplateSource(this.template.toString());
+    String target = this.tempDir.resolve("out/report.xlsx").toString();
+
+    this.excelWriter.writeReport(config, target, dataTables);
+
+    try (InputStream is = new FileInputStream(target); XSSFWorkbook wb = new XSSFWorkbook(is)) {
+      XSSFSheet sheet = wb.getSheet("Report");
+
+      List<List<String>> expectedRows = List.of( //
+          List.of("Name", "License"), //
+          List.of("a1", "MIT"), //
+          List.of("a2", "Apache-2.0"), //
+          List.of("a3", "EPL-2.0"), //
+          List.of("Between"), //
+          List.of("b1", "MIT"), //
+          List.of("b2", "BSD-3-Clause"), //
+          List.of("Footer"));
+      Assertions.assertEquals(expectedRows.size() - 1, sheet.getLastRowNum());
+      for (int i = 0; i < expectedRows.size(); i++) {
+        Assertions.assertEquals(expectedRows.get(i), cellTexts(sheet.getRow(i)), "row " + i);
+      }
+
+      List<String> formattingRanges = new ArrayList<>();
+      SheetConditionalFormatting scf = sheet.getSheetConditionalFormatting();
+      for (int i = 0; i < scf.getNumConditionalFormattings(); i++) {
+        for (CellRangeAddress cra : scf.getConditionalFormattingAt(i).getFormattingRanges()) {
+          formattingRanges.add(cra.formatAsString());
+        }
+      }
+      formattingRanges.sort(null);
+      Assertions.assertEquals(List.of("B2:B4", "B6:B7"), formattingRanges);
+
+      List<XSSFDataValidation> validations = sheet.getDataValidations();
+      Assertions.assertEquals(1, validations.size());
+      CellRangeAddress[] validationRanges = validations.get(0).getRegions().getCellRangeAddresses();
+      Assertions.assertEquals(1, validationRanges.length);
+      Assertions.assertEquals("B2:B4", validationRanges[0].formatAsString());
+    }
+  }
+
+  private static void createRow(XSSFSheet sheet, int rowNum, String... values) {
+
+    XSSFRow row = sheet.createRow(rowNum);
+    for (int i = 0; i < values.length; i++) {
+      row.createCell(i).setCellValue(values[i]);
+    }
+  }
+
+  private static DataTable createTable(String[][] rows) {
+
+    DataTableImpl table = new DataTableImpl(new String[] { "NAME", "LICENSE" });
+    for (String[] row : rows) {
+      table.addRow(new DataTableField[] { new DataTableFieldImpl(row[0]), new DataTableFieldImpl(row[1]) });
+    }
+    return table;
+  }
+
+  private static List<String> cellTexts(Row row) {
+
+    DataFormatter formatter = new DataFormatter();
+    List<String> texts = new ArrayList<>();
+    for (int i = 0; i < row.getLastCellNum(); i++) {
+      texts.add(formatter.formatCellValue(row.getCell(i)));
+    }
+    return texts;
+  }
+
+}